@@ -19,9 +19,11 @@ import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.stream.XMLInputFactory;
@@ -110,6 +112,13 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    // A compiled schema is immutable and thread-safe: it's compiled once per classloader the XSD is loaded from
+    protected static final Map<ClassLoader, Schema> schemaCache = Collections.synchronizedMap(new WeakHashMap<ClassLoader, Schema>());
+
+    // Configured StAX factories are thread-safe for creating readers and writers, so one instance is shared
+    protected static volatile XMLInputFactory xmlInputFactory;
+    protected static volatile XMLOutputFactory xmlOutputFactory;
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
@@ -222,14 +231,27 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
+    /**
+     * Returns the compiled BPMN 2.0 schema, which is only compiled the first time it's needed for a classloader.
+     */
     protected Schema createSchema() throws SAXException {
+        ClassLoader schemaClassloader = classloader != null ? classloader : BpmnXMLConverter.class.getClassLoader();
+        Schema schema = schemaCache.get(schemaClassloader);
+        if (schema == null) {
+            schema = compileSchema(schemaClassloader);
+            schemaCache.put(schemaClassloader, schema);
+        }
+        return schema;
+    }
+
+    protected Schema compileSchema(ClassLoader schemaClassloader) throws SAXException {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = null;
-        if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+        if (schemaClassloader.getResource(BPMN_XSD) != null) {
+            schema = factory.newSchema(schemaClassloader.getResource(BPMN_XSD));
         }
 
-        if (schema == null) {
+        if (schema == null && BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD) != null) {
             schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
         }
 
@@ -239,11 +261,18 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         return schema;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
-        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    protected XMLInputFactory getXmlInputFactory() {
+        if (xmlInputFactory == null) {
+            synchronized (BpmnXMLConverter.class) {
+                if (xmlInputFactory == null) {
+                    xmlInputFactory = createXmlInputFactory();
+                }
+            }
+        }
+        return xmlInputFactory;
     }
 
-    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+    protected XMLInputFactory createXmlInputFactory() {
         XMLInputFactory xif = XMLInputFactory.newInstance();
 
         if (xif.isPropertySupported(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES)) {
@@ -257,6 +286,26 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         if (xif.isPropertySupported(XMLInputFactory.SUPPORT_DTD)) {
             xif.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         }
+        return xif;
+    }
+
+    protected XMLOutputFactory getXmlOutputFactory() {
+        if (xmlOutputFactory == null) {
+            synchronized (BpmnXMLConverter.class) {
+                if (xmlOutputFactory == null) {
+                    xmlOutputFactory = XMLOutputFactory.newInstance();
+                }
+            }
+        }
+        return xmlOutputFactory;
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml) {
+        return convertToBpmnModel(inputStreamProvider, validateSchema, enableSafeBpmnXml, DEFAULT_ENCODING);
+    }
+
+    public BpmnModel convertToBpmnModel(InputStreamProvider inputStreamProvider, boolean validateSchema, boolean enableSafeBpmnXml, String encoding) {
+        XMLInputFactory xif = getXmlInputFactory();
 
         if (validateSchema) {
             try (InputStreamReader in = new InputStreamReader(inputStreamProvider.getInputStream(), encoding)) {
@@ -494,7 +543,7 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
 
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            XMLOutputFactory xof = XMLOutputFactory.newInstance();
+            XMLOutputFactory xof = getXmlOutputFactory();
             OutputStreamWriter out = new OutputStreamWriter(outputStream, encoding);
 
             XMLStreamWriter writer = xof.createXMLStreamWriter(out);
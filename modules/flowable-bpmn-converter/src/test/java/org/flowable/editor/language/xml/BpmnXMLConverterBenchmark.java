@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import java.io.InputStream;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+
+/**
+ * Measures BPMN xml parse throughput with schema validation enabled, as done for every deployment.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of iterations and
+ * the classpath resource to parse.
+ */
+public class BpmnXMLConverterBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        final String resource = args.length > 1 ? args[1] : "ProcessWithCompensationAssociation.bpmn20.xml";
+
+        InputStreamProvider inputStreamProvider = new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return BpmnXMLConverterBenchmark.class.getClassLoader().getResourceAsStream(resource);
+            }
+        };
+
+        // Warm up
+        run(inputStreamProvider, iterations / 10);
+
+        long start = System.nanoTime();
+        run(inputStreamProvider, iterations);
+        long nanos = System.nanoTime() - start;
+
+        System.out.println(String.format("%d models: %.0f models/s", iterations, iterations / (nanos / 1e9)));
+    }
+
+    protected static void run(InputStreamProvider inputStreamProvider, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            new BpmnXMLConverter().convertToBpmnModel(inputStreamProvider, true, true);
+        }
+    }
+
+}
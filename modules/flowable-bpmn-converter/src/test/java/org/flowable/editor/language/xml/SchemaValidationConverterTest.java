@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+public class SchemaValidationConverterTest {
+
+    protected static final String VALID_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"Examples\">"
+            + "<process id=\"simpleProcess\" isExecutable=\"true\">"
+            + "<startEvent id=\"start\"/><sequenceFlow id=\"flow1\" sourceRef=\"start\" targetRef=\"end\"/><endEvent id=\"end\"/>"
+            + "</process>"
+            + "</definitions>";
+
+    protected static final String INVALID_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"Examples\">"
+            + "<process id=\"simpleProcess\" isExecutable=\"true\"><unknownElement/></process>"
+            + "</definitions>";
+
+    @Test
+    public void testSchemaIsCompiledOnce() throws Exception {
+        TestBpmnXMLConverter converter = new TestBpmnXMLConverter();
+        Schema schema = converter.getSchema();
+        assertNotNull(schema);
+        assertSame(schema, converter.getSchema());
+        assertSame(schema, new TestBpmnXMLConverter().getSchema());
+    }
+
+    @Test
+    public void testValidateSchema() {
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+        for (boolean enableSafeBpmnXml : new boolean[] { false, true }) {
+            BpmnModel bpmnModel = converter.convertToBpmnModel(createInputStreamProvider(VALID_XML), true, enableSafeBpmnXml);
+            assertEquals("simpleProcess", bpmnModel.getMainProcess().getId());
+            assertEquals(3, bpmnModel.getMainProcess().getFlowElements().size());
+
+            try {
+                converter.convertToBpmnModel(createInputStreamProvider(INVALID_XML), true, enableSafeBpmnXml);
+                fail("Schema validation error expected");
+            } catch (XMLException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentConversion() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<BpmnModel>> conversions = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                conversions.add(new Callable<BpmnModel>() {
+
+                    @Override
+                    public BpmnModel call() throws Exception {
+                        BpmnXMLConverter converter = new BpmnXMLConverter();
+                        BpmnModel bpmnModel = converter.convertToBpmnModel(createInputStreamProvider(VALID_XML), true, true);
+                        byte[] xml = converter.convertToXML(bpmnModel);
+                        return converter.convertToBpmnModel(createInputStreamProvider(new String(xml, StandardCharsets.UTF_8)), true, true);
+                    }
+
+                });
+            }
+
+            for (Future<BpmnModel> result : executorService.invokeAll(conversions)) {
+                assertEquals("simpleProcess", result.get().getMainProcess().getId());
+            }
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    protected static InputStreamProvider createInputStreamProvider(final String xml) {
+        return new InputStreamProvider() {
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    protected static class TestBpmnXMLConverter extends BpmnXMLConverter {
+
+        public Schema getSchema() throws SAXException {
+            return createSchema();
+        }
+    }
+
+}
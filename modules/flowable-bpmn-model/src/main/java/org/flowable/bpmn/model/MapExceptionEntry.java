@@ -22,6 +22,9 @@ public class MapExceptionEntry {
     protected String className;
     protected boolean andChildren;
 
+    public MapExceptionEntry() {
+    }
+
     public MapExceptionEntry(String errorCode, String className, boolean andChildren) {
         this.errorCode = errorCode;
         this.className = className;
@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetPage;
+import org.flowable.engine.common.api.query.KeysetPageableQuery;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.common.api.query.QueryProperty;
 
@@ -27,6 +29,7 @@ public abstract class AbstractPaginateList {
 
     /**
      * Uses the pagination parameters form the request and makes sure to order the result and set all pagination attributes for the response to render.
+     * When a continuationToken is passed, keyset paging is used instead of the start parameter.
      *
      * @param requestParams
      *            The request containing the pagination parameters
@@ -61,6 +64,14 @@ public abstract class AbstractPaginateList {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getContinuationToken() == null) {
+            paginateRequest.setContinuationToken(requestParams.get("continuationToken"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", false));
+        }
+
         // Use defaults for paging, if not set in the PaginationRequest, nor in the URL
         Integer start = paginateRequest.getStart();
         if (start == null || start < 0) {
@@ -109,6 +120,23 @@ public abstract class AbstractPaginateList {
 
         Query queryObject = (Query) query;
 
+        // Keyset paging: the total is only counted when asked for
+        if (paginateRequest.getContinuationToken() != null) {
+            if (!(query instanceof KeysetPageableQuery)) {
+                throw new FlowableIllegalArgumentException("Param 'continuationToken' is not supported by this resource");
+            }
+
+            response.setStart(0);
+            response.setTotal(Boolean.TRUE.equals(paginateRequest.getIncludeTotal()) ? queryObject.count() : -1);
+
+            KeysetPage page = ((KeysetPageableQuery) query).listKeysetPage(paginateRequest.getContinuationToken(), size > 0 ? size : 10);
+            List list = processList(page.getResults());
+            response.setContinuationToken(page.getContinuationToken());
+            response.setSize(list.size());
+            response.setData(list);
+            return response;
+        }
+
         // Get result and set pagination parameters
         List list = processList(queryObject.listPage(start, size));
         if (start == 0 && list.size() < size) {
@@ -13,6 +13,8 @@
 
 package org.flowable.rest.api;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -24,6 +26,7 @@ public class DataResponse {
     String sort;
     String order;
     int size;
+    String continuationToken;
 
     public Object getData() {
         return data;
@@ -34,6 +37,9 @@ public class DataResponse {
         return this;
     }
 
+    /**
+     * Total number of results, -1 with keyset paging unless the total was requested.
+     */
     public long getTotal() {
         return total;
     }
@@ -73,4 +79,16 @@ public class DataResponse {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * Token to fetch the next page with keyset paging, null when there is no next page or offset paging is used.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
 }
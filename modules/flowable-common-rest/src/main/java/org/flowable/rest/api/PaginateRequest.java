@@ -29,6 +29,10 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String continuationToken;
+
+    protected Boolean includeTotal;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +64,27 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Switches to keyset paging: pass an empty token for the first page, then the token returned with the previous page. The start is
+     * ignored in that case.
+     */
+    public void setContinuationToken(String continuationToken) {
+        this.continuationToken = continuationToken;
+    }
+
+    public Boolean getIncludeTotal() {
+        return includeTotal;
+    }
+
+    /**
+     * With keyset paging, the total is only counted when requested.
+     */
+    public void setIncludeTotal(Boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
 }
@@ -0,0 +1,204 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.crystalball.simulator.impl.clock.IndependentClock;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.variable.service.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays recorded simulation events on several threads at once. Events are split into shards by the process instance
+ * they belong to, and every shard is replayed by its own {@link ReplaySimulationRun} on its own process engine, so
+ * shards never share state. Every shard engine gets its own {@link IndependentClock}, which starts at the time of the
+ * first timed event of the shard. Events which do not belong to a process instance (e.g. deployments) are replayed in every
+ * shard. Within a shard, events keep the order given by the event comparator.
+ *
+ * The process engines are created by the {@link ShardFactory} and are not closed by this run, so that the replayed
+ * history can be inspected afterwards.
+ */
+public class ParallelReplaySimulationRun implements SimulationRun {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelReplaySimulationRun.class);
+
+    /**
+     * default event property holding the id of the recorded process instance
+     */
+    public static final String PROCESS_INSTANCE_ID = "processInstanceId";
+
+    protected final ShardFactory shardFactory;
+    protected final Collection<SimulationEvent> simulationEvents;
+    protected final int shards;
+    protected Comparator<SimulationEvent> eventComparator = new SimulationEventComparator();
+    protected String processInstanceIdProperty = PROCESS_INSTANCE_ID;
+
+    public ParallelReplaySimulationRun(ShardFactory shardFactory, Collection<SimulationEvent> simulationEvents, int shards) {
+        if (shards < 1) {
+            throw new FlowableIllegalArgumentException("At least one shard is required");
+        }
+        this.shardFactory = shardFactory;
+        this.simulationEvents = simulationEvents;
+        this.shards = shards;
+    }
+
+    @Override
+    public void execute(final VariableScope execution) {
+        List<List<SimulationEvent>> shardEvents = splitEvents();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(shards);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(shards);
+            for (int i = 0; i < shards; i++) {
+                final int shard = i;
+                final List<SimulationEvent> events = shardEvents.get(i);
+                futures.add(executorService.submit(new Callable<Void>() {
+
+                    @Override
+                    public Void call() {
+                        replayShard(shard, events, execution);
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FlowableException) {
+                throw (FlowableException) e.getCause();
+            }
+            throw new FlowableException("Replay of simulation shard failed", e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for simulation shards", e);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected List<List<SimulationEvent>> splitEvents() {
+        List<List<SimulationEvent>> shardEvents = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            shardEvents.add(new ArrayList<SimulationEvent>());
+        }
+
+        for (SimulationEvent event : simulationEvents) {
+            Object processInstanceId = event.getProperties() != null ? event.getProperty(processInstanceIdProperty) : null;
+            if (processInstanceId != null) {
+                shardEvents.get((processInstanceId.hashCode() & Integer.MAX_VALUE) % shards).add(event);
+            } else {
+                for (List<SimulationEvent> events : shardEvents) {
+                    events.add(event);
+                }
+            }
+        }
+        return shardEvents;
+    }
+
+    protected void replayShard(int shard, List<SimulationEvent> events, VariableScope execution) {
+        LOGGER.debug("Replaying {} events in shard {}", events.size(), shard);
+
+        Clock clock = createShardClock(events);
+        ProcessEngine processEngine = shardFactory.createProcessEngine(shard, clock);
+        if (processEngine.getProcessEngineConfiguration().getClock() != clock) {
+            throw new FlowableException("Process engine of shard " + shard + " does not use the clock of the shard");
+        }
+        PriorityEventCalendar eventCalendar = new PriorityEventCalendar(clock, eventComparator);
+        eventCalendar.addEvents(events);
+
+        new ShardReplaySimulationRun(processEngine, eventCalendar, shardFactory.createEventHandlers(shard)).execute(execution);
+    }
+
+    protected Clock createShardClock(List<SimulationEvent> events) {
+        Clock clock = new IndependentClock();
+        Long startTime = null;
+        for (SimulationEvent event : events) {
+            if (event.hasSimulationTime() && (startTime == null || event.getSimulationTime() < startTime)) {
+                startTime = event.getSimulationTime();
+            }
+        }
+        if (startTime != null) {
+            clock.setCurrentTime(new Date(startTime));
+        }
+        return clock;
+    }
+
+    public Comparator<SimulationEvent> getEventComparator() {
+        return eventComparator;
+    }
+
+    public void setEventComparator(Comparator<SimulationEvent> eventComparator) {
+        this.eventComparator = eventComparator;
+    }
+
+    public String getProcessInstanceIdProperty() {
+        return processInstanceIdProperty;
+    }
+
+    public void setProcessInstanceIdProperty(String processInstanceIdProperty) {
+        this.processInstanceIdProperty = processInstanceIdProperty;
+    }
+
+    /**
+     * Creates the independent process engine and event handlers used to replay one shard. Called from the thread
+     * replaying that shard.
+     */
+    public interface ShardFactory {
+
+        /**
+         * @param clock
+         *            clock of the shard, must be set on the process engine configuration before the engine is built:
+         *            shards simulate different times concurrently, so they can't share the default clock
+         * @return process engine for the given shard, must not share its database with the other shards
+         */
+        ProcessEngine createProcessEngine(int shard, Clock clock);
+
+        Map<String, SimulationEventHandler> createEventHandlers(int shard);
+
+    }
+
+    /**
+     * replay run which ends as soon as all events of the shard are executed
+     */
+    protected static class ShardReplaySimulationRun extends ReplaySimulationRun {
+
+        public ShardReplaySimulationRun(ProcessEngine processEngine, EventCalendar eventCalendar, Map<String, SimulationEventHandler> customEventHandlerMap) {
+            super(processEngine, eventCalendar, customEventHandlerMap);
+        }
+
+        @Override
+        protected boolean simulationEnd(SimulationEvent event) {
+            return event == null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.runtime.ClockReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event calendar backed by a binary heap: adding and removing events is O(log n) instead of the linear rescan done by
+ * {@link SimpleEventCalendar}. Events which are equal according to the event comparator are returned in the order in
+ * which they were added, the same way {@link SimpleEventCalendar} does.
+ */
+public class PriorityEventCalendar implements EventCalendar {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PriorityEventCalendar.class.getName());
+
+    protected final PriorityQueue<Entry> eventQueue;
+    protected Comparator<SimulationEvent> eventComparator;
+    protected final ClockReader clockReader;
+
+    /**
+     * insertion counter, used to keep the order of events the comparator considers equal
+     */
+    protected long sequence;
+
+    public PriorityEventCalendar(ClockReader clockReader, Comparator<SimulationEvent> eventComparator) {
+        this.clockReader = clockReader;
+        this.eventComparator = eventComparator;
+        this.eventQueue = new PriorityQueue<>(11, new EntryComparator(eventComparator));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return eventQueue.isEmpty();
+    }
+
+    @Override
+    public SimulationEvent peekFirstEvent() {
+        Entry entry = eventQueue.peek();
+        return entry != null ? entry.event : null;
+    }
+
+    @Override
+    public SimulationEvent removeFirstEvent() {
+        Entry entry = eventQueue.poll();
+        if (entry == null)
+            return null;
+
+        SimulationEvent minEvent = entry.event;
+        if (minEvent.hasSimulationTime() && minEvent.getSimulationTime() < this.clockReader.getCurrentTime().getTime()) {
+            throw new FlowableException("Unable to execute event from the past");
+        }
+        return minEvent;
+    }
+
+    /**
+     * @return snapshot of the scheduled events in the order in which they will be removed from the calendar
+     */
+    @Override
+    public List<SimulationEvent> getEvents() {
+        List<Entry> entries = new ArrayList<>(eventQueue);
+        Collections.sort(entries, eventQueue.comparator());
+
+        List<SimulationEvent> events = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            events.add(entry.event);
+        }
+        return events;
+    }
+
+    @Override
+    public void addEvent(SimulationEvent event) {
+        LOGGER.debug("Scheduling new event [{}]", event);
+        if (event != null)
+            eventQueue.add(new Entry(event, sequence++));
+    }
+
+    @Override
+    public void clear() {
+        eventQueue.clear();
+        sequence = 0;
+    }
+
+    public void addEvents(Collection<SimulationEvent> simulationEvents) {
+        for (SimulationEvent event : simulationEvents) {
+            addEvent(event);
+        }
+    }
+
+    protected static class Entry {
+
+        protected final SimulationEvent event;
+        protected final long sequence;
+
+        public Entry(SimulationEvent event, long sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+    }
+
+    protected static class EntryComparator implements Comparator<Entry> {
+
+        protected final Comparator<SimulationEvent> eventComparator;
+
+        public EntryComparator(Comparator<SimulationEvent> eventComparator) {
+            this.eventComparator = eventComparator;
+        }
+
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            int result = eventComparator.compare(o1.event, o2.event);
+            if (result != 0) {
+                return result;
+            }
+            return o1.sequence < o2.sequence ? -1 : (o1.sequence == o2.sequence ? 0 : 1);
+        }
+    }
+}
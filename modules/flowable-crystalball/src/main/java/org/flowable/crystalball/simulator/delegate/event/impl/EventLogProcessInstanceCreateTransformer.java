@@ -57,7 +57,7 @@ public class EventLogProcessInstanceCreateTransformer extends EventLog2Simulatio
             String processDefinitionId = (String) data.get(Fields.PROCESS_DEFINITION_ID);
             Map<String, Object> variableMap = (Map<String, Object>) data.get(Fields.VARIABLES);
             String businessKeyValue = (String) data.get(Fields.BUSINESS_KEY);
-            String processInstanceId = (String) data.get(Fields.PROCESS_INSTANCE_ID);
+            String processInstanceId = event.getProcessInstanceId();
 
             Map<String, Object> simEventProperties = new HashMap<>();
             simEventProperties.put(processDefinitionIdKey, processDefinitionId);
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.crystalball.simulator.SimulationEvent;
 import org.flowable.crystalball.simulator.SimulationEventHandler;
 import org.flowable.crystalball.simulator.SimulationRunContext;
+import org.flowable.crystalball.simulator.delegate.event.impl.EventLogProcessInstanceCreateTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,7 +65,9 @@ public class StartReplayLogEventHandler implements SimulationEventHandler {
         if (processVariables != null) {
             variables.putAll(processVariables);
         }
-        variables.put(PROCESS_INSTANCE_ID, processInstanceId);
+        // when the start event was recorded from the event log it knows which process instance it replays
+        String eventProcessInstanceId = (String) event.getProperty(EventLogProcessInstanceCreateTransformer.PROCESS_INSTANCE_ID);
+        variables.put(PROCESS_INSTANCE_ID, eventProcessInstanceId != null ? eventProcessInstanceId : processInstanceId);
         variables.put(SIMULATION_RUN_ID, SimulationRunContext.getSimulationRunId());
 
         String startBusinessKey = null;
@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Random;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
+import org.flowable.engine.common.runtime.Clock;
+
+/**
+ * Measures event calendar throughput with a constant number of pending events: every removed event schedules a new
+ * one, as happens during a simulation run.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of pending events and the number of
+ * events to execute.
+ */
+public class EventCalendarBenchmark {
+
+    public static void main(String[] args) {
+        int pendingEvents = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+
+        Clock clock = new DefaultClockImpl();
+        clock.setCurrentTime(new Date(0));
+        Comparator<SimulationEvent> comparator = new SimulationEventComparator();
+
+        run("SimpleEventCalendar", new SimpleEventCalendar(clock, comparator), pendingEvents, iterations);
+        run("PriorityEventCalendar", new PriorityEventCalendar(clock, comparator), pendingEvents, iterations);
+    }
+
+    protected static void run(String name, EventCalendar calendar, int pendingEvents, int iterations) {
+        // Warm up
+        execute(calendar, pendingEvents, iterations / 10);
+
+        long start = System.nanoTime();
+        execute(calendar, pendingEvents, iterations);
+        long nanos = System.nanoTime() - start;
+
+        System.out.println(String.format("%s, %d pending events: %.0f events/s", name, pendingEvents, iterations / (nanos / 1e9)));
+    }
+
+    protected static void execute(EventCalendar calendar, int pendingEvents, int iterations) {
+        Random random = new Random(42);
+        calendar.clear();
+        for (int i = 0; i < pendingEvents; i++) {
+            calendar.addEvent(new SimulationEvent.Builder("event").simulationTime(random.nextInt(1000)).priority(random.nextInt(10)).build());
+        }
+        for (int i = 0; i < iterations; i++) {
+            SimulationEvent event = calendar.removeFirstEvent();
+            calendar.addEvent(new SimulationEvent.Builder("event").simulationTime(event.getSimulationTime() + random.nextInt(1000)).priority(random.nextInt(10)).build());
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.flowable.engine.common.impl.util.DefaultClockImpl;
+import org.flowable.engine.common.runtime.Clock;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PriorityEventCalendarTest {
+    protected Comparator<SimulationEvent> comparator = new SimulationEventComparator();
+    protected Clock clock = new DefaultClockImpl();
+
+    @Before
+    public void setUp() {
+        this.clock.setCurrentTime(new Date(0));
+    }
+
+    @Test
+    public void testIsEmpty() throws Exception {
+        EventCalendar calendar = new PriorityEventCalendar(clock, comparator);
+        assertTrue(calendar.isEmpty());
+        assertNull(calendar.peekFirstEvent());
+        SimulationEvent event = calendar.removeFirstEvent();
+        assertNull(event);
+    }
+
+    @Test
+    public void testAddEventsAndRemoveFirst() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        SimulationEvent event2 = new SimulationEvent.Builder("any type").simulationTime(2).build();
+        EventCalendar calendar = new PriorityEventCalendar(clock, comparator);
+
+        calendar.addEvent(event2);
+        calendar.addEvent(event1);
+        calendar.addEvent(event1);
+
+        assertEquals(event1, calendar.peekFirstEvent());
+        SimulationEvent event = calendar.removeFirstEvent();
+        assertEquals(event1, event);
+        event = calendar.removeFirstEvent();
+        assertEquals(event1, event);
+        event = calendar.removeFirstEvent();
+        assertEquals(event2, event);
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void testEqualEventsKeepInsertionOrder() throws Exception {
+        SimulationEvent first = new SimulationEvent.Builder("first").simulationTime(1).priority(1).build();
+        SimulationEvent second = new SimulationEvent.Builder("second").simulationTime(1).priority(1).build();
+        SimulationEvent third = new SimulationEvent.Builder("third").simulationTime(1).priority(1).build();
+        SimulationEvent earlier = new SimulationEvent.Builder("earlier").simulationTime(1).priority(0).build();
+        EventCalendar calendar = new PriorityEventCalendar(clock, comparator);
+
+        calendar.addEvent(first);
+        calendar.addEvent(second);
+        calendar.addEvent(earlier);
+        calendar.addEvent(third);
+
+        List<SimulationEvent> events = calendar.getEvents();
+        assertEquals(4, events.size());
+        assertSame(earlier, events.get(0));
+        assertSame(first, events.get(1));
+        assertSame(second, events.get(2));
+        assertSame(third, events.get(3));
+
+        assertSame(earlier, calendar.removeFirstEvent());
+        assertSame(first, calendar.removeFirstEvent());
+        assertSame(second, calendar.removeFirstEvent());
+        assertSame(third, calendar.removeFirstEvent());
+    }
+
+    @Test
+    public void testSameOrderAsSimpleEventCalendar() throws Exception {
+        Random random = new Random(42);
+        EventCalendar simpleCalendar = new SimpleEventCalendar(clock, comparator);
+        EventCalendar priorityCalendar = new PriorityEventCalendar(clock, comparator);
+
+        for (int i = 0; i < 1000; i++) {
+            // interleave additions and removals, with a lot of events comparing equal
+            if (random.nextInt(3) > 0 || simpleCalendar.isEmpty()) {
+                SimulationEvent event = new SimulationEvent.Builder("event " + i).simulationTime(random.nextInt(20)).priority(random.nextInt(3)).build();
+                simpleCalendar.addEvent(event);
+                priorityCalendar.addEvent(event);
+            } else {
+                assertSame(simpleCalendar.removeFirstEvent(), priorityCalendar.removeFirstEvent());
+            }
+        }
+        while (!simpleCalendar.isEmpty()) {
+            assertSame(simpleCalendar.removeFirstEvent(), priorityCalendar.removeFirstEvent());
+        }
+        assertTrue(priorityCalendar.isEmpty());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        EventCalendar calendar = new PriorityEventCalendar(clock, comparator);
+
+        calendar.addEvent(event1);
+
+        calendar.clear();
+        assertTrue(calendar.isEmpty());
+        assertNull(calendar.removeFirstEvent());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testRunEventFromPast() throws Exception {
+        SimulationEvent event1 = new SimulationEvent.Builder("any type").simulationTime(1).build();
+        EventCalendar calendar = new PriorityEventCalendar(clock, comparator);
+
+        calendar.addEvent(event1);
+        this.clock.setCurrentTime(new Date(2));
+        calendar.removeFirstEvent();
+        fail("RuntimeException expected");
+    }
+}
@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.crystalball.simulator.impl.replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.crystalball.simulator.ParallelReplaySimulationRun;
+import org.flowable.crystalball.simulator.SimulationEvent;
+import org.flowable.crystalball.simulator.SimulationEventHandler;
+import org.flowable.crystalball.simulator.delegate.event.Function;
+import org.flowable.crystalball.simulator.delegate.event.impl.EventLogProcessInstanceCreateTransformer;
+import org.flowable.crystalball.simulator.delegate.event.impl.EventLogTransformer;
+import org.flowable.crystalball.simulator.delegate.event.impl.EventLogUserTaskCompleteTransformer;
+import org.flowable.crystalball.simulator.impl.StartReplayLogEventHandler;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngines;
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.task.service.Task;
+import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
+
+/**
+ * Measures replay throughput of recorded process instances with one shard and with several shards replaying in
+ * parallel.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of recorded process instances and
+ * the number of shards.
+ */
+public class ParallelReplayBenchmark {
+
+    private static final String PROCESS_INSTANCE_START_EVENT_TYPE = "PROCESS_INSTANCE_START";
+    private static final String PROCESS_DEFINITION_ID_KEY = "processDefinitionId";
+    private static final String VARIABLES_KEY = "variables";
+    private static final String USER_TASK_COMPLETED_EVENT_TYPE = "USER_TASK_COMPLETED";
+    private static final String BUSINESS_KEY = "testBusinessKey";
+
+    private static final String THE_USERTASK_PROCESS = "org/flowable/crystalball/simulator/impl/playback/PlaybackProcessStartTest.testUserTask.bpmn20.xml";
+
+    public static void main(String[] args) {
+        int processInstances = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int shards = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        List<SimulationEvent> simulationEvents = record(processInstances);
+
+        // Warm up
+        replay(simulationEvents, shards);
+
+        run(simulationEvents, processInstances, 1);
+        run(simulationEvents, processInstances, shards);
+
+        ProcessEngines.destroy();
+    }
+
+    protected static void run(List<SimulationEvent> simulationEvents, int processInstances, int shards) {
+        long start = System.nanoTime();
+        replay(simulationEvents, shards);
+        long nanos = System.nanoTime() - start;
+
+        System.out.println(String.format("%d process instances, %d shards: %.0f process instances/s", processInstances, shards, processInstances / (nanos / 1e9)));
+    }
+
+    protected static List<SimulationEvent> record(int processInstances) {
+        ProcessEngine processEngine = createProcessEngine("jdbc:h2:mem:flowable-replay-benchmark", null, true);
+        try {
+            for (int i = 0; i < processInstances; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess", BUSINESS_KEY + i);
+            }
+            for (Task task : processEngine.getTaskService().createTaskQuery().list()) {
+                processEngine.getTaskService().complete(task.getId());
+            }
+
+            List<EventLogEntry> eventLogEntries = processEngine.getManagementService().getEventLogEntries(null, null);
+            return new EventLogTransformer(getTransformers()).transform(eventLogEntries);
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    protected static void replay(List<SimulationEvent> simulationEvents, int shards) {
+        final List<ProcessEngine> shardEngines = Collections.synchronizedList(new ArrayList<ProcessEngine>());
+        ParallelReplaySimulationRun simRun = new ParallelReplaySimulationRun(new ParallelReplaySimulationRun.ShardFactory() {
+
+            @Override
+            public ProcessEngine createProcessEngine(int shard, Clock clock) {
+                ProcessEngine processEngine = ParallelReplayBenchmark.createProcessEngine("jdbc:h2:mem:flowable-replay-benchmark-" + shard, clock, false);
+                shardEngines.add(processEngine);
+                return processEngine;
+            }
+
+            @Override
+            public Map<String, SimulationEventHandler> createEventHandlers(int shard) {
+                Map<String, SimulationEventHandler> handlers = new HashMap<>();
+                handlers.put(PROCESS_INSTANCE_START_EVENT_TYPE, new StartReplayLogEventHandler(null, PROCESS_DEFINITION_ID_KEY, BUSINESS_KEY, VARIABLES_KEY));
+                handlers.put(USER_TASK_COMPLETED_EVENT_TYPE, new ReplayUserTaskCompleteEventHandler());
+                return handlers;
+            }
+
+        }, simulationEvents, shards);
+
+        try {
+            simRun.execute(new NoExecutionVariableScope());
+        } finally {
+            for (ProcessEngine shardEngine : shardEngines) {
+                shardEngine.close();
+            }
+        }
+    }
+
+    protected static ProcessEngine createProcessEngine(String jdbcUrl, Clock clock, boolean enableDatabaseEventLogging) {
+        ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+        configuration.setEngineName(jdbcUrl);
+        configuration.setJdbcUrl(jdbcUrl);
+        if (clock != null) {
+            configuration.setClock(clock);
+        }
+        configuration.setDatabaseSchemaUpdate("create-drop");
+        configuration.setEnableDatabaseEventLogging(enableDatabaseEventLogging);
+        ProcessEngine processEngine = configuration.buildProcessEngine();
+
+        // every engine deploys the same resource first, so process definition ids match the recorded ones
+        processEngine.getRepositoryService().createDeployment().addClasspathResource(THE_USERTASK_PROCESS).deploy();
+        return processEngine;
+    }
+
+    private static List<Function<EventLogEntry, SimulationEvent>> getTransformers() {
+        List<Function<EventLogEntry, SimulationEvent>> transformers = new ArrayList<>();
+        transformers.add(new EventLogProcessInstanceCreateTransformer(PROCESS_INSTANCE_START_EVENT_TYPE, PROCESS_DEFINITION_ID_KEY, BUSINESS_KEY, VARIABLES_KEY));
+        transformers.add(new EventLogUserTaskCompleteTransformer(USER_TASK_COMPLETED_EVENT_TYPE));
+        return transformers;
+    }
+}
@@ -3,13 +3,21 @@ package org.flowable.crystalball.simulator.impl.replay;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.flowable.crystalball.simulator.ParallelReplaySimulationRun;
 import org.flowable.crystalball.simulator.ReplaySimulationRun;
 import org.flowable.crystalball.simulator.SimpleEventCalendar;
 import org.flowable.crystalball.simulator.SimulationDebugger;
@@ -20,12 +28,20 @@ import org.flowable.crystalball.simulator.delegate.event.Function;
 import org.flowable.crystalball.simulator.delegate.event.impl.EventLogProcessInstanceCreateTransformer;
 import org.flowable.crystalball.simulator.delegate.event.impl.EventLogTransformer;
 import org.flowable.crystalball.simulator.delegate.event.impl.EventLogUserTaskCompleteTransformer;
+import org.flowable.crystalball.simulator.delegate.event.impl.InMemoryRecordFlowableEventListener;
+import org.flowable.crystalball.simulator.delegate.event.impl.ProcessInstanceCreateTransformer;
+import org.flowable.crystalball.simulator.delegate.event.impl.UserTaskCompleteTransformer;
 import org.flowable.crystalball.simulator.impl.StartReplayLogEventHandler;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngines;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.runtime.Clock;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.event.EventLogEntry;
 import org.flowable.engine.impl.ProcessEngineImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -125,6 +141,133 @@ public class ReplayEventLogTest {
         ProcessEngines.destroy();
     }
 
+    @Test
+    public void testParallelReplay() throws Exception {
+        ProcessEngineImpl processEngine = initProcessEngine();
+
+        TaskService taskService = processEngine.getTaskService();
+        RuntimeService runtimeService = processEngine.getRuntimeService();
+
+        // record events of several process instances
+        Set<String> recordedProcessInstanceIds = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put(TEST_VARIABLE, TEST_VALUE + i);
+            recordedProcessInstanceIds.add(runtimeService.startProcessInstanceByKey(USERTASK_PROCESS, BUSINESS_KEY + i, variables).getId());
+        }
+        for (Task task : taskService.createTaskQuery().taskDefinitionKey("userTask").list()) {
+            taskService.complete(task.getId());
+        }
+
+        List<EventLogEntry> eventLogEntries = processEngine.getManagementService().getEventLogEntries(null, null);
+        List<SimulationEvent> simulationEvents = new EventLogTransformer(getTransformers()).transform(eventLogEntries);
+        processEngine.close();
+
+        // replay every process instance in one of the shards
+        final List<ProcessEngine> shardEngines = Collections.synchronizedList(new ArrayList<ProcessEngine>());
+        ParallelReplaySimulationRun simRun = new ParallelReplaySimulationRun(createShardFactory(shardEngines), simulationEvents, 3);
+
+        try {
+            simRun.execute(new NoExecutionVariableScope());
+
+            assertEquals(3, shardEngines.size());
+            Set<String> replayedProcessInstanceIds = new HashSet<>();
+            for (ProcessEngine shardEngine : shardEngines) {
+                assertEquals(0, shardEngine.getRuntimeService().createProcessInstanceQuery().count());
+                for (HistoricVariableInstance variableInstance : shardEngine.getHistoryService().createHistoricVariableInstanceQuery()
+                        .variableName(StartReplayLogEventHandler.PROCESS_INSTANCE_ID).list()) {
+                    assertTrue(replayedProcessInstanceIds.add((String) variableInstance.getValue()));
+                }
+            }
+            assertEquals(recordedProcessInstanceIds, replayedProcessInstanceIds);
+
+        } finally {
+            for (ProcessEngine shardEngine : shardEngines) {
+                shardEngine.close();
+            }
+            ProcessEngines.destroy();
+        }
+    }
+
+    @Test
+    public void testParallelReplayOfTimedEvents() throws Exception {
+        InMemoryRecordFlowableEventListener recordListener = new InMemoryRecordFlowableEventListener(getTimedTransformers());
+        ProcessEngineConfigurationImpl configuration = getProcessEngineConfiguration();
+        configuration.setEventListeners(Arrays.<FlowableEventListener>asList(recordListener));
+        ProcessEngine processEngine = configuration.buildProcessEngine();
+        processEngine.getRepositoryService().createDeployment().addClasspathResource(THE_USERTASK_PROCESS).deploy();
+
+        // record events of several process instances at known times
+        long startTime = new GregorianCalendar(2017, 0, 1).getTimeInMillis();
+        Clock clock = configuration.getClock();
+        try {
+            for (int i = 0; i < 6; i++) {
+                clock.setCurrentTime(new Date(startTime + i * 60000L));
+                processEngine.getRuntimeService().startProcessInstanceByKey(USERTASK_PROCESS, BUSINESS_KEY + i);
+            }
+            for (int i = 0; i < 6; i++) {
+                clock.setCurrentTime(new Date(startTime + (10 + i) * 60000L));
+                Task task = processEngine.getTaskService().createTaskQuery().processInstanceBusinessKey(BUSINESS_KEY + i).singleResult();
+                processEngine.getTaskService().complete(task.getId());
+            }
+        } finally {
+            clock.reset();
+            processEngine.close();
+        }
+        List<SimulationEvent> simulationEvents = new ArrayList<>(recordListener.getSimulationEvents());
+
+        // every shard moves its own clock to the times of its events
+        final List<ProcessEngine> shardEngines = Collections.synchronizedList(new ArrayList<ProcessEngine>());
+        ParallelReplaySimulationRun simRun = new ParallelReplaySimulationRun(createShardFactory(shardEngines), simulationEvents, 3);
+
+        try {
+            simRun.execute(new NoExecutionVariableScope());
+
+            int replayedProcessInstances = 0;
+            for (ProcessEngine shardEngine : shardEngines) {
+                for (HistoricProcessInstance historicProcessInstance : shardEngine.getHistoryService().createHistoricProcessInstanceQuery().list()) {
+                    int i = Integer.parseInt(historicProcessInstance.getBusinessKey().substring(BUSINESS_KEY.length()));
+                    assertEquals(startTime + i * 60000L, historicProcessInstance.getStartTime().getTime());
+                    assertEquals(startTime + (10 + i) * 60000L, historicProcessInstance.getEndTime().getTime());
+                    replayedProcessInstances++;
+                }
+            }
+            assertEquals(6, replayedProcessInstances);
+
+        } finally {
+            for (ProcessEngine shardEngine : shardEngines) {
+                shardEngine.close();
+            }
+            ProcessEngines.destroy();
+        }
+    }
+
+    private ParallelReplaySimulationRun.ShardFactory createShardFactory(final List<ProcessEngine> shardEngines) {
+        return new ParallelReplaySimulationRun.ShardFactory() {
+
+            @Override
+            public ProcessEngine createProcessEngine(int shard, Clock clock) {
+                ProcessEngineConfigurationImpl configuration = new org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration();
+                configuration.setEngineName("replayShard" + shard);
+                configuration.setJdbcUrl("jdbc:h2:mem:flowable-replay-shard-" + shard);
+                configuration.setDatabaseSchemaUpdate("create-drop");
+                configuration.setClock(clock);
+                ProcessEngine shardEngine = configuration.buildProcessEngine();
+                shardEngines.add(shardEngine);
+
+                // same deployment as the recording engine, so process definition ids match
+                shardEngine.getRepositoryService().createDeployment().addClasspathResource(THE_USERTASK_PROCESS).deploy();
+                return shardEngine;
+            }
+
+            @Override
+            public Map<String, SimulationEventHandler> createEventHandlers(int shard) {
+                return getReplayHandlers(null);
+            }
+
+        };
+    }
+
     private ProcessEngineImpl initProcessEngine() {
         ProcessEngineConfigurationImpl configuration = getProcessEngineConfiguration();
         ProcessEngineImpl processEngine = (ProcessEngineImpl) configuration.buildProcessEngine();
@@ -146,6 +289,13 @@ public class ReplayEventLogTest {
         return transformers;
     }
 
+    private static List<Function<FlowableEvent, SimulationEvent>> getTimedTransformers() {
+        List<Function<FlowableEvent, SimulationEvent>> transformers = new ArrayList<>();
+        transformers.add(new ProcessInstanceCreateTransformer(PROCESS_INSTANCE_START_EVENT_TYPE, PROCESS_DEFINITION_ID_KEY, BUSINESS_KEY, VARIABLES_KEY));
+        transformers.add(new UserTaskCompleteTransformer(USER_TASK_COMPLETED_EVENT_TYPE));
+        return transformers;
+    }
+
     public static Map<String, SimulationEventHandler> getReplayHandlers(String processInstanceId) {
         Map<String, SimulationEventHandler> handlers = new HashMap<>();
         handlers.put(PROCESS_INSTANCE_START_EVENT_TYPE, new StartReplayLogEventHandler(processInstanceId, PROCESS_DEFINITION_ID_KEY, BUSINESS_KEY, VARIABLES_KEY));
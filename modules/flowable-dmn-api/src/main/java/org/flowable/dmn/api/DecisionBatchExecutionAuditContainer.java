@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * Audit of a chunk of a decision batch execution of which the history is aggregated. The inherited fields describe the chunk as a
+ * whole (decision, start time of the first execution, end time of the last one, failed when any execution failed), the audits of
+ * the single executions are kept in the decision executions.
+ */
+@JsonInclude(Include.NON_NULL)
+public class DecisionBatchExecutionAuditContainer extends DecisionExecutionAuditContainer {
+
+    protected List<DecisionExecutionAuditContainer> decisionExecutions = new ArrayList<>();
+
+    public DecisionBatchExecutionAuditContainer() {
+    }
+
+    public DecisionBatchExecutionAuditContainer(List<DecisionExecutionAuditContainer> decisionExecutions) {
+        this.decisionExecutions = decisionExecutions;
+
+        if (!decisionExecutions.isEmpty()) {
+            DecisionExecutionAuditContainer firstExecution = decisionExecutions.get(0);
+            this.decisionKey = firstExecution.getDecisionKey();
+            this.decisionName = firstExecution.getDecisionName();
+            this.hitPolicy = firstExecution.getHitPolicy();
+            this.dmnDeploymentId = firstExecution.getDmnDeploymentId();
+            this.strictMode = firstExecution.strictMode;
+            this.startTime = firstExecution.getStartTime();
+            this.endTime = decisionExecutions.get(decisionExecutions.size() - 1).getEndTime();
+        }
+
+        for (DecisionExecutionAuditContainer decisionExecution : decisionExecutions) {
+            if (Boolean.TRUE.equals(decisionExecution.isFailed())) {
+                setFailed();
+                if (exceptionMessage == null) {
+                    exceptionMessage = decisionExecution.getExceptionMessage();
+                }
+            }
+        }
+    }
+
+    public List<DecisionExecutionAuditContainer> getDecisionExecutions() {
+        return decisionExecutions;
+    }
+
+    public void setDecisionExecutions(List<DecisionExecutionAuditContainer> decisionExecutions) {
+        this.decisionExecutions = decisionExecutions;
+    }
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helper for executing one decision for a batch of input variables.
+ * 
+ * An instance can be obtained through {@link org.flowable.dmn.api.DmnRuleService#createExecuteDecisionBatchBuilder()}.
+ * 
+ * The decision is resolved once for the whole batch. The input variables are evaluated in chunks, each chunk in its own
+ * command, either one chunk after the other or in parallel on the batch execution fork-join pool of the DMN engine.
+ * The results are always returned in the order of the input variables.
+ */
+public interface ExecuteDecisionBatchBuilder {
+
+    /**
+     * Set the key of the decision
+     **/
+    ExecuteDecisionBatchBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the instance id
+     **/
+    ExecuteDecisionBatchBuilder instanceId(String instanceId);
+
+    /**
+     * Set the tenantId of process instance
+     **/
+    ExecuteDecisionBatchBuilder tenantId(String tenantId);
+
+    /**
+     * Adds the input variables of one execution
+     */
+    ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables);
+
+    /**
+     * Adds the input variables of multiple executions
+     */
+    ExecuteDecisionBatchBuilder variables(List<Map<String, Object>> variablesList);
+
+    /**
+     * Set the number of executions evaluated in one command (1000 by default)
+     */
+    ExecuteDecisionBatchBuilder chunkSize(int chunkSize);
+
+    /**
+     * Evaluate the chunks in parallel, on the batch execution fork-join pool of the DMN engine
+     */
+    ExecuteDecisionBatchBuilder parallel();
+
+    /**
+     * Don't store a historic decision execution, even when history is enabled
+     */
+    ExecuteDecisionBatchBuilder skipHistory();
+
+    /**
+     * Store one historic decision execution per chunk, containing the audit trails of all executions of the chunk,
+     * instead of one historic decision execution per execution
+     */
+    ExecuteDecisionBatchBuilder aggregateHistory();
+
+    /**
+     * Executes the decision returning the output results of every execution, in the order of the input variables
+     **/
+    List<List<Map<String, Object>>> execute();
+
+    /**
+     * Executes the decision returning the audit trail of every execution, in the order of the input variables
+     **/
+    List<DecisionExecutionAuditContainer> executeWithAuditTrail();
+
+}
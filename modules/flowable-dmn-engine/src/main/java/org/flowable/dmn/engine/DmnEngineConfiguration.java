@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.sql.DataSource;
 
@@ -60,7 +61,9 @@ import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyRuleOrder;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyUnique;
 import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
 import org.flowable.dmn.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.dmn.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntryWeigher;
 import org.flowable.dmn.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
@@ -161,6 +164,13 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
+
+    /**
+     * When set to a positive value, a {@link ConcurrentDeploymentCache} is used for the decision cache,
+     * which evicts the least recently used decision tables when the total number of rule entries of the cached tables exceeds this value.
+     * This takes precedence over the decisionCacheLimit.
+     */
+    protected long decisionCacheMaxWeight = -1;
     
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -185,6 +195,26 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to index the input entries of deployed decision tables, so that only the rules that can match are evaluated.
+     *
+     * Input entries comparing the input with a string or number literal (==, <, <=, > and >=) are indexed. This pays off for large
+     * decision tables. The decision results are the same, but the audit trail only contains the rules that were evaluated.
+     *
+     * In strict mode, a rule is only skipped because of its first input entry, so every input entry that is evaluated without index
+     * is still evaluated and an exception it throws fails the decision as before. When strict mode is disabled, rules are also skipped
+     * because of later input entries: an exception thrown by an earlier input entry of such a rule is then not raised.
+     */
+    protected boolean ruleIndexingEnabled;
+
+    /**
+     * The fork-join pool used to evaluate the chunks of a parallel decision batch execution (see {@link org.flowable.dmn.api.ExecuteDecisionBatchBuilder#parallel()}).
+     * By default, a pool with a parallelism equal to the number of available processors is created when the first parallel batch is executed,
+     * and shut down when the DMN engine is closed. A pool that is set on the configuration is not shut down by the engine.
+     */
+    protected volatile ForkJoinPool batchExecutionPool;
+    protected boolean batchExecutionPoolCreated;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -269,6 +299,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected void initService(Object service) {
         if (service instanceof ServiceImpl) {
+            ((ServiceImpl) service).setEngineConfig(this);
             ((ServiceImpl) service).setCommandExecutor(commandExecutor);
         }
     }
@@ -479,7 +510,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
         // Decision cache
         if (decisionCache == null) {
-            if (decisionCacheLimit <= 0) {
+            if (decisionCacheMaxWeight > 0) {
+                decisionCache = new ConcurrentDeploymentCache<>(decisionCacheMaxWeight, new DecisionTableCacheEntryWeigher());
+            } else if (decisionCacheLimit <= 0) {
                 decisionCache = new DefaultDeploymentCache<>();
             } else {
                 decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
@@ -602,6 +635,24 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors, expressionManager, objectMapper);
     }
 
+    /**
+     * @return the batch execution pool, created when none was set or created before
+     */
+    public synchronized ForkJoinPool initBatchExecutionPool() {
+        if (batchExecutionPool == null) {
+            batchExecutionPool = new ForkJoinPool();
+            batchExecutionPoolCreated = true;
+        }
+        return batchExecutionPool;
+    }
+
+    public synchronized void shutdownBatchExecutionPool() {
+        if (batchExecutionPoolCreated) {
+            batchExecutionPool.shutdown();
+            batchExecutionPool = null;
+            batchExecutionPoolCreated = false;
+        }
+    }
 
     // getters and setters
     // //////////////////////////////////////////////////////
@@ -806,6 +857,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public long getDecisionCacheMaxWeight() {
+        return decisionCacheMaxWeight;
+    }
+
+    public DmnEngineConfiguration setDecisionCacheMaxWeight(long decisionCacheMaxWeight) {
+        this.decisionCacheMaxWeight = decisionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<DecisionTableCacheEntry> getDecisionCache() {
         return decisionCache;
     }
@@ -969,6 +1029,25 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isRuleIndexingEnabled() {
+        return ruleIndexingEnabled;
+    }
+
+    public DmnEngineConfiguration setRuleIndexingEnabled(boolean ruleIndexingEnabled) {
+        this.ruleIndexingEnabled = ruleIndexingEnabled;
+        return this;
+    }
+
+    public ForkJoinPool getBatchExecutionPool() {
+        return batchExecutionPool;
+    }
+
+    public synchronized DmnEngineConfiguration setBatchExecutionPool(ForkJoinPool batchExecutionPool) {
+        shutdownBatchExecutionPool();
+        this.batchExecutionPool = batchExecutionPool;
+        return this;
+    }
+
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
         return this;
@@ -55,6 +55,7 @@ public class DmnEngineImpl implements DmnEngine {
 
     public void close() {
         DmnEngines.unregister(this);
+        dmnEngineConfiguration.shutdownBatchExecutionPool();
     }
 
     // getters and setters
@@ -12,15 +12,25 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
+import org.flowable.dmn.engine.impl.cmd.ResolveDecisionTableCmd;
+import org.flowable.engine.common.api.FlowableException;
 
 /**
  * @author Yvo Swillens
@@ -31,6 +41,11 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
     public ExecuteDecisionBuilder createExecuteDecisionBuilder() {
         return new ExecuteDecisionBuilderImpl(this);
     }
+
+    @Override
+    public ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder() {
+        return new ExecuteDecisionBatchBuilderImpl(this);
+    }
     
     @Override
     @Deprecated
@@ -115,4 +130,55 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
-}
\ No newline at end of file
+
+    public List<DecisionExecutionAuditContainer> executeDecisionBatch(ExecuteDecisionBatchBuilderImpl executeDecisionBatchBuilder) {
+        DmnDecisionTable decisionTable = commandExecutor.execute(new ResolveDecisionTableCmd(executeDecisionBatchBuilder));
+
+        List<Map<String, Object>> variablesList = executeDecisionBatchBuilder.getVariablesList();
+        int chunkSize = executeDecisionBatchBuilder.getChunkSize();
+        List<ExecuteDecisionBatchCmd> chunkCommands = new ArrayList<>();
+        for (int i = 0; i < variablesList.size(); i += chunkSize) {
+            List<Map<String, Object>> chunk = variablesList.subList(i, Math.min(i + chunkSize, variablesList.size()));
+            chunkCommands.add(new ExecuteDecisionBatchCmd(executeDecisionBatchBuilder, decisionTable, chunk));
+        }
+
+        List<DecisionExecutionAuditContainer> auditContainers = new ArrayList<>(variablesList.size());
+        if (executeDecisionBatchBuilder.isParallel() && chunkCommands.size() > 1) {
+            List<Callable<List<DecisionExecutionAuditContainer>>> chunkTasks = new ArrayList<>(chunkCommands.size());
+            for (final ExecuteDecisionBatchCmd chunkCommand : chunkCommands) {
+                chunkTasks.add(new Callable<List<DecisionExecutionAuditContainer>>() {
+
+                    @Override
+                    public List<DecisionExecutionAuditContainer> call() {
+                        return commandExecutor.execute(chunkCommand);
+                    }
+                });
+            }
+
+            // Kept in a local variable, the pool of the configuration is reset when the engine is closed concurrently
+            ForkJoinPool batchExecutionPool = engineConfig.initBatchExecutionPool();
+            try {
+                for (Future<List<DecisionExecutionAuditContainer>> chunkResult : batchExecutionPool.invokeAll(chunkTasks)) {
+                    auditContainers.addAll(chunkResult.get());
+                }
+
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new FlowableException("Error executing decision batch", e.getCause());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while executing decision batch", e);
+            }
+
+        } else {
+            for (ExecuteDecisionBatchCmd chunkCommand : chunkCommands) {
+                auditContainers.addAll(commandExecutor.execute(chunkCommand));
+            }
+        }
+
+        return auditContainers;
+    }
+}
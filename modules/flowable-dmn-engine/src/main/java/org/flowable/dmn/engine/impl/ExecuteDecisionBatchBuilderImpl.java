@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+public class ExecuteDecisionBatchBuilderImpl implements ExecuteDecisionBatchBuilder {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String instanceId;
+    protected String tenantId;
+    protected List<Map<String, Object>> variablesList = new ArrayList<>();
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+    protected boolean parallel;
+    protected boolean skipHistory;
+    protected boolean aggregateHistory;
+
+    public ExecuteDecisionBatchBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    public ExecuteDecisionBatchBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder instanceId(String instanceId) {
+        this.instanceId = instanceId;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables) {
+        variablesList.add(variables);
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder variables(List<Map<String, Object>> variablesList) {
+        if (variablesList != null) {
+            this.variablesList.addAll(variablesList);
+        }
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder chunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new FlowableIllegalArgumentException("chunkSize must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder skipHistory() {
+        this.skipHistory = true;
+        return this;
+    }
+
+    public ExecuteDecisionBatchBuilder aggregateHistory() {
+        this.aggregateHistory = true;
+        return this;
+    }
+
+    public List<List<Map<String, Object>>> execute() {
+        List<DecisionExecutionAuditContainer> auditContainers = ruleService.executeDecisionBatch(this);
+        List<List<Map<String, Object>>> results = new ArrayList<>(auditContainers.size());
+        for (DecisionExecutionAuditContainer auditContainer : auditContainers) {
+            results.add(auditContainer.getDecisionResult());
+        }
+        return results;
+    }
+
+    public List<DecisionExecutionAuditContainer> executeWithAuditTrail() {
+        return ruleService.executeDecisionBatch(this);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public List<Map<String, Object>> getVariablesList() {
+        return variablesList;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public boolean isSkipHistory() {
+        return skipHistory;
+    }
+
+    public boolean isAggregateHistory() {
+        return aggregateHistory;
+    }
+
+}
@@ -25,6 +25,7 @@ public class ExecuteDecisionInfo {
     protected String activityId;
     protected Map<String, Object> variables;
     protected String tenantId;
+    protected boolean skipHistory;
     
     public String getDecisionKey() {
         return decisionKey;
@@ -80,4 +81,12 @@ public class ExecuteDecisionInfo {
     public void setTenantId(String tenantId) {
         this.tenantId = tenantId;
     }
+
+    public boolean isSkipHistory() {
+        return skipHistory;
+    }
+
+    public void setSkipHistory(boolean skipHistory) {
+        this.skipHistory = skipHistory;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,16 +21,20 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
 import org.flowable.dmn.engine.impl.el.ExecutionVariableFactory;
 import org.flowable.dmn.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.RuleExpressionCondition;
+import org.flowable.dmn.engine.impl.el.RuleExpressionOutput;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -85,6 +90,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         // create execution context and audit trail
         ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables());
+        executionContext.setCompiledDecisionTable(getCompiledDecisionTable(currentDecisionTable, executeDecisionInfo));
 
         try {
             sanityCheckDecisionTable(currentDecisionTable);
@@ -102,7 +108,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             executionContext.getAuditContainer().stopAudit();
             
             DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
+            if (dmnEngineConfiguration.isHistoryEnabled() && !executeDecisionInfo.isSkipHistory()) {
                 HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
                 HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
                 decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
@@ -148,13 +154,25 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            // the hit policy doesn't change while evaluating the rules
+            AbstractHitPolicy hitPolicyBehavior = getHitPolicyBehavior(decisionTable.getHitPolicy());
+
+            BitSet candidateRules = findCandidateRules(hitPolicyBehavior, executionContext);
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                DecisionRule rule = rules.get(i);
+
+                // rules that aren't candidates can't match, so they don't need to be evaluated
+                boolean ruleResult = false;
+                if (candidateRules == null || candidateRules.get(i)) {
+                    ruleResult = executeRule(rule, executionContext);
+                }
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
-                    if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
-                        ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
+                    if (hitPolicyBehavior instanceof EvaluateRuleValidityBehavior) {
+                        ((EvaluateRuleValidityBehavior) hitPolicyBehavior).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
                     }
 
                     // add valid rule output(s)
@@ -162,8 +180,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // should continue evaluating
-                if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ContinueEvaluatingBehavior) {
-                    if (((ContinueEvaluatingBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).shouldContinueEvaluating(ruleResult) == false) {
+                if (hitPolicyBehavior instanceof ContinueEvaluatingBehavior) {
+                    if (((ContinueEvaluatingBehavior) hitPolicyBehavior).shouldContinueEvaluating(ruleResult) == false) {
                         LOGGER.debug("Stopping execution; hit policy {} specific behaviour", decisionTable.getHitPolicy());
                         break;
                     }
@@ -176,8 +194,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
 
             // post rule conclusion actions
-            if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ComposeDecisionResultBehavior) {
-                ((ComposeDecisionResultBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).composeDecisionResults(executionContext);
+            if (hitPolicyBehavior instanceof ComposeDecisionResultBehavior) {
+                ((ComposeDecisionResultBehavior) hitPolicyBehavior).composeDecisionResults(executionContext);
             }
 
         } catch (FlowableException ade) {
@@ -190,6 +208,22 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
+    /**
+     * @return the indexes of the rules that can match, or null when all rules need to be evaluated
+     */
+    protected BitSet findCandidateRules(AbstractHitPolicy hitPolicyBehavior, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable == null || compiledDecisionTable.getRuleIndex() == null) {
+            return null;
+        }
+
+        // the validity check of these hit policies also looks at rules that matched partially, and in strict mode
+        // the input entries that would be evaluated without index need to be evaluated so their exceptions are raised
+        boolean firstEntryOnly = hitPolicyBehavior instanceof EvaluateRuleValidityBehavior
+                || CommandContextUtil.getDmnEngineConfiguration().isStrictMode();
+        return compiledDecisionTable.getRuleIndex().findCandidateRules(executionContext, firstEntryOnly);
+    }
+
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
@@ -253,9 +287,27 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            RuleExpressionCondition condition = compiledDecisionTable.getInputCondition(ruleContainer.getInputEntry());
+            if (condition != null) {
+                return ELExpressionExecutor.executeInputExpression(condition, executionContext);
+            }
+        }
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
+    protected Object executeOutputExpressionEvaluation(RuleOutputClauseContainer ruleClauseContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            RuleExpressionOutput outputExpression = compiledDecisionTable.getOutputExpression(ruleClauseContainer.getOutputEntry());
+            if (outputExpression != null) {
+                return ELExpressionExecutor.executeOutputExpression(outputExpression, ruleClauseContainer.getOutputEntry(), executionContext);
+            }
+        }
+        return ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), ruleClauseContainer.getOutputEntry(), expressionManager, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
@@ -277,7 +329,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = executeOutputExpressionEvaluation(ruleClauseContainer, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // create result
@@ -322,6 +374,33 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
     }
 
+    /**
+     * Answers the compiled form of the decision table from the deployment cache, compiling it when the
+     * cache entry doesn't have it yet. Answers null when the decision table doesn't come from the cache.
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(DecisionTable decisionTable, ExecuteDecisionInfo executeDecisionInfo) {
+        if (executeDecisionInfo.getDecisionDefinitionId() == null) {
+            return null;
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (dmnEngineConfiguration == null || dmnEngineConfiguration.getDeploymentManager() == null) {
+            return null;
+        }
+
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionInfo.getDecisionDefinitionId());
+        if (cacheEntry == null || cacheEntry.getDecision() == null || cacheEntry.getDecision().getExpression() != decisionTable) {
+            return null;
+        }
+
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+        if (compiledDecisionTable == null) {
+            compiledDecisionTable = new CompiledDecisionTable(decisionTable, expressionManager, dmnEngineConfiguration.isRuleIndexingEnabled());
+            cacheEntry.setCompiledDecisionTable(compiledDecisionTable);
+        }
+        return compiledDecisionTable;
+    }
+
     protected String getExceptionMessage(Exception exception) {
         String exceptionMessage;
         if (exception.getCause() != null && exception.getCause().getMessage() != null) {
@@ -27,6 +27,14 @@ public abstract class ServiceImpl {
         this.engineConfig = engineConfig;
     }
 
+    public DmnEngineConfiguration getEngineConfig() {
+        return engineConfig;
+    }
+
+    public void setEngineConfig(DmnEngineConfiguration engineConfig) {
+        this.engineConfig = engineConfig;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
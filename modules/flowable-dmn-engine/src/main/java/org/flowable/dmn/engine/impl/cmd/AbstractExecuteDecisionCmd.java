@@ -17,6 +17,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBatchBuilderImpl;
 import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
@@ -43,6 +44,13 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
         executeDecisionInfo.setTenantId(decisionBuilder.getTenantId());
     }
     
+    public AbstractExecuteDecisionCmd(ExecuteDecisionBatchBuilderImpl decisionBatchBuilder) {
+        executeDecisionInfo.setDecisionKey(decisionBatchBuilder.getDecisionKey());
+        executeDecisionInfo.setParentDeploymentId(decisionBatchBuilder.getParentDeploymentId());
+        executeDecisionInfo.setInstanceId(decisionBatchBuilder.getInstanceId());
+        executeDecisionInfo.setTenantId(decisionBatchBuilder.getTenantId());
+    }
+    
     public AbstractExecuteDecisionCmd(String decisionKey, Map<String, Object> variables) {
         executeDecisionInfo.setDecisionKey(decisionKey);
         executeDecisionInfo.setVariables(variables);
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionBatchExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBatchBuilderImpl;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+/**
+ * Executes a resolved decision table for one chunk of a decision batch execution.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected DmnDecisionTable decisionTable;
+    protected List<Map<String, Object>> variablesList;
+    protected boolean skipHistory;
+    protected boolean aggregateHistory;
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBatchBuilderImpl decisionBatchBuilder, DmnDecisionTable decisionTable, List<Map<String, Object>> variablesList) {
+        super(decisionBatchBuilder);
+        this.decisionTable = decisionTable;
+        this.variablesList = variablesList;
+        this.skipHistory = decisionBatchBuilder.isSkipHistory();
+        this.aggregateHistory = decisionBatchBuilder.isAggregateHistory();
+
+        executeDecisionInfo.setDecisionDefinitionId(decisionTable.getId());
+        executeDecisionInfo.setDeploymentId(decisionTable.getDeploymentId());
+    }
+
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
+
+        List<DecisionExecutionAuditContainer> auditContainers = new ArrayList<>(variablesList.size());
+        for (Map<String, Object> variables : variablesList) {
+            ExecuteDecisionInfo variablesExecuteDecisionInfo = createExecuteDecisionInfo(variables);
+            auditContainers.add(dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variablesExecuteDecisionInfo));
+        }
+
+        if (aggregateHistory && !skipHistory && dmnEngineConfiguration.isHistoryEnabled() && !auditContainers.isEmpty()) {
+            insertAggregatedHistoricDecisionExecution(dmnEngineConfiguration, auditContainers);
+        }
+
+        return auditContainers;
+    }
+
+    protected ExecuteDecisionInfo createExecuteDecisionInfo(Map<String, Object> variables) {
+        ExecuteDecisionInfo variablesExecuteDecisionInfo = new ExecuteDecisionInfo();
+        variablesExecuteDecisionInfo.setDecisionKey(executeDecisionInfo.getDecisionKey());
+        variablesExecuteDecisionInfo.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        variablesExecuteDecisionInfo.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        variablesExecuteDecisionInfo.setParentDeploymentId(executeDecisionInfo.getParentDeploymentId());
+        variablesExecuteDecisionInfo.setInstanceId(executeDecisionInfo.getInstanceId());
+        variablesExecuteDecisionInfo.setTenantId(executeDecisionInfo.getTenantId());
+        variablesExecuteDecisionInfo.setVariables(variables);
+        variablesExecuteDecisionInfo.setSkipHistory(skipHistory || aggregateHistory);
+        return variablesExecuteDecisionInfo;
+    }
+
+    protected void insertAggregatedHistoricDecisionExecution(DmnEngineConfiguration dmnEngineConfiguration, List<DecisionExecutionAuditContainer> auditContainers) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+        // The execution json holds one audit container, like for a single execution
+        DecisionBatchExecutionAuditContainer batchAuditContainer = new DecisionBatchExecutionAuditContainer(auditContainers);
+        decisionExecutionEntity.setStartTime(batchAuditContainer.getStartTime());
+        decisionExecutionEntity.setEndTime(batchAuditContainer.getEndTime());
+        decisionExecutionEntity.setFailed(batchAuditContainer.isFailed());
+
+        try {
+            decisionExecutionEntity.setExecutionJson(dmnEngineConfiguration.getObjectMapper().writeValueAsString(batchAuditContainer));
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+}
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The input and output entries of a {@link DecisionTable}, parsed into expressions once.
+ * 
+ * Decision tables don't change once deployed, so the compiled form is kept in the deployment cache
+ * and rule execution only needs to evaluate the expressions. Entries are looked up by the model
+ * element they were compiled from; entries that could not be compiled (they will fail the same way
+ * when executed) are not part of the compiled table.
+ */
+public class CompiledDecisionTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDecisionTable.class);
+
+    protected DecisionTable decisionTable;
+    protected Map<UnaryTests, RuleExpressionCondition> inputConditions = new IdentityHashMap<>();
+    protected Map<LiteralExpression, RuleExpressionOutput> outputExpressions = new IdentityHashMap<>();
+    protected DecisionTableRuleIndex ruleIndex;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        this(decisionTable, expressionManager, false);
+    }
+
+    public CompiledDecisionTable(DecisionTable decisionTable, ExpressionManager expressionManager, boolean ruleIndexing) {
+        this.decisionTable = decisionTable;
+        compile(expressionManager);
+
+        if (ruleIndexing) {
+            DecisionTableRuleIndex index = new DecisionTableRuleIndex(decisionTable, expressionManager);
+            if (!index.isEmpty()) {
+                this.ruleIndex = index;
+            }
+        }
+    }
+
+    protected void compile(ExpressionManager expressionManager) {
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                UnaryTests inputEntry = inputContainer.getInputEntry();
+                if (inputEntry == null || inputContainer.getInputClause() == null || inputContainer.getInputClause().getInputExpression() == null) {
+                    continue;
+                }
+
+                String inputEntryText = inputEntry.getText();
+                String inputExpression = inputContainer.getInputClause().getInputExpression().getText();
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText) || StringUtils.isEmpty(inputExpression)) {
+                    continue;
+                }
+
+                try {
+                    String parsedExpression = ELConditionExpressionPreParser.parse(inputEntryText, inputExpression,
+                            inputContainer.getInputClause().getInputExpression().getTypeRef());
+                    inputConditions.put(inputEntry, new RuleExpressionCondition(expressionManager.createExpression(parsedExpression)));
+                } catch (Exception e) {
+                    LOGGER.debug("Could not compile input entry {} of rule {}", inputEntry.getId(), rule.getRuleNumber(), e);
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                LiteralExpression outputEntry = outputContainer.getOutputEntry();
+                if (outputEntry == null || StringUtils.isEmpty(outputEntry.getText())) {
+                    continue;
+                }
+
+                try {
+                    String parsedExpression = ELOutputExpressionPreParser.parse(outputEntry.getText());
+                    outputExpressions.put(outputEntry, new RuleExpressionOutput(expressionManager.createExpression(parsedExpression)));
+                } catch (Exception e) {
+                    LOGGER.debug("Could not compile output entry {} of rule {}", outputEntry.getId(), rule.getRuleNumber(), e);
+                }
+            }
+        }
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    /**
+     * @return the index to find candidate rules with, or null if rule indexing is disabled or the table has no indexable input entries
+     */
+    public DecisionTableRuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+
+    /**
+     * @return the compiled condition for the given input entry, or null if it wasn't compiled
+     */
+    public RuleExpressionCondition getInputCondition(UnaryTests inputEntry) {
+        return inputConditions.get(inputEntry);
+    }
+
+    /**
+     * @return the compiled expression for the given output entry, or null if it wasn't compiled
+     */
+    public RuleExpressionOutput getOutputExpression(LiteralExpression outputEntry) {
+        return outputExpressions.get(outputEntry);
+    }
+
+}
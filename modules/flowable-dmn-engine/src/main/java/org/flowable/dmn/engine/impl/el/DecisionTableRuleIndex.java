@@ -0,0 +1,317 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index over the input entries of a {@link DecisionTable}, used to find the rules that can possibly
+ * match before evaluating any rule.
+ * 
+ * Per input clause (column), entries that compare the input with a literal are indexed: equality
+ * with a string or number literal in hash maps, and &lt;, &lt;=, &gt; and &gt;= with a number literal
+ * in sorted maps. All other entries (including empty and '-' entries) make a rule a candidate for any
+ * input value. A rule is a candidate when it is a candidate for every column; only candidates need to
+ * be evaluated, all other rules can't match.
+ * 
+ * The lookups are conservative: whenever the input value isn't a string or a simple number, or could
+ * be coerced into the type of the literal, the indexed entries are treated as candidates too. So the
+ * candidates always include all rules that would match when evaluating the whole table.
+ */
+public class DecisionTableRuleIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableRuleIndex.class);
+
+    protected static final Pattern INPUT_EXPRESSION_PATTERN = Pattern.compile("[A-Za-z_$][\\w$]*(\\.[A-Za-z_$][\\w$]*)*");
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'[^'\\\\]*'|\"[^\"\\\\]*\"");
+    protected static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("-?\\d{1,15}(\\.\\d{1,15})?");
+
+    protected static final String[] OPERATORS = new String[] { ">=", "<=", "==", "!=", ">", "<" };
+
+    protected int ruleCount;
+    protected List<ColumnIndex> columns = new ArrayList<>();
+
+    public DecisionTableRuleIndex(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        List<DecisionRule> rules = decisionTable.getRules();
+        this.ruleCount = rules.size();
+
+        Map<InputClause, ColumnIndex> columnsByInputClause = new IdentityHashMap<>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            if (inputClause.getInputExpression() == null || inputClause.getInputExpression().getText() == null) {
+                continue;
+            }
+
+            String inputExpression = inputClause.getInputExpression().getText().trim();
+            if (INPUT_EXPRESSION_PATTERN.matcher(inputExpression).matches()) {
+                try {
+                    ColumnIndex column = new ColumnIndex(expressionManager.createExpression("#{" + inputExpression + "}"), ruleCount);
+                    columnsByInputClause.put(inputClause, column);
+                } catch (Exception e) {
+                    LOGGER.debug("Input expression {} can't be indexed", inputExpression, e);
+                }
+            }
+        }
+
+        for (int i = 0; i < rules.size(); i++) {
+            List<RuleInputClauseContainer> inputEntries = rules.get(i).getInputEntries();
+            for (int j = 0; j < inputEntries.size(); j++) {
+                RuleInputClauseContainer inputEntry = inputEntries.get(j);
+                ColumnIndex column = columnsByInputClause.get(inputEntry.getInputClause());
+                if (column != null) {
+                    column.addEntry(i, inputEntry, j == 0);
+                }
+            }
+        }
+
+        // a rule without an (indexable) entry for a column can match any value of that column
+        for (ColumnIndex column : columnsByInputClause.values()) {
+            column.complete();
+            if (column.hasIndexedEntries()) {
+                columns.add(column);
+            }
+        }
+    }
+
+    /**
+     * Answer true if no column has indexed entries, i.e. if the index can't rule out any rule.
+     */
+    public boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    /**
+     * Find the rules that can match for the variables of the given execution context.
+     * 
+     * @param firstEntryOnly
+     *            when true, a rule is only ruled out because of its first input entry. Evaluating a rule
+     *            stops at the first input entry that doesn't match, so this keeps the audit trail of the
+     *            rules that are ruled out free of partially matching input entries (hit policies like
+     *            UNIQUE look at those).
+     * @return the indexes (in {@link DecisionTable#getRules()}) of the candidate rules
+     */
+    public BitSet findCandidateRules(ELExecutionContext executionContext, boolean firstEntryOnly) {
+        BitSet candidates = new BitSet(ruleCount);
+        candidates.set(0, ruleCount);
+
+        for (ColumnIndex column : columns) {
+            BitSet columnCandidates = column.findCandidates(executionContext);
+            if (columnCandidates == null) {
+                continue;
+            }
+
+            if (firstEntryOnly) {
+                BitSet ruledOut = (BitSet) column.firstEntryRules.clone();
+                ruledOut.andNot(columnCandidates);
+                candidates.andNot(ruledOut);
+            } else {
+                candidates.and(columnCandidates);
+            }
+        }
+
+        return candidates;
+    }
+
+    protected static class ColumnIndex {
+
+        protected Expression inputExpression;
+        protected int ruleCount;
+
+        protected BitSet firstEntryRules;
+        protected BitSet rulesWithEntry;
+        protected BitSet rulesWithMultipleEntries;
+        protected BitSet indexedRules;
+        protected BitSet unindexedRules;
+
+        protected Map<String, BitSet> stringEquals = new HashMap<>();
+        protected BitSet allStringEquals;
+        protected Map<Double, BitSet> numberEquals = new HashMap<>();
+        protected BitSet allNumberEquals;
+
+        // entries 'input < literal' and 'input <= literal'
+        protected NavigableMap<Double, BitSet> lessThan = new TreeMap<>();
+        // entries 'input > literal' and 'input >= literal'
+        protected NavigableMap<Double, BitSet> greaterThan = new TreeMap<>();
+        protected BitSet allComparisons;
+
+        public ColumnIndex(Expression inputExpression, int ruleCount) {
+            this.inputExpression = inputExpression;
+            this.ruleCount = ruleCount;
+            this.firstEntryRules = new BitSet(ruleCount);
+            this.rulesWithEntry = new BitSet(ruleCount);
+            this.rulesWithMultipleEntries = new BitSet(ruleCount);
+            this.indexedRules = new BitSet(ruleCount);
+            this.allStringEquals = new BitSet(ruleCount);
+            this.allNumberEquals = new BitSet(ruleCount);
+            this.allComparisons = new BitSet(ruleCount);
+        }
+
+        public void addEntry(int ruleIndex, RuleInputClauseContainer inputEntry, boolean firstEntry) {
+            if (firstEntry) {
+                firstEntryRules.set(ruleIndex);
+            }
+            if (rulesWithEntry.get(ruleIndex)) {
+                rulesWithMultipleEntries.set(ruleIndex);
+            }
+            rulesWithEntry.set(ruleIndex);
+
+            String text = inputEntry.getInputEntry() != null ? inputEntry.getInputEntry().getText() : null;
+            if (StringUtils.isEmpty(text) || text.contains("fn_") || text.startsWith("#{") || text.startsWith("${")) {
+                return;
+            }
+
+            // mirrors ELConditionExpressionPreParser
+            String typeRef = inputEntry.getInputClause().getInputExpression().getTypeRef();
+            if (!"date".equals(typeRef) && !"number".equals(typeRef) && text.startsWith(".")) {
+                return;
+            }
+
+            String operator = "==";
+            String literal = text;
+            if (text.length() >= 2 && StringUtils.startsWithAny(text, ELConditionExpressionPreParser.OPERATORS)) {
+                for (String candidateOperator : OPERATORS) {
+                    if (text.startsWith(candidateOperator)) {
+                        operator = candidateOperator;
+                        literal = text.substring(candidateOperator.length());
+                        break;
+                    }
+                }
+            }
+            literal = literal.trim();
+
+            if (STRING_LITERAL_PATTERN.matcher(literal).matches()) {
+                if ("==".equals(operator)) {
+                    add(stringEquals, literal.substring(1, literal.length() - 1), ruleIndex);
+                    allStringEquals.set(ruleIndex);
+                    indexedRules.set(ruleIndex);
+                }
+
+            } else if (NUMBER_LITERAL_PATTERN.matcher(literal).matches()) {
+                Double value = toKey(Double.parseDouble(literal));
+                if ("==".equals(operator)) {
+                    add(numberEquals, value, ruleIndex);
+                    allNumberEquals.set(ruleIndex);
+                    indexedRules.set(ruleIndex);
+
+                } else if ("<".equals(operator) || "<=".equals(operator)) {
+                    add(lessThan, value, ruleIndex);
+                    allComparisons.set(ruleIndex);
+                    indexedRules.set(ruleIndex);
+
+                } else if (">".equals(operator) || ">=".equals(operator)) {
+                    add(greaterThan, value, ruleIndex);
+                    allComparisons.set(ruleIndex);
+                    indexedRules.set(ruleIndex);
+                }
+            }
+        }
+
+        public void complete() {
+            // keep it simple for rules with more than one entry for the same input clause
+            indexedRules.andNot(rulesWithMultipleEntries);
+            allStringEquals.andNot(rulesWithMultipleEntries);
+            allNumberEquals.andNot(rulesWithMultipleEntries);
+            allComparisons.andNot(rulesWithMultipleEntries);
+
+            unindexedRules = new BitSet(ruleCount);
+            unindexedRules.set(0, ruleCount);
+            unindexedRules.andNot(indexedRules);
+        }
+
+        public boolean hasIndexedEntries() {
+            return !indexedRules.isEmpty();
+        }
+
+        /**
+         * @return the candidate rules for this column, or null if all rules are candidates
+         */
+        public BitSet findCandidates(ELExecutionContext executionContext) {
+            Object value;
+            try {
+                value = inputExpression.getValue(executionContext.getStackVariables());
+            } catch (Exception e) {
+                // leave it to the evaluation of the rules
+                return null;
+            }
+
+            BitSet candidates = (BitSet) unindexedRules.clone();
+            if (value == null) {
+                // comparing null with a literal is always false
+
+            } else if (value instanceof String) {
+                or(candidates, stringEquals.get(value));
+                // the string might be coerced to a number
+                candidates.or(allNumberEquals);
+                candidates.or(allComparisons);
+
+            } else if (isSimpleNumber(value) && !Double.isNaN(((Number) value).doubleValue())) {
+                Double key = toKey(((Number) value).doubleValue());
+                or(candidates, numberEquals.get(key));
+                // inclusive bounds: conversion to double may round, but never changes the order
+                for (BitSet rules : lessThan.tailMap(key, true).values()) {
+                    candidates.or(rules);
+                }
+                for (BitSet rules : greaterThan.headMap(key, true).values()) {
+                    candidates.or(rules);
+                }
+                // the string literals might be coerced to a number
+                candidates.or(allStringEquals);
+
+            } else {
+                return null;
+            }
+
+            return candidates;
+        }
+
+        protected <K> void add(Map<K, BitSet> index, K key, int ruleIndex) {
+            BitSet rules = index.get(key);
+            if (rules == null) {
+                rules = new BitSet(ruleCount);
+                index.put(key, rules);
+            }
+            rules.set(ruleIndex);
+        }
+
+        protected void or(BitSet candidates, BitSet rules) {
+            if (rules != null) {
+                candidates.or(rules);
+            }
+        }
+
+        protected boolean isSimpleNumber(Object value) {
+            return value instanceof Long || value instanceof Integer || value instanceof Double
+                    || value instanceof Float || value instanceof Short || value instanceof Byte;
+        }
+
+        protected Double toKey(double value) {
+            // -0.0 and 0.0 are different map keys
+            return value == 0.0 ? 0.0 : value;
+        }
+    }
+}
@@ -31,6 +31,7 @@ public class ELExecutionContext {
     protected DecisionExecutionAuditContainer auditContainer;
     protected Map<String, List<Object>> outputValues = new HashMap<>();
     protected BuiltinAggregator aggregator;
+    protected CompiledDecisionTable compiledDecisionTable;
 
     public void checkExecutionContext(String variableId) {
 
@@ -89,4 +90,12 @@ public class ELExecutionContext {
     public void setAggregator(BuiltinAggregator aggregator) {
         this.aggregator = aggregator;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
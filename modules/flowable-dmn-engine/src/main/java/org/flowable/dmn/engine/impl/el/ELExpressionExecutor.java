@@ -50,9 +50,21 @@ public class ELExpressionExecutor {
         Expression expression = expressionManager.createExpression(parsedExpression);
         RuleExpressionCondition condition = new RuleExpressionCondition(expression);
         
+        return executeInputExpression(condition, executionContext);
+    }
+
+    /**
+     * Evaluates an input entry that was compiled upfront (see {@link CompiledDecisionTable}).
+     */
+    public static Boolean executeInputExpression(RuleExpressionCondition condition, ELExecutionContext executionContext) {
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
         try {
             return condition.evaluate(executionContext.getStackVariables());
         } catch (Exception ex) {
+            String parsedExpression = condition.getExpression().getExpressionText();
             LOGGER.warn("Error while executing input entry: {}", parsedExpression, ex);
             throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
         }
@@ -74,6 +86,17 @@ public class ELExpressionExecutor {
         Expression expression = expressionManager.createExpression(parsedExpression);
         RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
 
+        return executeOutputExpression(outputExpression, outputEntry, executionContext);
+    }
+
+    /**
+     * Evaluates an output entry that was compiled upfront (see {@link CompiledDecisionTable}).
+     */
+    public static Object executeOutputExpression(RuleExpressionOutput outputExpression, LiteralExpression outputEntry, ELExecutionContext executionContext) {
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
         try {
             return outputExpression.getValue(executionContext.getStackVariables());
         } catch (Exception ex) {
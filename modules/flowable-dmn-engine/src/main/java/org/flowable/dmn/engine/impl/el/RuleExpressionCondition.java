@@ -43,4 +43,8 @@ public class RuleExpressionCondition {
         return (Boolean) result;
     }
 
+    public Expression getExpression() {
+        return expression;
+    }
+
 }
@@ -34,4 +34,8 @@ public class RuleExpressionOutput {
         return value;
     }
 
+    public Expression getExpression() {
+        return expression;
+    }
+
 }
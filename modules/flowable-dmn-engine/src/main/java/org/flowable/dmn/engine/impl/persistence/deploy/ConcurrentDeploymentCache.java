@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentWeightedCache;
+
+/**
+ * {@link DeploymentCache} that doesn't lock on reads and which can be limited by the number of entries or by weight.
+ * Use this instead of the {@link DefaultDeploymentCache} when many threads look up the cached objects concurrently.
+ */
+public class ConcurrentDeploymentCache<T> extends ConcurrentWeightedCache<T> implements DeploymentCache<T> {
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        super();
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        super(limit);
+    }
+
+    /**
+     * Cache which evicts the least recently used elements when the total weight of the cached elements exceeds the maximum weight.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, CacheWeigher<T> weigher) {
+        super(maxWeight, weigher);
+    }
+
+}
@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+
+/**
+ * Weighs a {@link DecisionTableCacheEntry} by the number of input and output entries of the rules of its decision table.
+ */
+public class DecisionTableCacheEntryWeigher implements CacheWeigher<DecisionTableCacheEntry> {
+
+    @Override
+    public int weigh(String id, DecisionTableCacheEntry cacheEntry) {
+        int weight = 1;
+        if (cacheEntry.getDecision() != null && cacheEntry.getDecision().getExpression() instanceof DecisionTable) {
+            DecisionTable decisionTable = (DecisionTable) cacheEntry.getDecision().getExpression();
+            for (DecisionRule rule : decisionTable.getRules()) {
+                weight += rule.getInputEntries().size() + rule.getOutputEntries().size();
+            }
+        }
+        return weight;
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +26,7 @@ import org.slf4j.LoggerFactory;
  * 
  * @author Joram Barrez
  */
-public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
+public class DefaultDeploymentCache<T> implements DeploymentCache<T>, DeploymentCacheStatistics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDeploymentCache.class);
 
@@ -77,9 +78,14 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         cache.clear();
     }
 
-    // For testing purposes only
+    @Override
     public int size() {
         return cache.size();
     }
 
+    @Override
+    public void recordLoadTime(long loadTimeInNanos) {
+        // No statistics are kept
+    }
+
 }
@@ -26,6 +26,7 @@ import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntity;
 import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 
 /**
  * @author Tijs Rademakers
@@ -140,6 +141,7 @@ public class DeploymentManager {
         DecisionTableCacheEntry cachedDecision = decisionCache.get(decisionId);
 
         if (cachedDecision == null) {
+            long loadStartTime = System.nanoTime();
             DmnDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<DmnResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (DmnResourceEntity resource : resources) {
@@ -149,6 +151,9 @@ public class DeploymentManager {
             deployment.setNew(false);
             deploy(deployment, null);
             cachedDecision = decisionCache.get(decisionId);
+            if (decisionCache instanceof DeploymentCacheStatistics) {
+                ((DeploymentCacheStatistics) decisionCache).recordLoadTime(System.nanoTime() - loadStartTime);
+            }
 
             if (cachedDecision == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put decision '" + decisionId + "' in the cache");
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompiledDecisionTableTest extends AbstractFlowableDmnTest {
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn")
+    public void testDecisionTableCompiledAtDeployment() {
+        DecisionTableCacheEntry cacheEntry = getCacheEntry("RiskRatingDecisionTable");
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+        Assert.assertNotNull(compiledDecisionTable);
+        Assert.assertSame(cacheEntry.getDecision().getExpression(), compiledDecisionTable.getDecisionTable());
+
+        assertRiskRatingResults(executeRiskRating());
+
+        // Executing again uses the same compiled decision table
+        assertRiskRatingResults(executeRiskRating());
+        Assert.assertSame(compiledDecisionTable, cacheEntry.getCompiledDecisionTable());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn")
+    public void testDecisionTableCompiledOnFirstExecution() {
+        DecisionTableCacheEntry cacheEntry = getCacheEntry("RiskRatingDecisionTable");
+        cacheEntry.setCompiledDecisionTable(null);
+
+        assertRiskRatingResults(executeRiskRating());
+        Assert.assertNotNull(cacheEntry.getCompiledDecisionTable());
+    }
+
+    protected DecisionTableCacheEntry getCacheEntry(String decisionKey) {
+        DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().decisionTableKey(decisionKey).singleResult();
+        return dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+    }
+
+    protected List<Map<String, Object>> executeRiskRating() {
+        Map<String, Object> processVariablesInput = new HashMap<>();
+        processVariablesInput.put("age", 17);
+        processVariablesInput.put("riskcategory", "HIGH");
+        processVariablesInput.put("debtreview", true);
+
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(processVariablesInput)
+                .execute();
+    }
+
+    protected void assertRiskRatingResults(List<Map<String, Object>> result) {
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals("DECLINE", result.get(0).get("routing"));
+        Assert.assertEquals("Applicant too young", result.get(0).get("reason"));
+        Assert.assertEquals("REFER", result.get(1).get("routing"));
+        Assert.assertEquals("Applicant under debt review", result.get(1).get("reason"));
+    }
+}
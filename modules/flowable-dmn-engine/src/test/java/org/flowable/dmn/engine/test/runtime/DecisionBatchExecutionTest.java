@@ -0,0 +1,147 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class DecisionBatchExecutionTest extends PluggableFlowableDmnTestCase {
+
+    protected static final String RISK_RATING_RESOURCE = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn";
+
+    @DmnDeploymentAnnotation(resources = RISK_RATING_RESOURCE)
+    public void testBatchResultsInOrder() {
+        List<Map<String, Object>> variablesList = createVariablesList(25);
+
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(variablesList)
+                .chunkSize(10)
+                .execute();
+
+        assertEquals(variablesList.size(), results.size());
+        for (int i = 0; i < variablesList.size(); i++) {
+            assertEquals(executeSingle(variablesList.get(i)), results.get(i));
+        }
+    }
+
+    @DmnDeploymentAnnotation(resources = RISK_RATING_RESOURCE)
+    public void testParallelBatchResultsInOrder() {
+        List<Map<String, Object>> variablesList = createVariablesList(200);
+
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(variablesList)
+                .chunkSize(7)
+                .parallel()
+                .execute();
+
+        assertEquals(variablesList.size(), results.size());
+        for (int i = 0; i < variablesList.size(); i++) {
+            assertEquals(executeSingle(variablesList.get(i)), results.get(i));
+        }
+    }
+
+    @DmnDeploymentAnnotation(resources = RISK_RATING_RESOURCE)
+    public void testBatchWithAuditTrail() {
+        List<DecisionExecutionAuditContainer> auditContainers = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(createVariablesList(3))
+                .executeWithAuditTrail();
+
+        assertEquals(3, auditContainers.size());
+        for (DecisionExecutionAuditContainer auditContainer : auditContainers) {
+            assertEquals("RiskRatingDecisionTable", auditContainer.getDecisionKey());
+            assertFalse(auditContainer.isFailed());
+        }
+    }
+
+    @DmnDeploymentAnnotation(resources = RISK_RATING_RESOURCE)
+    public void testBatchHistory() throws Exception {
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .instanceId("perExecution")
+                .variables(createVariablesList(12))
+                .execute();
+        assertEquals(12, historyService.createHistoricDecisionExecutionQuery().instanceId("perExecution").count());
+
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .instanceId("skipped")
+                .variables(createVariablesList(12))
+                .skipHistory()
+                .execute();
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().instanceId("skipped").count());
+
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .instanceId("aggregated")
+                .variables(createVariablesList(12))
+                .chunkSize(5)
+                .aggregateHistory()
+                .execute();
+        assertEquals(3, historyService.createHistoricDecisionExecutionQuery().instanceId("aggregated").count());
+
+        // Every aggregated execution holds one audit container object, with the audits of its chunk
+        int auditedExecutions = 0;
+        for (DmnHistoricDecisionExecution historicDecisionExecution : historyService.createHistoricDecisionExecutionQuery().instanceId("aggregated").list()) {
+            JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(historicDecisionExecution.getExecutionJson());
+            assertTrue(executionNode.isObject());
+            assertEquals("RiskRatingDecisionTable", executionNode.get("decisionKey").asText());
+            auditedExecutions += executionNode.get("decisionExecutions").size();
+        }
+        assertEquals(12, auditedExecutions);
+    }
+
+    public void testBatchUnknownDecision() {
+        try {
+            ruleService.createExecuteDecisionBatchBuilder()
+                    .decisionKey("unknown")
+                    .variables(createVariablesList(2))
+                    .execute();
+            fail("Expected exception");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    protected List<Map<String, Object>> executeSingle(Map<String, Object> variables) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(variables)
+                .execute();
+    }
+
+    protected List<Map<String, Object>> createVariablesList(int size) {
+        String[] riskCategories = new String[] { "HIGH", "MEDIUM", "LOW" };
+        List<Map<String, Object>> variablesList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("age", 15 + (i % 10));
+            variables.put("riskcategory", riskCategories[i % riskCategories.length]);
+            variables.put("debtreview", i % 2 == 0);
+            variablesList.add(variables);
+        }
+        return variablesList;
+    }
+}
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+
+/**
+ * Measures the throughput of executing a large FIRST decision table, with and without rule indexing.
+ * History is disabled, so that mainly the rule evaluation itself is measured.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of rules and the number of executions.
+ */
+public class RuleIndexingBenchmark {
+
+    public static void main(String[] args) {
+        int nrOfRules = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int nrOfExecutions = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        run(false, nrOfRules, nrOfExecutions);
+        run(true, nrOfRules, nrOfExecutions);
+    }
+
+    protected static void run(boolean ruleIndexingEnabled, int nrOfRules, int nrOfExecutions) {
+        DmnEngine dmnEngine = DmnEngineConfiguration.createStandaloneInMemDmnEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-dmn-rule-index-benchmark;DB_CLOSE_DELAY=1000")
+                .setHistoryEnabled(false)
+                .setRuleIndexingEnabled(ruleIndexingEnabled)
+                .buildDmnEngine();
+
+        try {
+            dmnEngine.getDmnRepositoryService().createDeployment()
+                    .addString("pricing.dmn", RuleIndexingTest.createPricingDecisionTable("pricing", "FIRST", nrOfRules))
+                    .deploy();
+
+            DmnRuleService ruleService = dmnEngine.getDmnRuleService();
+
+            // Warm up
+            for (int i = 0; i < nrOfExecutions / 10; i++) {
+                execute(ruleService, i, nrOfRules);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < nrOfExecutions; i++) {
+                execute(ruleService, i, nrOfRules);
+            }
+            long nanos = System.nanoTime() - start;
+
+            System.out.println(String.format("rule indexing %s, %d rules: %.0f executions/s",
+                    ruleIndexingEnabled ? "enabled" : "disabled", nrOfRules, nrOfExecutions / (nanos / 1e9)));
+
+        } finally {
+            dmnEngine.close();
+        }
+    }
+
+    protected static void execute(DmnRuleService ruleService, int i, int nrOfRules) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("category", RuleIndexingTest.CATEGORIES[i % RuleIndexingTest.CATEGORIES.length]);
+        variables.put("amount", (i * 31) % nrOfRules);
+
+        ruleService.createExecuteDecisionBuilder()
+                .decisionKey("pricing")
+                .variables(variables)
+                .execute();
+    }
+
+}
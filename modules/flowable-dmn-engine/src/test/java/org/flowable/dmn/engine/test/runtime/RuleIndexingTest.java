@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.engine.common.api.FlowableException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RuleIndexingTest extends AbstractFlowableDmnTest {
+
+    protected static final String[] CATEGORIES = new String[] { "gold", "silver", "bronze", "unknown" };
+
+    @Test
+    public void testIndexedDecisionTableFirst() {
+        assertSameResults("FIRST");
+    }
+
+    @Test
+    public void testIndexedDecisionTableRuleOrder() {
+        assertSameResults("RULE ORDER");
+    }
+
+    @Test
+    public void testIndexedDecisionTableCollect() {
+        assertSameResults("COLLECT");
+    }
+
+    @Test
+    public void testIndexedDecisionTableUnique() {
+        assertSameResults("UNIQUE");
+    }
+
+    @Test
+    public void testRuleIndexNotCreatedByDefault() {
+        DmnDeployment deployment = repositoryService.createDeployment()
+                .addString("pricing.dmn", createPricingDecisionTable("pricing", "FIRST", 20))
+                .deploy();
+        try {
+            Assert.assertNull(getCompiledDecisionTable("pricing").getRuleIndex());
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+    }
+
+    @Test
+    public void testExceptionOfSkippedRuleRaisedInStrictMode() {
+        dmnEngineConfiguration.setRuleIndexingEnabled(true);
+        DmnDeployment deployment = repositoryService.createDeployment()
+                .addString("failing.dmn", createFailingDecisionTable("failing"))
+                .deploy();
+        try {
+            Assert.assertNotNull(getCompiledDecisionTable("failing").getRuleIndex());
+
+            // the first entry of the first rule fails, the second entry of that rule would rule it out
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("category", "gold");
+            variables.put("amount", 7);
+
+            DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("failing")
+                    .variables(variables)
+                    .executeWithAuditTrail();
+            Assert.assertTrue(auditContainer.isFailed());
+
+        } finally {
+            dmnEngineConfiguration.setRuleIndexingEnabled(false);
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+    }
+
+    protected void assertSameResults(String hitPolicy) {
+        List<String> deploymentIds = new ArrayList<>();
+        try {
+            deploymentIds.add(repositoryService.createDeployment()
+                    .addString("pricing.dmn", createPricingDecisionTable("pricing", hitPolicy, 40))
+                    .deploy().getId());
+
+            dmnEngineConfiguration.setRuleIndexingEnabled(true);
+            deploymentIds.add(repositoryService.createDeployment()
+                    .addString("indexedPricing.dmn", createPricingDecisionTable("indexedPricing", hitPolicy, 40))
+                    .deploy().getId());
+            Assert.assertNotNull(getCompiledDecisionTable("indexedPricing").getRuleIndex());
+
+            Object[] amounts = new Object[] { -5, 0, 3, 10, 10.5, 25L, 39, 100, null };
+            for (String category : CATEGORIES) {
+                for (Object amount : amounts) {
+                    Map<String, Object> variables = new HashMap<>();
+                    variables.put("category", category);
+                    variables.put("amount", amount);
+
+                    Assert.assertEquals("category " + category + ", amount " + amount,
+                            execute("pricing", variables), execute("indexedPricing", variables));
+                }
+            }
+
+        } finally {
+            dmnEngineConfiguration.setRuleIndexingEnabled(false);
+            for (String deploymentId : deploymentIds) {
+                repositoryService.deleteDeployment(deploymentId);
+            }
+        }
+    }
+
+    protected Object execute(String decisionKey, Map<String, Object> variables) {
+        try {
+            return ruleService.createExecuteDecisionBuilder()
+                    .decisionKey(decisionKey)
+                    .variables(variables)
+                    .execute();
+
+        } catch (FlowableException e) {
+            // UNIQUE is violated for overlapping rules in strict mode, which should happen with and without index
+            return e.getMessage();
+        }
+    }
+
+    protected CompiledDecisionTable getCompiledDecisionTable(String decisionKey) {
+        DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().decisionTableKey(decisionKey).singleResult();
+        return dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).getCompiledDecisionTable();
+    }
+
+    /**
+     * Creates a decision table with a first rule of which the first input entry can't be evaluated.
+     */
+    public static String createFailingDecisionTable(String decisionKey) {
+        StringBuilder strb = new StringBuilder();
+        strb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"definition_").append(decisionKey)
+                .append("\" name=\"Failing\" namespace=\"http://www.flowable.org/dmn\">\n")
+                .append("  <decision id=\"").append(decisionKey).append("\" name=\"Failing\">\n")
+                .append("    <decisionTable id=\"decisionTable_").append(decisionKey).append("\" hitPolicy=\"FIRST\">\n")
+                .append("      <input label=\"Category\">\n")
+                .append("        <inputExpression id=\"inputExpression1\" typeRef=\"string\"><text>category</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <input label=\"Amount\">\n")
+                .append("        <inputExpression id=\"inputExpression2\" typeRef=\"number\"><text>amount</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <output id=\"outputExpression1\" label=\"Discount\" name=\"discount\" typeRef=\"number\" />\n")
+                .append("      <rule>\n")
+                .append("        <inputEntry id=\"inputEntry1_0\"><text>== amount.unknownProperty</text></inputEntry>\n")
+                .append("        <inputEntry id=\"inputEntry2_0\"><text>== 5</text></inputEntry>\n")
+                .append("        <outputEntry id=\"outputEntry1_0\"><text>0</text></outputEntry>\n")
+                .append("      </rule>\n")
+                .append("      <rule>\n")
+                .append("        <inputEntry id=\"inputEntry1_1\"><text>-</text></inputEntry>\n")
+                .append("        <inputEntry id=\"inputEntry2_1\"><text>== 7</text></inputEntry>\n")
+                .append("        <outputEntry id=\"outputEntry1_1\"><text>1</text></outputEntry>\n")
+                .append("      </rule>\n")
+                .append("    </decisionTable>\n")
+                .append("  </decision>\n")
+                .append("</definitions>\n");
+        return strb.toString();
+    }
+
+    /**
+     * Creates a decision table with a string and a number input, mixing equality, comparison and '-' entries.
+     */
+    public static String createPricingDecisionTable(String decisionKey, String hitPolicy, int ruleCount) {
+        StringBuilder strb = new StringBuilder();
+        strb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"definition_").append(decisionKey)
+                .append("\" name=\"Pricing\" namespace=\"http://www.flowable.org/dmn\">\n")
+                .append("  <decision id=\"").append(decisionKey).append("\" name=\"Pricing\">\n")
+                .append("    <decisionTable id=\"decisionTable_").append(decisionKey).append("\" hitPolicy=\"").append(hitPolicy).append("\">\n")
+                .append("      <input label=\"Category\">\n")
+                .append("        <inputExpression id=\"inputExpression1\" typeRef=\"string\"><text>category</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <input label=\"Amount\">\n")
+                .append("        <inputExpression id=\"inputExpression2\" typeRef=\"number\"><text>amount</text></inputExpression>\n")
+                .append("      </input>\n")
+                .append("      <output id=\"outputExpression1\" label=\"Discount\" name=\"discount\" typeRef=\"number\" />\n");
+
+        for (int i = 0; i < ruleCount; i++) {
+            String categoryEntry;
+            String amountEntry;
+            switch (i % 5) {
+            case 0:
+                categoryEntry = "== '" + CATEGORIES[i % 3] + "'";
+                amountEntry = "== " + i;
+                break;
+            case 1:
+                categoryEntry = "== '" + CATEGORIES[i % 3] + "'";
+                amountEntry = "&lt; " + i;
+                break;
+            case 2:
+                categoryEntry = "-";
+                amountEntry = "&gt;= " + i;
+                break;
+            case 3:
+                categoryEntry = "!= '" + CATEGORIES[i % 3] + "'";
+                amountEntry = "&gt; " + i;
+                break;
+            default:
+                categoryEntry = "== '" + CATEGORIES[i % 3] + "'";
+                amountEntry = "&lt;= " + i;
+            }
+
+            strb.append("      <rule>\n")
+                    .append("        <inputEntry id=\"inputEntry1_").append(i).append("\"><text>").append(categoryEntry).append("</text></inputEntry>\n")
+                    .append("        <inputEntry id=\"inputEntry2_").append(i).append("\"><text>").append(amountEntry).append("</text></inputEntry>\n")
+                    .append("        <outputEntry id=\"outputEntry1_").append(i).append("\"><text>").append(i).append("</text></outputEntry>\n")
+                    .append("      </rule>\n");
+        }
+
+        strb.append("    </decisionTable>\n")
+                .append("  </decision>\n")
+                .append("</definitions>\n");
+        return strb.toString();
+    }
+}
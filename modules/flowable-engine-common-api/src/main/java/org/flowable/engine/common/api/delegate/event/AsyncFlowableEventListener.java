@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.delegate.event;
+
+/**
+ * Marker for a {@link FlowableEventListener} that does not need to be notified in the thread (and transaction) that fired the event.
+ * 
+ * When an asynchronous event dispatch executor is configured, events for such a listener are buffered and handed over to that executor
+ * once the current transaction has committed. Events of a rolled back transaction are never delivered. Events belonging to the same
+ * process instance are delivered in the order they were fired.
+ * 
+ * A listener returning true for {@link #isFailOnException()} is always notified synchronously, as its exceptions need to be able to
+ * roll back the operation that fired the event.
+ */
+public interface AsyncFlowableEventListener extends FlowableEventListener {
+
+}
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.delegate.event;
+
+/**
+ * A {@link FlowableEventDispatcher} that knows which types of events its listeners are interested in, allowing the engine to skip the
+ * construction of events nobody would receive. Dispatchers that don't implement this interface are considered to listen to all events while enabled.
+ */
+public interface ListenerAwareEventDispatcher extends FlowableEventDispatcher {
+
+    /**
+     * @param type
+     *            the type of the event that is about to be dispatched
+     * @return true, if the dispatcher is enabled and at least one listener could be notified of an event of the given type.
+     */
+    boolean isListening(FlowableEventType type);
+
+}
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+import java.util.List;
+
+/**
+ * One page of results fetched with {@link KeysetPageableQuery#listKeysetPage(String, int)}.
+ */
+public interface KeysetPage<U> {
+
+    /**
+     * The results of this page, at most the requested number.
+     */
+    List<U> getResults();
+
+    /**
+     * Opaque token to pass to {@link KeysetPageableQuery#listKeysetPage(String, int)} to fetch the next page, or null when this is the last page.
+     */
+    String getContinuationToken();
+
+}
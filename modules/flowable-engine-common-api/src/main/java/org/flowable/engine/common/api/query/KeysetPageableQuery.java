@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.api.query;
+
+/**
+ * A {@link Query} that can fetch its results in keyset pages, see {@link #listKeysetPage(String, int)}.
+ * 
+ * Kept apart from {@link Query}, so that existing implementations of that interface don't need to implement keyset paging.
+ */
+public interface KeysetPageableQuery<U> {
+
+    /**
+     * Executes the query and gets the page of at most maxResults entities following the position described by the continuation token.
+     * 
+     * Unlike {@link Query#listPage(int, int)}, the position is translated into a range condition on the order property and the id, so deep pages
+     * are as cheap as the first one. The order can be set with at most one orderByXxxx method supported by the query; the id is used
+     * to break ties. Entities inserted or deleted in between pages do not cause results to be skipped or repeated, as they can with offset paging.
+     *
+     * @param continuationToken
+     *            token returned with the previous page, or null to get the first page
+     * @throws org.flowable.engine.common.api.FlowableIllegalArgumentException
+     *             when the query does not support keyset paging for its order or the token does not match the query order.
+     */
+    KeysetPage<U> listKeysetPage(String continuationToken, int maxResults);
+
+}
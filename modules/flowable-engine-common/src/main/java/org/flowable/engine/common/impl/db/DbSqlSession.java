@@ -24,7 +24,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.Page;
@@ -56,6 +61,13 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
+
+    // Only used when batched flushing is enabled on the session factory. Lazily created, as most commands are read-only
+    protected SqlSession batchSqlSession;
+
+    // Statistics of the last flush
+    protected int flushStatementCount;
+    protected int flushBatchCount;
     
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
@@ -280,6 +292,9 @@ public class DbSqlSession implements Session {
     // ////////////////////////////////////////////////////////////////////
 
     public void flush() {
+        flushStatementCount = 0;
+        flushBatchCount = 0;
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
@@ -290,6 +305,10 @@ public class DbSqlSession implements Session {
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("flush executed: {} statements in {} round trips", flushStatementCount, flushBatchCount);
+        }
     }
 
     /**
@@ -435,6 +454,8 @@ public class DbSqlSession implements Session {
 
         LOGGER.debug("inserting: {}", entity);
         sqlSession.insert(insertStatement, entity);
+        flushStatementCount++;
+        flushBatchCount++;
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -466,6 +487,8 @@ public class DbSqlSession implements Session {
                 index++;
             }
             sqlSession.insert(insertStatement, subList);
+            flushStatementCount++;
+            flushBatchCount++;
         }
 
         if (hasRevision != null && hasRevision) {
@@ -485,17 +508,19 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchedUpdates();
+            return;
+        }
 
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-            }
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
 
             LOGGER.debug("updating: {}", updatedObject);
             
             int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+            flushStatementCount++;
+            flushBatchCount++;
             if (updatedRecords == 0) {
                 throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
             }
@@ -509,6 +534,73 @@ public class DbSqlSession implements Session {
         updatedObjects.clear();
     }
 
+    /**
+     * Sends the updates as JDBC batches, in the same order as the regular flush: consecutive updates with the same statement
+     * are sent as one batch. The update counts of every batch are verified afterwards, so optimistic locking works the same as with the regular flush.
+     */
+    protected void flushBatchedUpdates() {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity updatedObject : updatedObjects) {
+            String updateStatement = getMappedUpdateStatement(updatedObject);
+            LOGGER.debug("updating (batched): {}", updatedObject);
+            batchSession.update(updateStatement, updatedObject);
+        }
+        verifyBatchResults(batchSession.flushStatements(), true);
+
+        for (Entity updatedObject : updatedObjects) {
+            // See https://activiti.atlassian.net/browse/ACT-1290
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+        updatedObjects.clear();
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    /**
+     * Checks the update count of every statement of the executed batches against the entity it was executed for.
+     * 
+     * @param checkAll when false, only entities implementing {@link HasRevision} are verified
+     */
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean checkAll) {
+        for (BatchResult batchResult : batchResults) {
+            flushBatchCount++;
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                flushStatementCount++;
+                Object entity = i < parameterObjects.size() ? parameterObjects.get(i) : null;
+
+                // Some drivers (e.g. older Oracle ones) only return SUCCESS_NO_INFO for batched statements, in which case nothing can be verified
+                if (updateCounts[i] == 0 && entity != null && (checkAll || entity instanceof HasRevision)) {
+                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link SqlSession} with a batch executor that shares the connection (and thus the transaction) of the regular session.
+     * Its {@link SharedConnectionTransaction} leaves committing and closing the connection to the regular session.
+     */
+    protected SqlSession getBatchSqlSession() {
+        if (batchSqlSession == null) {
+            Configuration configuration = dbSqlSessionFactory.getSqlSessionFactory().getConfiguration();
+            Executor executor = configuration.newExecutor(new SharedConnectionTransaction(sqlSession.getConnection()), ExecutorType.BATCH);
+            batchSqlSession = new DefaultSqlSession(configuration, executor, false);
+        }
+        return batchSqlSession;
+    }
+
     protected void flushDeletes() {
 
         if (deletedObjects.size() == 0 && bulkDeleteOperations.size() == 0) {
@@ -540,11 +632,18 @@ public class DbSqlSession implements Session {
         if (bulkDeleteOperations.containsKey(entityClass)) {
             for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
                 bulkDeleteOperation.execute(sqlSession, entityClass);
+                flushStatementCount++;
+                flushBatchCount++;
             }
         }
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchedFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
             String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
             deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
@@ -554,6 +653,8 @@ public class DbSqlSession implements Session {
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
+            flushStatementCount++;
+            flushBatchCount++;
             if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
@@ -564,17 +665,48 @@ public class DbSqlSession implements Session {
             }
         }
     }
+
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        SqlSession batchSession = getBatchSqlSession();
+        for (Entity entity : entitiesToDelete) {
+            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+            if (deleteStatement == null) {
+                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+            }
+            batchSession.delete(deleteStatement, entity);
+        }
+
+        // It only makes sense to check for optimistic locking exceptions
+        // for objects that actually have a revision
+        verifyBatchResults(batchSession.flushStatements(), false);
+    }
     
     public void close() {
+        if (batchSqlSession != null) {
+            batchSqlSession.close();
+        }
         sqlSession.close();
     }
 
     public void commit() {
-        sqlSession.commit();
+        if (batchSqlSession != null) {
+            // Only clears its first level cache: the transaction of the batch session doesn't commit the shared connection.
+            // The regular session skips its commit when it didn't execute any statement itself, hence it needs to be forced.
+            batchSqlSession.commit();
+            sqlSession.commit(true);
+        } else {
+            sqlSession.commit();
+        }
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        if (batchSqlSession != null) {
+            batchSqlSession.rollback();
+            sqlSession.rollback(true);
+        } else {
+            sqlSession.rollback();
+        }
     }
     
     public <T> T getCustomMapper(Class<T> type) {
@@ -587,6 +719,20 @@ public class DbSqlSession implements Session {
     public SqlSession getSqlSession() {
         return sqlSession;
     }
+
+    /**
+     * @return the number of statements executed by the last flush
+     */
+    public int getFlushStatementCount() {
+        return flushStatementCount;
+    }
+
+    /**
+     * @return the number of database round trips (single statements or batches) done by the last flush
+     */
+    public int getFlushBatchCount() {
+        return flushBatchCount;
+    }
     
     public DbSqlSessionFactory getDbSqlSessionFactory() {
         return dbSqlSessionFactory;
@@ -65,6 +65,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    protected boolean batchedFlushEnabled;
+
     public Class<?> getSessionType() {
         return DbSqlSession.class;
     }
@@ -194,6 +196,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
     
+    public boolean isBatchedFlushEnabled() {
+        return batchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean batchedFlushEnabled) {
+        this.batchedFlushEnabled = batchedFlushEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities with a given key for an {@link EntityCacheIndex}.
+ * When checking the cache for such a matcher, only the cached entities with that key are passed to the matcher,
+ * instead of all cached entities of the type.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+    /**
+     * Returns the index that is used to look up the cached entities that can be retained.
+     */
+    EntityCacheIndex<EntityImpl> getCacheIndex();
+
+    /**
+     * Returns the key of the {@link #getCacheIndex()} that all retained entities have for the given query parameter.
+     */
+    String getCacheIndexKey(Object parameter);
+
+}
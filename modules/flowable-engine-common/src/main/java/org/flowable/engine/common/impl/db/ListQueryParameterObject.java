@@ -14,8 +14,11 @@
 package org.flowable.engine.common.impl.db;
 
 import org.flowable.engine.common.AbstractEngineConfiguration;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.query.Query.NullHandlingOnOrder;
 import org.flowable.engine.common.api.query.QueryProperty;
+import org.flowable.engine.common.impl.query.KeysetToken;
 
 /**
  * @author Tijs Rademakers
@@ -30,6 +33,8 @@ public class ListQueryParameterObject {
     public static final String SORTORDER_ASC = "asc";
     public static final String SORTORDER_DESC = "desc";
 
+    public static final String KEYSET_ID_COLUMN = "RES.ID_";
+
     protected int firstResult = -1;
     protected int maxResults = -1;
     protected Object parameter;
@@ -39,6 +44,17 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+
+    // keyset paging, see KeysetPageableQuery#listKeysetPage
+    protected int orderCount;
+    protected String firstOrderColumn;
+    protected String firstSortOrder;
+    protected boolean nullHandlingOrder;
+    protected String orderByColumnsWithoutKeysetId;
+    protected String keysetColumn;
+    protected boolean keysetDescending;
+    protected Object keysetValue;
+    protected String keysetId;
     
     public ListQueryParameterObject() {
         
@@ -52,6 +68,14 @@ public class ListQueryParameterObject {
     
     protected void addOrder(String column, String sortOrder, NullHandlingOnOrder nullHandlingOnOrder) {
 
+        if (orderCount++ == 0) {
+            firstOrderColumn = column;
+            firstSortOrder = sortOrder;
+        }
+        if (nullHandlingOnOrder != null) {
+            nullHandlingOrder = true;
+        }
+
         if (orderByColumns == null) {
             orderByColumns = "";
         } else {
@@ -114,6 +138,87 @@ public class ListQueryParameterObject {
 
     }
     
+    /**
+     * Sets the range condition for fetching the keyset page following the continuation token (null for the first page) and makes sure the
+     * id is used to break ties in the order.
+     */
+    protected void initKeyset(String continuationToken) {
+        if (orderCount > 1 || nullHandlingOrder || (orderCount == 0 && orderByColumns != null)) {
+            throw new FlowableIllegalArgumentException("Keyset paging only supports ordering by a single property, without null handling");
+        }
+
+        String column = orderCount == 1 ? firstOrderColumn : KEYSET_ID_COLUMN;
+        if (!isKeysetColumnSupported(column)) {
+            throw new FlowableIllegalArgumentException("Keyset paging is not supported by " + getClass().getSimpleName() + " when ordering by " + column);
+        }
+
+        keysetColumn = column;
+        keysetDescending = orderCount == 1 && SORTORDER_DESC.equals(firstSortOrder);
+        keysetValue = null;
+        keysetId = null;
+
+        if (!KEYSET_ID_COLUMN.equals(column)) {
+            // undone by clearKeyset, so the query can be reused for other kinds of paging
+            orderByColumnsWithoutKeysetId = orderByColumns;
+            orderByColumns = orderByColumns + ", " + KEYSET_ID_COLUMN + " " + firstSortOrder;
+        }
+
+        if (continuationToken != null && continuationToken.length() > 0) {
+            KeysetToken token = KeysetToken.decode(continuationToken);
+            if (!column.equals(token.getColumn()) || keysetDescending != token.isDescending()) {
+                throw new FlowableIllegalArgumentException("Continuation token does not match the order of the query");
+            }
+            keysetId = token.getId();
+            if (!KEYSET_ID_COLUMN.equals(column)) {
+                keysetValue = token.getValue();
+                if (keysetValue == null) {
+                    throw new FlowableIllegalArgumentException("Invalid continuation token '" + continuationToken + "'");
+                }
+            }
+        }
+    }
+
+    protected String createKeysetToken(Object value, String id) {
+        if (value == null) {
+            throw new FlowableException("Keyset paging requires a value for " + keysetColumn + ", which is null for result " + id);
+        }
+        return new KeysetToken(keysetColumn, keysetDescending, value, id).encode();
+    }
+
+    protected void clearKeyset() {
+        if (orderByColumnsWithoutKeysetId != null) {
+            orderByColumns = orderByColumnsWithoutKeysetId;
+            orderByColumnsWithoutKeysetId = null;
+        }
+        keysetColumn = null;
+        keysetValue = null;
+        keysetId = null;
+    }
+
+    /**
+     * Queries supporting keyset paging include the org.flowable.engine.db.common.keysetCondition sql in their mapping and return true
+     * for the (non-null) columns they allow ordering on.
+     */
+    protected boolean isKeysetColumnSupported(String column) {
+        return false;
+    }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    public String getKeysetOperator() {
+        return keysetDescending ? "<" : ">";
+    }
+
+    public Object getKeysetValue() {
+        return keysetValue;
+    }
+
+    public String getKeysetId() {
+        return keysetId;
+    }
+
     public int getFirstResult() {
         return firstResult;
     }
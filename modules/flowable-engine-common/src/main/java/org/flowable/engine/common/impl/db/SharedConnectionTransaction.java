@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.apache.ibatis.transaction.Transaction;
+
+/**
+ * MyBatis {@link Transaction} for an additional {@link org.apache.ibatis.session.SqlSession} that works on the connection of another session.
+ * 
+ * Committing, rolling back and closing are left to the session owning the connection, so closing the additional session
+ * only releases its own statements and first level cache, and never the shared connection.
+ */
+public class SharedConnectionTransaction implements Transaction {
+
+    protected Connection connection;
+
+    public SharedConnectionTransaction(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection;
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        // Done by the session owning the connection
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        // Done by the session owning the connection
+    }
+
+    @Override
+    public void close() throws SQLException {
+        // Done by the session owning the connection
+    }
+
+    @Override
+    public Integer getTimeout() throws SQLException {
+        return null;
+    }
+
+}
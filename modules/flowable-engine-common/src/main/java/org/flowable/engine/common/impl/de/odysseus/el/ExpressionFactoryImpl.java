@@ -70,6 +70,9 @@ import org.flowable.engine.common.impl.javax.el.ExpressionFactory;
  * <li>
  * <code>javax.el.varArgs</code> - support function/method calls using varargs (boolean, default is
  * <code>false</code>).</li>
+ * <li>
+ * <code>javax.el.compileExpressions</code> - compile value expressions instead of interpreting
+ * their parse tree (boolean, default is <code>false</code>).</li>
  * </ul>
  * 
  * @author Christoph Beck
@@ -133,9 +136,16 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	 */
 	public static final String PROP_CACHE_SIZE = "javax.el.cacheSize";
 
+	/**
+	 * <code>javax.el.compileExpressions</code>
+	 */
+	public static final String PROP_COMPILE_EXPRESSIONS = "javax.el.compileExpressions";
+
 	private final TreeStore store;
 	private final TypeConverter converter;
 
+	private boolean compileExpressions;
+
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
 	 * builder and cache are configured from <code>el.properties</code> (see above). The maximum
@@ -161,6 +171,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		Properties properties = loadProperties("el.properties");
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileExpressions = getCompileExpressionsProperty(properties);
 	}
 
 	/**
@@ -191,6 +202,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = createTypeConverter(properties);
+		this.compileExpressions = getCompileExpressionsProperty(properties);
 	}
 
 	/**
@@ -225,6 +237,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	public ExpressionFactoryImpl(Profile profile, Properties properties, TypeConverter converter) {
 		this.store = createTreeStore(1000, profile, properties);
 		this.converter = converter;
+		this.compileExpressions = getCompileExpressionsProperty(properties);
 	}
 
 	/**
@@ -309,6 +322,28 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		return properties;
 	}
 
+	private boolean getCompileExpressionsProperty(Properties properties) {
+		return properties != null && Boolean.valueOf(properties.getProperty(PROP_COMPILE_EXPRESSIONS));
+	}
+
+	/**
+	 * Answer <code>true</code> if value expressions created by this factory are compiled.
+	 */
+	public boolean isCompileExpressions() {
+		return compileExpressions;
+	}
+
+	/**
+	 * Specify whether value expressions created by this factory should be compiled (see
+	 * {@link org.flowable.engine.common.impl.de.odysseus.el.tree.impl.compiler.ExpressionCompiler}).
+	 * Compiled expressions give the same results, but evaluate operators without walking the parse
+	 * tree. Defaults to <code>false</code>, unless property <code>javax.el.compileExpressions</code>
+	 * is set.
+	 */
+	public void setCompileExpressions(boolean compileExpressions) {
+		this.compileExpressions = compileExpressions;
+	}
+
 	private boolean getFeatureProperty(Profile profile, Properties properties, Feature feature, String property) {
 		return Boolean.valueOf(properties.getProperty(property, String.valueOf(profile.contains(feature))));
 	}
@@ -442,7 +477,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compileExpressions);
 	}
 
 	@Override
@@ -27,6 +27,8 @@ import org.flowable.engine.common.impl.de.odysseus.el.tree.NodePrinter;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.Tree;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.TreeBuilder;
 import org.flowable.engine.common.impl.de.odysseus.el.tree.TreeStore;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.compiler.CompiledExpression;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.compiler.ExpressionCompiler;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.javax.el.ELException;
 import org.flowable.engine.common.impl.javax.el.FunctionMapper;
@@ -51,8 +53,10 @@ public final class TreeValueExpression extends ValueExpression {
 	private final String expr;
 	private final Class<?> type;
 	private final boolean deferred;
+	private final boolean compile;
 
 	private transient ExpressionNode node;
+	private transient CompiledExpression compiled;
 
 	private String structure;
 
@@ -65,6 +69,20 @@ public final class TreeValueExpression extends ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, false);
+	}
+
+	/**
+	 * Create a new value expression.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compile whether to compile the parse tree (see {@link ExpressionCompiler}) and use the
+	 * compiled form for rvalue evaluation
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type, boolean compile) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -75,10 +93,15 @@ public final class TreeValueExpression extends ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compile = compile;
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
 		}
+
+		if (compile) {
+			this.compiled = new ExpressionCompiler(bindings).compile(node);
+		}
 	}
 
 	private String getStructuralId() {
@@ -119,6 +142,9 @@ public final class TreeValueExpression extends ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
+		if (compiled != null) {
+			return compiled.getValue(bindings, context, type);
+		}
 		return node.getValue(bindings, context, type);
 	}
 
@@ -224,6 +250,9 @@ public final class TreeValueExpression extends ValueExpression {
 		in.defaultReadObject();
 		try {
 			node = builder.build(expr).getRoot();
+			if (compile) {
+				compiled = new ExpressionCompiler(bindings).compile(node);
+			}
 		} catch (ELException e) {
 			throw new IOException(e.getMessage());
 		}
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.de.odysseus.el.tree.impl.compiler;
+
+import org.flowable.engine.common.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.engine.common.impl.javax.el.ELContext;
+
+/**
+ * An expression compiled by the {@link ExpressionCompiler}. Evaluation gives the same result as
+ * evaluating the parse tree it was compiled from, but without walking the tree.
+ */
+public abstract class CompiledExpression {
+
+	/**
+	 * Evaluate the expression and answer the (uncoerced) result.
+	 */
+	public abstract Object eval(Bindings bindings, ELContext context);
+
+	/**
+	 * Evaluate the expression and coerce the result to the given type (if not <code>null</code>).
+	 */
+	public Object getValue(Bindings bindings, ELContext context, Class<?> type) {
+		Object value = eval(bindings, context);
+		if (type != null) {
+			value = bindings.convert(value, type);
+		}
+		return value;
+	}
+
+	/**
+	 * Answer <code>true</code> if the result doesn't depend on the context.
+	 */
+	public boolean isConstant() {
+		return false;
+	}
+}
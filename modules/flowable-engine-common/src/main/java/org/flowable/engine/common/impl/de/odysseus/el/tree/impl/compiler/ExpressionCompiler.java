@@ -0,0 +1,436 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.de.odysseus.el.tree.impl.compiler;
+
+import org.flowable.engine.common.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.engine.common.impl.de.odysseus.el.misc.NumberOperations;
+import org.flowable.engine.common.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.engine.common.impl.de.odysseus.el.misc.TypeConverterImpl;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.engine.common.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.engine.common.impl.javax.el.ELContext;
+
+/**
+ * Compiles a parse tree into a tree of {@link CompiledExpression}s.
+ * <p>
+ * Literals are turned into constants (operations on constants are folded), nested and eval nodes
+ * are unwrapped, and operators are evaluated directly with fast paths for the simple number types
+ * (<code>Long</code>, <code>Integer</code>, <code>Short</code>, <code>Byte</code>, <code>Double</code>
+ * and <code>Float</code>). All other values go through {@link NumberOperations} and
+ * {@link BooleanOperations}, just like the interpreter does. Nodes the compiler doesn't know about
+ * (identifiers, properties, method and function calls, composite text) are evaluated by the
+ * interpreter.
+ * <p>
+ * The number fast paths bypass the type converter and are therefore only used with the default
+ * type converter.
+ */
+public class ExpressionCompiler {
+
+	protected final Bindings bindings;
+	protected final boolean numberFastPaths;
+
+	public ExpressionCompiler(Bindings bindings) {
+		this.bindings = bindings;
+		this.numberFastPaths = bindings.getConverter().getClass() == TypeConverterImpl.class;
+	}
+
+	/**
+	 * Compile the given parse tree (root).
+	 * 
+	 * @return the compiled expression, or <code>null</code> if the node can't be compiled
+	 */
+	public CompiledExpression compile(ExpressionNode node) {
+		if (node instanceof AstNode) {
+			return compileNode((AstNode) node);
+		}
+		return null;
+	}
+
+	protected CompiledExpression compileNode(AstNode node) {
+		if (node instanceof AstEval) {
+			return compileNode(((AstEval) node).getChild(0));
+		}
+		if (node instanceof AstNested) {
+			return compileNode(((AstNested) node).getChild(0));
+		}
+		if (node instanceof AstNumber || node instanceof AstString || node instanceof AstBoolean || node instanceof AstNull || node instanceof AstText) {
+			return new Constant(node.eval(bindings, null));
+		}
+		if (node instanceof AstBinary) {
+			return fold(compileBinary((AstBinary) node));
+		}
+		if (node instanceof AstUnary) {
+			return fold(compileUnary((AstUnary) node));
+		}
+		if (node instanceof AstChoice) {
+			AstChoice choice = (AstChoice) node;
+			CompiledExpression question = compileNode(choice.getChild(0));
+			CompiledExpression yes = compileNode(choice.getChild(1));
+			CompiledExpression no = compileNode(choice.getChild(2));
+			if (question.isConstant()) {
+				try {
+					return bindings.convert(question.eval(bindings, null), Boolean.class) ? yes : no;
+				} catch (RuntimeException e) {
+					// leave it to evaluation time
+				}
+			}
+			return new Choice(question, yes, no);
+		}
+		return new Interpreted(node);
+	}
+
+	protected CompiledExpression compileBinary(AstBinary node) {
+		AstBinary.Operator operator = node.getOperator();
+		if (operator == AstBinary.AND) {
+			return new And(compileNode(node.getChild(0)), compileNode(node.getChild(1)));
+		}
+		if (operator == AstBinary.OR) {
+			return new Or(compileNode(node.getChild(0)), compileNode(node.getChild(1)));
+		}
+		BinaryOperation operation = getBinaryOperation(operator);
+		if (operation == null) {
+			return new Interpreted(node);
+		}
+		return new Binary(operation, compileNode(node.getChild(0)), compileNode(node.getChild(1)), numberFastPaths);
+	}
+
+	protected CompiledExpression compileUnary(AstUnary node) {
+		AstUnary.Operator operator = node.getOperator();
+		CompiledExpression child = compileNode(node.getChild(0));
+		if (operator == AstUnary.NOT) {
+			return new Not(child);
+		}
+		if (operator == AstUnary.NEG) {
+			return new Neg(child);
+		}
+		if (operator == AstUnary.EMPTY) {
+			return new Empty(child);
+		}
+		return new Interpreted(node);
+	}
+
+	protected CompiledExpression fold(CompiledExpression expression) {
+		if (expression instanceof Operation && ((Operation) expression).hasConstantOperands()) {
+			try {
+				return new Constant(expression.eval(bindings, null));
+			} catch (RuntimeException e) {
+				// let evaluation fail the same way the interpreter does
+			}
+		}
+		return expression;
+	}
+
+	protected BinaryOperation getBinaryOperation(AstBinary.Operator operator) {
+		if (operator == AstBinary.ADD) {
+			return BinaryOperation.ADD;
+		} else if (operator == AstBinary.SUB) {
+			return BinaryOperation.SUB;
+		} else if (operator == AstBinary.MUL) {
+			return BinaryOperation.MUL;
+		} else if (operator == AstBinary.DIV) {
+			return BinaryOperation.DIV;
+		} else if (operator == AstBinary.MOD) {
+			return BinaryOperation.MOD;
+		} else if (operator == AstBinary.EQ) {
+			return BinaryOperation.EQ;
+		} else if (operator == AstBinary.NE) {
+			return BinaryOperation.NE;
+		} else if (operator == AstBinary.LT) {
+			return BinaryOperation.LT;
+		} else if (operator == AstBinary.GT) {
+			return BinaryOperation.GT;
+		} else if (operator == AstBinary.LE) {
+			return BinaryOperation.LE;
+		} else if (operator == AstBinary.GE) {
+			return BinaryOperation.GE;
+		}
+		return null;
+	}
+
+	protected static boolean isSimpleInteger(Object value) {
+		Class<?> type = value.getClass();
+		return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+	}
+
+	protected static boolean isSimpleFloat(Object value) {
+		Class<?> type = value.getClass();
+		return type == Double.class || type == Float.class;
+	}
+
+	/**
+	 * The binary operators with their primitive fast paths. The fast paths are only taken when both
+	 * operands are simple numbers, in which case they give the same result as {@link NumberOperations}
+	 * and {@link BooleanOperations}.
+	 */
+	protected enum BinaryOperation {
+		ADD {
+			@Override Object applyLong(long l, long r) { return l + r; }
+			@Override Object applyDouble(double l, double r) { return l + r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return NumberOperations.add(converter, l, r); }
+		},
+		SUB {
+			@Override Object applyLong(long l, long r) { return l - r; }
+			@Override Object applyDouble(double l, double r) { return l - r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return NumberOperations.sub(converter, l, r); }
+		},
+		MUL {
+			@Override Object applyLong(long l, long r) { return l * r; }
+			@Override Object applyDouble(double l, double r) { return l * r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return NumberOperations.mul(converter, l, r); }
+		},
+		DIV {
+			// EL division of simple numbers is always done in double precision
+			@Override Object applyLong(long l, long r) { return (double) l / (double) r; }
+			@Override Object applyDouble(double l, double r) { return l / r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return NumberOperations.div(converter, l, r); }
+		},
+		MOD {
+			@Override Object applyLong(long l, long r) { return l % r; }
+			@Override Object applyDouble(double l, double r) { return l % r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return NumberOperations.mod(converter, l, r); }
+		},
+		EQ {
+			@Override Object applyLong(long l, long r) { return l == r; }
+			// Double.equals() semantics, as used by BooleanOperations.eq()
+			@Override Object applyDouble(double l, double r) { return Double.doubleToLongBits(l) == Double.doubleToLongBits(r); }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.eq(converter, l, r); }
+		},
+		NE {
+			@Override Object applyLong(long l, long r) { return l != r; }
+			@Override Object applyDouble(double l, double r) { return Double.doubleToLongBits(l) != Double.doubleToLongBits(r); }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.ne(converter, l, r); }
+		},
+		LT {
+			@Override Object applyLong(long l, long r) { return l < r; }
+			@Override Object applyDouble(double l, double r) { return l < r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.lt(converter, l, r); }
+		},
+		GT {
+			@Override Object applyLong(long l, long r) { return l > r; }
+			@Override Object applyDouble(double l, double r) { return l > r; }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.gt(converter, l, r); }
+		},
+		LE {
+			// BooleanOperations.le() is defined as !gt(), which matters for NaN
+			@Override Object applyLong(long l, long r) { return l <= r; }
+			@Override Object applyDouble(double l, double r) { return !(l > r); }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.le(converter, l, r); }
+		},
+		GE {
+			@Override Object applyLong(long l, long r) { return l >= r; }
+			@Override Object applyDouble(double l, double r) { return !(l < r); }
+			@Override Object apply(TypeConverter converter, Object l, Object r) { return BooleanOperations.ge(converter, l, r); }
+		};
+
+		abstract Object applyLong(long l, long r);
+
+		abstract Object applyDouble(double l, double r);
+
+		abstract Object apply(TypeConverter converter, Object l, Object r);
+	}
+
+	protected abstract static class Operation extends CompiledExpression {
+		abstract boolean hasConstantOperands();
+	}
+
+	protected static final class Constant extends CompiledExpression {
+		private final Object value;
+
+		Constant(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			return value;
+		}
+
+		@Override
+		public boolean isConstant() {
+			return true;
+		}
+	}
+
+	protected static final class Interpreted extends CompiledExpression {
+		private final AstNode node;
+
+		Interpreted(AstNode node) {
+			this.node = node;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			return node.eval(bindings, context);
+		}
+	}
+
+	protected static final class Binary extends Operation {
+		private final BinaryOperation operation;
+		private final CompiledExpression left, right;
+		private final boolean numberFastPaths;
+
+		Binary(BinaryOperation operation, CompiledExpression left, CompiledExpression right, boolean numberFastPaths) {
+			this.operation = operation;
+			this.left = left;
+			this.right = right;
+			this.numberFastPaths = numberFastPaths;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Object l = left.eval(bindings, context);
+			Object r = right.eval(bindings, context);
+			if (numberFastPaths && l != null && r != null) {
+				boolean integerLeft = isSimpleInteger(l);
+				boolean integerRight = isSimpleInteger(r);
+				if (integerLeft && integerRight) {
+					return operation.applyLong(((Number) l).longValue(), ((Number) r).longValue());
+				}
+				if ((integerLeft || isSimpleFloat(l)) && (integerRight || isSimpleFloat(r))) {
+					return operation.applyDouble(((Number) l).doubleValue(), ((Number) r).doubleValue());
+				}
+			}
+			return operation.apply(bindings, l, r);
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return left.isConstant() && right.isConstant();
+		}
+	}
+
+	protected static final class And extends Operation {
+		private final CompiledExpression left, right;
+
+		And(CompiledExpression left, CompiledExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+			return Boolean.TRUE.equals(l) ? bindings.convert(right.eval(bindings, context), Boolean.class) : Boolean.FALSE;
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return left.isConstant() && right.isConstant();
+		}
+	}
+
+	protected static final class Or extends Operation {
+		private final CompiledExpression left, right;
+
+		Or(CompiledExpression left, CompiledExpression right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Boolean l = bindings.convert(left.eval(bindings, context), Boolean.class);
+			return Boolean.TRUE.equals(l) ? Boolean.TRUE : bindings.convert(right.eval(bindings, context), Boolean.class);
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return left.isConstant() && right.isConstant();
+		}
+	}
+
+	protected static final class Not extends Operation {
+		private final CompiledExpression child;
+
+		Not(CompiledExpression child) {
+			this.child = child;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Object value = child.eval(bindings, context);
+			if (value instanceof Boolean) {
+				return !((Boolean) value).booleanValue();
+			}
+			return !bindings.convert(value, Boolean.class);
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return child.isConstant();
+		}
+	}
+
+	protected static final class Neg extends Operation {
+		private final CompiledExpression child;
+
+		Neg(CompiledExpression child) {
+			this.child = child;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			return NumberOperations.neg(bindings, child.eval(bindings, context));
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return child.isConstant();
+		}
+	}
+
+	protected static final class Empty extends Operation {
+		private final CompiledExpression child;
+
+		Empty(CompiledExpression child) {
+			this.child = child;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			return BooleanOperations.empty(bindings, child.eval(bindings, context));
+		}
+
+		@Override
+		boolean hasConstantOperands() {
+			return child.isConstant();
+		}
+	}
+
+	protected static final class Choice extends CompiledExpression {
+		private final CompiledExpression question, yes, no;
+
+		Choice(CompiledExpression question, CompiledExpression yes, CompiledExpression no) {
+			this.question = question;
+			this.yes = yes;
+			this.no = no;
+		}
+
+		@Override
+		public Object eval(Bindings bindings, ELContext context) {
+			Boolean value = bindings.convert(question.eval(bindings, context), Boolean.class);
+			return value.booleanValue() ? yes.eval(bindings, context) : no.eval(bindings, context);
+		}
+	}
+}
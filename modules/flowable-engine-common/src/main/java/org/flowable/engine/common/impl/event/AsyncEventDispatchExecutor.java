@@ -0,0 +1,303 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link org.flowable.engine.common.api.delegate.event.AsyncFlowableEventListener}s on a dedicated set of threads.
+ * 
+ * The executor consists of a number of lanes, each backed by a single thread and a bounded queue. Events are assigned to a lane based on
+ * their process instance id, which guarantees that the events of one process instance are delivered in the order they were fired. Events
+ * without a process instance id all go to the first lane.
+ * 
+ * When the queue of a lane is full, the configured {@link BackpressureStrategy} decides what happens with a new event.
+ * 
+ * The lanes are started with the first event, or by calling {@link #start()}. Once {@link #shutdown()} has been called, the executor
+ * isn't started again by new events: these are delivered in the thread firing them, until {@link #start()} is called explicitly.
+ */
+public class AsyncEventDispatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventDispatchExecutor.class);
+
+    public static final int DEFAULT_NUMBER_OF_LANES = 4;
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS = 10000L;
+    public static final long DEFAULT_BLOCK_POLL_INTERVAL_IN_MILLIS = 100L;
+
+    public enum BackpressureStrategy {
+
+        /** The thread firing the event waits until there is room in the queue. */
+        BLOCK,
+
+        /** The event is dropped for the listener and a warning is logged. */
+        DISCARD,
+
+        /** The listener is notified in the thread firing the event (after the transaction has committed). */
+        CALLER_RUNS
+    }
+
+    protected int numberOfLanes = DEFAULT_NUMBER_OF_LANES;
+    protected int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+    protected long shutdownTimeoutInMillis = DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS;
+    protected BackpressureStrategy backpressureStrategy = BackpressureStrategy.BLOCK;
+    protected String threadNamePrefix = "flowable-async-event-dispatch-";
+
+    protected volatile ThreadPoolExecutor[] lanes;
+    protected volatile boolean shutdown;
+    protected AtomicLong discardedEventCount = new AtomicLong();
+
+    public AsyncEventDispatchExecutor() {
+    }
+
+    public AsyncEventDispatchExecutor(int numberOfLanes, int queueCapacity, BackpressureStrategy backpressureStrategy) {
+        this.numberOfLanes = numberOfLanes;
+        this.queueCapacity = queueCapacity;
+        this.backpressureStrategy = backpressureStrategy;
+    }
+
+    public synchronized void start() {
+        if (lanes != null) {
+            return;
+        }
+
+        if (numberOfLanes < 1) {
+            throw new FlowableIllegalArgumentException("The number of lanes must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new FlowableIllegalArgumentException("The queue capacity must be at least 1");
+        }
+
+        ThreadPoolExecutor[] newLanes = new ThreadPoolExecutor[numberOfLanes];
+        for (int i = 0; i < numberOfLanes; i++) {
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<Runnable>(queueCapacity), createThreadFactory(threadNamePrefix + i));
+            lane.setRejectedExecutionHandler(createRejectedExecutionHandler());
+            newLanes[i] = lane;
+        }
+        lanes = newLanes;
+        shutdown = false;
+
+        LOGGER.info("Started async event dispatch executor with {} lanes, a queue capacity of {} and backpressure strategy {}",
+                numberOfLanes, queueCapacity, backpressureStrategy);
+    }
+
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (lanes == null) {
+            return;
+        }
+
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Timeout while waiting for the async event dispatch lanes to finish, {} events are not delivered",
+                            lane.shutdownNow().size());
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async event dispatch executor", e);
+            Thread.currentThread().interrupt();
+        }
+
+        lanes = null;
+    }
+
+    public boolean isActive() {
+        return lanes != null;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public void dispatch(final FlowableEvent event, final FlowableEventListener listener) {
+        Runnable notification = new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    listener.onEvent(event);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception while executing asynchronous event-listener, which was ignored", t);
+                }
+            }
+
+        };
+
+        ThreadPoolExecutor[] currentLanes = lanes;
+        if (currentLanes == null) {
+            currentLanes = startUnlessShutdown();
+            if (currentLanes == null) {
+                runAfterShutdown(notification);
+                return;
+            }
+        }
+
+        currentLanes[getLaneIndex(event, currentLanes.length)].execute(notification);
+    }
+
+    protected synchronized ThreadPoolExecutor[] startUnlessShutdown() {
+        if (!shutdown) {
+            start();
+        }
+        return lanes;
+    }
+
+    /**
+     * No lane will pick up an event anymore once the executor is shut down, so the listener is notified in the thread firing the event.
+     */
+    protected void runAfterShutdown(Runnable notification) {
+        LOGGER.debug("Async event dispatch executor is shut down, event is delivered in the calling thread");
+        notification.run();
+    }
+
+    protected int getLaneIndex(FlowableEvent event, int laneCount) {
+        if (laneCount == 1 || !(event instanceof FlowableEngineEvent)) {
+            return 0;
+        }
+
+        String processInstanceId = ((FlowableEngineEvent) event).getProcessInstanceId();
+        if (processInstanceId == null) {
+            return 0;
+        }
+        return (processInstanceId.hashCode() & Integer.MAX_VALUE) % laneCount;
+    }
+
+    protected ThreadFactory createThreadFactory(final String threadName) {
+        return new ThreadFactory() {
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }
+
+        };
+    }
+
+    protected RejectedExecutionHandler createRejectedExecutionHandler() {
+        return new RejectedExecutionHandler() {
+
+            @Override
+            public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                if (executor.isShutdown()) {
+                    runAfterShutdown(runnable);
+                    return;
+                }
+
+                switch (backpressureStrategy) {
+                case DISCARD:
+                    discardedEventCount.incrementAndGet();
+                    LOGGER.warn("Async event dispatch queue is full, event is discarded");
+                    break;
+
+                case CALLER_RUNS:
+                    runnable.run();
+                    break;
+
+                default:
+                    waitForRoomInQueue(runnable, executor);
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Puts the runnable in the queue of the lane as soon as there is room. A lane can be shut down while waiting, after which its thread
+     * could already have stopped taking runnables from the queue: the runnable is then taken back and run in the calling thread.
+     */
+    protected void waitForRoomInQueue(Runnable runnable, ThreadPoolExecutor executor) {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        try {
+            while (!executor.isShutdown()) {
+                if (queue.offer(runnable, DEFAULT_BLOCK_POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (executor.isShutdown() && queue.remove(runnable)) {
+                        runAfterShutdown(runnable);
+                    }
+                    return;
+                }
+            }
+            runAfterShutdown(runnable);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discardedEventCount.incrementAndGet();
+            LOGGER.warn("Interrupted while waiting for room in the async event dispatch queue, event is discarded");
+        }
+    }
+
+    public long getDiscardedEventCount() {
+        return discardedEventCount.get();
+    }
+
+    public int getNumberOfLanes() {
+        return numberOfLanes;
+    }
+
+    public void setNumberOfLanes(int numberOfLanes) {
+        this.numberOfLanes = numberOfLanes;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getShutdownTimeoutInMillis() {
+        return shutdownTimeoutInMillis;
+    }
+
+    public void setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+    }
+
+    public BackpressureStrategy getBackpressureStrategy() {
+        return backpressureStrategy;
+    }
+
+    public void setBackpressureStrategy(BackpressureStrategy backpressureStrategy) {
+        this.backpressureStrategy = backpressureStrategy;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+}
@@ -14,9 +14,9 @@ package org.flowable.engine.common.impl.event;
 
 import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
-import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.api.delegate.event.ListenerAwareEventDispatcher;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 
@@ -25,7 +25,7 @@ import org.flowable.engine.common.impl.interceptor.CommandContext;
  * 
  * @author Frederik Heremans
  */
-public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
+public class FlowableEventDispatcherImpl implements ListenerAwareEventDispatcher {
 
     protected FlowableEventSupport eventSupport;
     protected boolean enabled = true;
@@ -74,6 +74,39 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    @Override
+    public boolean isListening(FlowableEventType type) {
+        if (!enabled) {
+            return false;
+        }
+
+        if (eventSupport.isListening(type)) {
+            return true;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AbstractEngineConfiguration engineConfiguration = commandContext.getCurrentEngineConfiguration();
+            if (engineConfiguration != null && engineConfiguration.getAdditionalEventDispatchActions() != null) {
+                for (EventDispatchAction eventDispatchAction : engineConfiguration.getAdditionalEventDispatchActions()) {
+                    if (!(eventDispatchAction instanceof ListenerAwareEventDispatchAction)
+                            || ((ListenerAwareEventDispatchAction) eventDispatchAction).isListening(type)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public AsyncEventDispatchExecutor getAsyncEventDispatchExecutor() {
+        return eventSupport.getAsyncEventDispatchExecutor();
+    }
+
+    public void setAsyncEventDispatchExecutor(AsyncEventDispatchExecutor asyncEventDispatchExecutor) {
+        eventSupport.setAsyncEventDispatchExecutor(asyncEventDispatchExecutor);
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
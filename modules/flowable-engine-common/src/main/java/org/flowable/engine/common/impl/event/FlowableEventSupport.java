@@ -12,16 +12,27 @@
  */
 package org.flowable.engine.common.impl.event;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.AsyncFlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +47,12 @@ public class FlowableEventSupport {
 
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected AsyncEventDispatchExecutor asyncEventDispatchExecutor;
+
+    // Precomputed from the registered listeners, so that isListening doesn't need to look at the listener collections
+    protected volatile boolean listeningToAllEvents;
+    protected volatile boolean[] listeningToEngineEventTypes = new boolean[FlowableEngineEventType.values().length];
+    protected volatile Set<FlowableEventType> listeningToOtherEventTypes = Collections.emptySet();
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
@@ -49,6 +66,7 @@ public class FlowableEventSupport {
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
         }
+        updateListeningFlags();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
@@ -72,6 +90,22 @@ public class FlowableEventSupport {
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+        updateListeningFlags();
+    }
+
+    /**
+     * @return true, if at least one listener is registered for all events or for the given type of event.
+     */
+    public boolean isListening(FlowableEventType type) {
+        if (listeningToAllEvents) {
+            return true;
+        }
+
+        if (type instanceof FlowableEngineEventType) {
+            return listeningToEngineEventTypes[((FlowableEngineEventType) type).ordinal()];
+        }
+
+        return listeningToOtherEventTypes.contains(type);
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -100,6 +134,11 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
+        if (asyncEventDispatchExecutor != null && listener instanceof AsyncFlowableEventListener && !listener.isFailOnException()) {
+            dispatchEventAfterCommit(event, listener);
+            return;
+        }
+
         try {
             listener.onEvent(event);
         } catch (Throwable t) {
@@ -113,6 +152,53 @@ public class FlowableEventSupport {
         }
     }
 
+    /**
+     * Buffers the event for the given listener until the current transaction has committed. Only then the buffered events are handed
+     * over, in the order they were fired, to the {@link AsyncEventDispatchExecutor}. Events of a transaction that is rolled back are
+     * never delivered. Without an active transaction, the event is handed over immediately.
+     */
+    protected void dispatchEventAfterCommit(FlowableEvent event, FlowableEventListener listener) {
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            asyncEventDispatchExecutor.dispatch(event, listener);
+            return;
+        }
+
+        String attributeKey = getPendingAsyncEventsAttributeKey();
+        @SuppressWarnings("unchecked")
+        List<PendingAsyncEvent> pendingEvents = (List<PendingAsyncEvent>) commandContext.getAttribute(attributeKey);
+        if (pendingEvents == null) {
+            final List<PendingAsyncEvent> newPendingEvents = new ArrayList<>();
+            commandContext.addAttribute(attributeKey, newPendingEvents);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    for (PendingAsyncEvent pendingEvent : newPendingEvents) {
+                        asyncEventDispatchExecutor.dispatch(pendingEvent.event, pendingEvent.listener);
+                    }
+                }
+
+            });
+            pendingEvents = newPendingEvents;
+        }
+        pendingEvents.add(new PendingAsyncEvent(event, listener));
+    }
+
+    protected String getPendingAsyncEventsAttributeKey() {
+        // Multiple engines can share a command context, each with their own event support
+        return "pendingAsyncEvents-" + System.identityHashCode(this);
+    }
+
+    public AsyncEventDispatchExecutor getAsyncEventDispatchExecutor() {
+        return asyncEventDispatchExecutor;
+    }
+
+    public void setAsyncEventDispatchExecutor(AsyncEventDispatchExecutor asyncEventDispatchExecutor) {
+        this.asyncEventDispatchExecutor = asyncEventDispatchExecutor;
+    }
+
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
         List<FlowableEventListener> listeners = typedListeners.get(type);
         if (listeners == null) {
@@ -124,5 +210,34 @@ public class FlowableEventSupport {
         if (!listeners.contains(listener)) {
             listeners.add(listener);
         }
+        updateListeningFlags();
+    }
+
+    protected synchronized void updateListeningFlags() {
+        boolean[] newListeningToEngineEventTypes = new boolean[FlowableEngineEventType.values().length];
+        Set<FlowableEventType> newListeningToOtherEventTypes = new HashSet<>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                if (entry.getKey() instanceof FlowableEngineEventType) {
+                    newListeningToEngineEventTypes[((FlowableEngineEventType) entry.getKey()).ordinal()] = true;
+                } else {
+                    newListeningToOtherEventTypes.add(entry.getKey());
+                }
+            }
+        }
+        listeningToEngineEventTypes = newListeningToEngineEventTypes;
+        listeningToOtherEventTypes = newListeningToOtherEventTypes;
+        listeningToAllEvents = !eventListeners.isEmpty();
+    }
+
+    protected static class PendingAsyncEvent {
+
+        protected FlowableEvent event;
+        protected FlowableEventListener listener;
+
+        public PendingAsyncEvent(FlowableEvent event, FlowableEventListener listener) {
+            this.event = event;
+            this.listener = listener;
+        }
     }
 }
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+
+/**
+ * An {@link EventDispatchAction} that knows which types of events it could notify a listener of. Actions that don't implement this interface
+ * are considered to listen to all events.
+ */
+public interface ListenerAwareEventDispatchAction extends EventDispatchAction {
+
+    /**
+     * @return true, if this action could notify a listener of an event of the given type.
+     */
+    boolean isListening(FlowableEventType type);
+
+}
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Defines property resolution behavior on objects using the JavaBeans component architecture. This
@@ -145,8 +146,29 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
+	/**
+	 * The introspection results, shared by all resolver instances. A {@link ClassValue} keeps them
+	 * with the class itself, so they don't prevent classes (and their class loaders) from being unloaded.
+	 */
+	private static final ClassValue<BeanProperties> BEAN_PROPERTIES = new ClassValue<BeanProperties>() {
+		@Override
+		protected BeanProperties computeValue(Class<?> type) {
+			return new BeanProperties(type);
+		}
+	};
+
+	/**
+	 * The methods resolved by name and parameter count, shared by all resolver instances. Kept apart
+	 * from the introspection results, so that a method call doesn't introspect the bean class.
+	 */
+	private static final ClassValue<ConcurrentMap<String, Method>> METHODS = new ClassValue<ConcurrentMap<String, Method>>() {
+		@Override
+		protected ConcurrentMap<String, Method> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
 	private final boolean readOnly;
-	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
 	
 	private ExpressionFactory defaultFactory;
 
@@ -162,7 +184,6 @@ public class BeanELResolver extends ELResolver {
 	 */
 	public BeanELResolver(boolean readOnly) {
 		this.readOnly = readOnly;
-		this.cache = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -508,7 +529,7 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
-    private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+	private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
 				return findAccessibleMethod(base.getClass().getMethod(name, types));
@@ -516,8 +537,22 @@ public class BeanELResolver extends ELResolver {
 				return null;
 			}
 		}
+		// resolving by name and parameter count requires a scan over all methods, so remember the outcome
+		ConcurrentMap<String, Method> methods = METHODS.get(base.getClass());
+		String methodKey = name + '#' + paramCount;
+		Method result = methods.get(methodKey);
+		if (result == null) {
+			result = findMethod(base.getClass(), name, paramCount);
+			if (result != null) {
+				methods.putIfAbsent(methodKey, result);
+			}
+		}
+		return result;
+	}
+
+	private static Method findMethod(Class<?> baseClass, String name, int paramCount) {
 		Method varArgsMethod = null;
-		for (Method method : base.getClass().getMethods()) {
+		for (Method method : baseClass.getMethods()) {
 			if (method.getName().equals(name)) {
 				int formalParamCount = method.getParameterTypes().length;
 				if (method.isVarArgs() && paramCount >= formalParamCount - 1) {
@@ -629,38 +664,11 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
-		BeanProperties beanProperties = cache.get(base.getClass());
-		if (beanProperties == null) {
-			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
-			beanProperties = cache.putIfAbsent(base.getClass(), newBeanProperties);
-			if (beanProperties == null) { // put succeeded, use new value
-				beanProperties = newBeanProperties;
-			}
-		}
+		BeanProperties beanProperties = BEAN_PROPERTIES.get(base.getClass());
 		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
 		if (beanProperty == null) {
 			throw new PropertyNotFoundException("Could not find property " + property + " in " + base.getClass());
 		}
 		return beanProperty;
 	}
-
-	/**
-	 * This method is not part of the API, though it can be used (reflectively) by clients of this
-	 * class to remove entries from the cache when the beans are being unloaded.
-	 * 
-	 * Note: this method is present in the reference implementation, so we're adding it here to ease
-	 * migration.
-	 * 
-	 * @param classloader
-	 *            The classLoader used to load the beans.
-	 */
-	@SuppressWarnings("unused")
-	private final void purgeBeanClasses(ClassLoader loader) {
-		Iterator<Class<?>> classes = cache.keySet().iterator();
-		while (classes.hasNext()) {
-			if (loader == classes.next().getClassLoader()) {
-				classes.remove();
-			}
-		}
-	}
 }
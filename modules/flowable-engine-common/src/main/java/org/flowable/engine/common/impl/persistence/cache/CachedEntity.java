@@ -14,6 +14,7 @@ package org.flowable.engine.common.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
 /**
@@ -34,7 +35,10 @@ public class CachedEntity {
 
     public CachedEntity(Entity entity, boolean storeState) {
         this.entity = entity;
-        if (storeState) {
+        if (entity instanceof DirtyTrackingEntity) {
+            // No snapshot needed: the entity tracks its changes from now on
+            ((DirtyTrackingEntity) entity).setDirty(!storeState);
+        } else if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
         } else if (entity.getOriginalPersistentState() == null){
@@ -59,6 +63,9 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
+        if (entity instanceof DirtyTrackingEntity) {
+            return ((DirtyTrackingEntity) entity).isDirty();
+        }
         return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
     }
 
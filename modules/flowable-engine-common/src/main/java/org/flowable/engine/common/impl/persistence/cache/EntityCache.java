@@ -59,6 +59,12 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type that have the given key for the given {@link EntityCacheIndex}.
+     * Like {@link #findInCacheAsCachedObjects(Class)}, null is returned if no instances of the given type are cached.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex<?> index, String indexKey);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
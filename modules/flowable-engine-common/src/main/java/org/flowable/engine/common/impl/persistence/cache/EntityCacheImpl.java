@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The secondary indexes per entity type, by index name. An index is only created when it is used for the first time.
+     */
+    protected Map<Class<?>, Map<String, CachedEntityIndex>> cachedIndexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +43,14 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (CachedEntityIndex cachedIndex : classIndexes.values()) {
+                cachedIndex.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -77,6 +91,31 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (CachedEntityIndex cachedIndex : classIndexes.values()) {
+                cachedIndex.remove(entityId);
+            }
+        }
+    }
+
+    /**
+     * Files the given entity under its current keys in the indexes of its type. Called when a field an index is based on has changed.
+     */
+    public void indexKeyChanged(Entity entity) {
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+        CachedEntity cachedObject = classCache != null ? classCache.get(entity.getId()) : null;
+        if (cachedObject != null && cachedObject.getEntity() == entity) {
+            for (CachedEntityIndex cachedIndex : classIndexes.values()) {
+                cachedIndex.add(cachedObject);
+            }
+        }
     }
 
     @Override
@@ -88,6 +127,31 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex<?> index, String indexKey) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<>();
+            cachedIndexes.put(entityClass, classIndexes);
+        }
+
+        CachedEntityIndex cachedIndex = classIndexes.get(index.getName());
+        if (cachedIndex == null) {
+            cachedIndex = new CachedEntityIndex(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                cachedIndex.add(cachedObject);
+            }
+            classIndexes.put(index.getName(), cachedIndex);
+        }
+
+        return cachedIndex.get(indexKey);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -122,4 +186,60 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * The cached entities of one type grouped by their key for an {@link EntityCacheIndex}.
+     * Entities without a key are not retrievable through the index, until a new key is set through {@link EntityCacheImpl#indexKeyChanged(Entity)}.
+     */
+    protected static class CachedEntityIndex {
+
+        protected EntityCacheIndex<Entity> index;
+        protected Map<String, Map<String, CachedEntity>> cachedEntitiesByKey = new HashMap<>();
+        protected Map<String, String> keysByEntityId = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public CachedEntityIndex(EntityCacheIndex<?> index) {
+            this.index = (EntityCacheIndex<Entity>) index;
+        }
+
+        public void add(CachedEntity cachedEntity) {
+            String entityId = cachedEntity.getEntity().getId();
+            remove(entityId);
+
+            String key = index.getIndexKey(cachedEntity.getEntity());
+            if (key != null) {
+                Map<String, CachedEntity> cachedEntities = cachedEntitiesByKey.get(key);
+                if (cachedEntities == null) {
+                    cachedEntities = new LinkedHashMap<>();
+                    cachedEntitiesByKey.put(key, cachedEntities);
+                }
+                cachedEntities.put(entityId, cachedEntity);
+                keysByEntityId.put(entityId, key);
+            }
+        }
+
+        public void remove(String entityId) {
+            String key = keysByEntityId.remove(entityId);
+            if (key != null) {
+                Map<String, CachedEntity> cachedEntities = cachedEntitiesByKey.get(key);
+                cachedEntities.remove(entityId);
+                if (cachedEntities.isEmpty()) {
+                    cachedEntitiesByKey.remove(key);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(String key) {
+            if (key == null) {
+                return Collections.emptyList();
+            }
+
+            Map<String, CachedEntity> cachedEntities = cachedEntitiesByKey.get(key);
+            if (cachedEntities == null) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(cachedEntities.values());
+        }
+
+    }
 }
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index on the cached entities of one type, for example on the parent execution id of executions.
+ * It allows to get the cached entities with a given key without going over all cached entities of that type.
+ * 
+ * Indexes are identified by their name: all indexes with the same name for the same entity type must return the same key.
+ * 
+ * The key of an entity is allowed to change after the entity has been cached (e.g. when an execution is moved to another parent),
+ * as long as the setters of the fields the key is based on call {@link org.flowable.engine.common.impl.persistence.entity.AbstractEntity#indexKeyChanged}.
+ */
+public interface EntityCacheIndex<EntityImpl extends Entity> {
+
+    /**
+     * The name of the index, unique for the entity type.
+     */
+    String getName();
+
+    /**
+     * Returns the key under which the given entity is indexed. Can be null, in which case the entity is not retrievable through the index.
+     */
+    String getIndexKey(EntityImpl entity);
+
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit, miss, eviction and load time statistics of a {@link ConcurrentWeightedCache}.
+ */
+public class CacheStatistics {
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+    protected AtomicLong loadCount = new AtomicLong();
+    protected AtomicLong totalLoadTimeInNanos = new AtomicLong();
+
+    public void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    public void recordEviction() {
+        evictionCount.incrementAndGet();
+    }
+
+    /**
+     * Records the time it took to load (e.g. parse and deploy) an object that was not found in the cache.
+     */
+    public void recordLoad(long loadTimeInNanos) {
+        loadCount.incrementAndGet();
+        totalLoadTimeInNanos.addAndGet(loadTimeInNanos);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getTotalLoadTimeInNanos() {
+        return totalLoadTimeInNanos.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long requests = hits + missCount.get();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public double getAverageLoadTimeInMillis() {
+        long loads = loadCount.get();
+        return loads == 0 ? 0.0 : (totalLoadTimeInNanos.get() / (double) loads) / 1000000.0;
+    }
+
+    public void reset() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+        loadCount.set(0);
+        totalLoadTimeInNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics[hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount()
+                + ", loads=" + getLoadCount() + ", averageLoadTime=" + getAverageLoadTimeInMillis() + "ms]";
+    }
+
+}
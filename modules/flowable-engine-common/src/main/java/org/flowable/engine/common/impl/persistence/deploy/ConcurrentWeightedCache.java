@@ -0,0 +1,244 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that doesn't take a global lock on reads, to be used for caching deployed artifacts (process definitions, decision tables, forms, ...).
+ * 
+ * When a maximum weight is set, entries that haven't been used recently are evicted as soon as the total weight of all cached objects exceeds it.
+ * The weight of an object is determined by a {@link CacheWeigher}, by default every object has a weight of 1 (which makes the maximum weight an entry limit).
+ * 
+ * Eviction uses the CLOCK approximation of LRU: entries are kept in insertion order and a lookup only marks the entry as referenced.
+ * When evicting, a referenced entry gets a second chance (it is unmarked and moved to the back), the first unreferenced entry is removed.
+ * This makes eviction cost constant per evicted entry (amortized), instead of having to order all entries by their last access.
+ * Eviction only happens when adding objects and is done by one thread at a time. The thread adding an object waits for a concurrent eviction
+ * to finish, so the cache never stays above its maximum weight.
+ * 
+ * Hit, miss and eviction counts are kept in the {@link CacheStatistics}.
+ */
+public class ConcurrentWeightedCache<T> implements DeploymentCacheStatistics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentWeightedCache.class);
+
+    protected ConcurrentHashMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected long maxWeight;
+    protected CacheWeigher<T> weigher;
+
+    /** The entries in insertion order, only used when the cache is bounded. */
+    protected ConcurrentLinkedQueue<CacheEntry<T>> evictionQueue = new ConcurrentLinkedQueue<>();
+
+    /** The number of entries in the eviction queue that were already removed from the cache. */
+    protected AtomicInteger removedEntriesInQueue = new AtomicInteger();
+
+    protected AtomicLong totalWeight = new AtomicLong();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+    protected CacheStatistics statistics = new CacheStatistics();
+
+    /** Cache with no limit */
+    public ConcurrentWeightedCache() {
+        this(-1L, null);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentWeightedCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which evicts the least recently used objects when the sum of the weights of all objects, as calculated by the weigher, exceeds the maximum weight.
+     */
+    public ConcurrentWeightedCache(long maxWeight, CacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            statistics.recordMiss();
+            return null;
+        }
+
+        statistics.recordHit();
+        if (isBounded() && !entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.value;
+    }
+
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    public void add(String id, T object) {
+        CacheEntry<T> entry = new CacheEntry<>(id, object, weigh(id, object));
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        totalWeight.addAndGet(previousEntry != null ? entry.weight - previousEntry.weight : entry.weight);
+
+        if (isBounded()) {
+            evictionQueue.offer(entry);
+            if (previousEntry != null) {
+                markRemoved(previousEntry);
+            }
+
+            if (totalWeight.get() > maxWeight) {
+                evict(entry);
+            }
+        }
+    }
+
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            totalWeight.addAndGet(-entry.weight);
+            if (isBounded()) {
+                markRemoved(entry);
+            }
+        }
+    }
+
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    public long getTotalWeight() {
+        return totalWeight.get();
+    }
+
+    @Override
+    public void recordLoadTime(long loadTimeInNanos) {
+        statistics.recordLoad(loadTimeInNanos);
+    }
+
+    protected boolean isBounded() {
+        return maxWeight > 0;
+    }
+
+    protected int weigh(String id, T object) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(id, object));
+    }
+
+    /**
+     * Removes entries that haven't been referenced since the last eviction pass until the total weight is below the maximum again.
+     * The entry that was just added is never evicted.
+     */
+    protected void evict(CacheEntry<T> addedEntry) {
+        evictionLock.lock();
+        try {
+            while (totalWeight.get() > maxWeight) {
+                CacheEntry<T> entry = evictionQueue.poll();
+                if (entry == null) {
+                    break;
+                }
+
+                if (entry.removed) {
+                    removedEntriesInQueue.decrementAndGet();
+
+                } else if (entry == addedEntry || entry.referenced) {
+                    // Second chance: the entry goes to the back of the queue
+                    entry.referenced = false;
+                    evictionQueue.offer(entry);
+                    if (entry == addedEntry && cache.size() <= 1) {
+                        break;
+                    }
+
+                } else if (cache.remove(entry.id, entry)) {
+                    entry.removed = true;
+                    totalWeight.addAndGet(-entry.weight);
+                    statistics.recordEviction();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", entry.id);
+
+                } else {
+                    // Replaced or removed concurrently, it will have been marked as removed
+                    removedEntriesInQueue.decrementAndGet();
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Marks an entry that is no longer in the cache. It is dropped from the eviction queue when it is reached,
+     * or when too many removed entries have accumulated in the queue (e.g. through redeployments without ever reaching the maximum weight).
+     */
+    protected void markRemoved(CacheEntry<T> entry) {
+        entry.removed = true;
+        if (removedEntriesInQueue.incrementAndGet() > cache.size() + 16 && evictionLock.tryLock()) {
+            // When another thread holds the lock, it is evicting and the purge is done on a next removal
+            try {
+                Iterator<CacheEntry<T>> iterator = evictionQueue.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().removed) {
+                        iterator.remove();
+                        removedEntriesInQueue.decrementAndGet();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public CacheWeigher<T> getWeigher() {
+        return weigher;
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+        protected volatile boolean referenced;
+        protected volatile boolean removed;
+
+        public CacheEntry(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+}
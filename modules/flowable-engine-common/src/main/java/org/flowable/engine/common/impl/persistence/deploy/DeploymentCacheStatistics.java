@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+/**
+ * Optional interface of a deployment cache that knows its size and keeps statistics. The deployment managers check for it,
+ * so custom deployment caches don't have to implement it.
+ */
+public interface DeploymentCacheStatistics {
+
+    /**
+     * @return the number of cached objects.
+     */
+    int size();
+
+    /**
+     * Called after an object that was not found in the cache has been loaded (and added to the cache), with the time it took to load it.
+     */
+    void recordLoadTime(long loadTimeInNanos);
+
+}
@@ -12,7 +12,15 @@
  */
 package org.flowable.engine.common.impl.persistence.entity;
 
+import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.HasRevision;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.Session;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
@@ -30,6 +38,9 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     
     protected Object originalPersistentState;
 
+    // Only used by entities implementing DirtyTrackingEntity
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -76,6 +87,43 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    @JsonIgnore
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    @JsonIgnore
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    /**
+     * Used in the setters of a {@link DirtyTrackingEntity}: setting a persistent field to the value it already has doesn't make the entity dirty.
+     */
+    protected void markDirtyIfChanged(Object oldValue, Object newValue) {
+        if (!isDirty && (oldValue == null ? newValue != null : !oldValue.equals(newValue))) {
+            isDirty = true;
+        }
+    }
+
+    /**
+     * Used in the setters of fields an {@link EntityCacheIndex} is based on, after the new value is set: files the entity under its new key
+     * in the entity cache of the current command, so lookups through the index don't need to check the key of every cached entity.
+     */
+    protected void indexKeyChanged(Object oldValue, Object newValue) {
+        if (oldValue == null ? newValue == null : oldValue.equals(newValue)) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            Session entityCache = commandContext.getSessions().get(EntityCache.class);
+            if (entityCache instanceof EntityCacheImpl) {
+                ((EntityCacheImpl) entityCache).indexKeyChanged(this);
+            }
+        }
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
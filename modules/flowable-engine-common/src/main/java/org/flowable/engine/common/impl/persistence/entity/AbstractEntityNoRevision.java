@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.common.impl.persistence.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
  * 
@@ -27,6 +29,9 @@ public abstract class AbstractEntityNoRevision implements Entity {
     
     protected Object originalPersistentState;
 
+    // Only used by entities implementing DirtyTrackingEntity
+    protected boolean isDirty;
+
     @Override
     public String getId() {
         return id;
@@ -61,6 +66,25 @@ public abstract class AbstractEntityNoRevision implements Entity {
         this.isDeleted = isDeleted;
     }
 
+    @JsonIgnore
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    @JsonIgnore
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    /**
+     * Used in the setters of a {@link DirtyTrackingEntity}: setting a persistent field to the value it already has doesn't make the entity dirty.
+     */
+    protected void markDirtyIfChanged(Object oldValue, Object newValue) {
+        if (!isDirty && (oldValue == null ? newValue != null : !oldValue.equals(newValue))) {
+            isDirty = true;
+        }
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
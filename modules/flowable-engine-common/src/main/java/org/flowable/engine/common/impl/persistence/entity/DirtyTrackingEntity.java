@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track of changes itself: every setter that changes the value of a persistent field marks the entity as dirty.
+ * 
+ * For such entities, the entity cache does not take a snapshot of the {@link Entity#getPersistentState()} when the entity is loaded,
+ * nor does it compare the persistent state with that snapshot when flushing: the dirty flag is used instead.
+ * Only entity types for which all persistent fields are changed through setters should implement this interface.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -13,10 +13,12 @@
 package org.flowable.engine.common.impl.query;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetPage;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.common.api.query.QueryProperty;
 import org.flowable.engine.common.impl.Direction;
@@ -115,6 +117,37 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    public KeysetPage<U> listKeysetPage(String continuationToken, int maxResults) {
+        if (maxResults < 1) {
+            throw new FlowableIllegalArgumentException("maxResults must be at least 1");
+        }
+        checkQueryOk();
+        try {
+            initKeyset(continuationToken);
+
+            // fetching one extra result tells whether there is a next page
+            List<U> results = listPage(0, maxResults + 1);
+            String nextContinuationToken = null;
+            if (results.size() > maxResults) {
+                results = new ArrayList<>(results.subList(0, maxResults));
+                U lastResult = results.get(maxResults - 1);
+                nextContinuationToken = createKeysetToken(getOrderValue(lastResult, keysetColumn), (String) getOrderValue(lastResult, KEYSET_ID_COLUMN));
+            }
+            return new KeysetPageImpl<>(results, nextContinuationToken);
+
+        } finally {
+            clearKeyset();
+        }
+    }
+
+    /**
+     * Returns the value of the given order column for a result, used to create the continuation token of a keyset page. Only called for
+     * columns accepted by {@link #isKeysetColumnSupported(String)} and for the id column.
+     */
+    protected Object getOrderValue(U result, String column) {
+        throw new FlowableException("Keyset paging is not supported by " + getClass().getSimpleName());
+    }
+
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
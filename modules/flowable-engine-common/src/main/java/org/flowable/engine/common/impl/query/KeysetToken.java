@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Date;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+import com.fasterxml.jackson.core.Base64Variants;
+
+/**
+ * Position of the last result of a keyset page: the value of the order column and the id of that result. The order column and
+ * direction are part of the token, so a token can't be used with a query ordered differently. The column is only used for that check,
+ * never in the sql.
+ */
+public class KeysetToken {
+
+    protected static final byte TYPE_NULL = 0;
+    protected static final byte TYPE_STRING = 1;
+    protected static final byte TYPE_DATE = 2;
+    protected static final byte TYPE_INTEGER = 3;
+    protected static final byte TYPE_LONG = 4;
+
+    protected String column;
+    protected boolean descending;
+    protected Object value;
+    protected String id;
+
+    public KeysetToken(String column, boolean descending, Object value, String id) {
+        this.column = column;
+        this.descending = descending;
+        this.value = value;
+        this.id = id;
+    }
+
+    public String encode() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeUTF(column);
+            out.writeBoolean(descending);
+            if (value == null) {
+                out.writeByte(TYPE_NULL);
+            } else if (value instanceof String) {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF((String) value);
+            } else if (value instanceof Date) {
+                out.writeByte(TYPE_DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Integer) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong((Long) value);
+            } else {
+                throw new FlowableException("Unsupported keyset value type " + value.getClass().getName() + " for column " + column);
+            }
+            out.writeUTF(id);
+            out.flush();
+            return Base64Variants.MODIFIED_FOR_URL.encode(bytes.toByteArray());
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not create continuation token", e);
+        }
+    }
+
+    public static KeysetToken decode(String token) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64Variants.MODIFIED_FOR_URL.decode(token)));
+            String column = in.readUTF();
+            boolean descending = in.readBoolean();
+            Object value = null;
+            byte type = in.readByte();
+            if (type == TYPE_STRING) {
+                value = in.readUTF();
+            } else if (type == TYPE_DATE) {
+                value = new Date(in.readLong());
+            } else if (type == TYPE_INTEGER) {
+                value = in.readInt();
+            } else if (type == TYPE_LONG) {
+                value = in.readLong();
+            } else if (type != TYPE_NULL) {
+                throw new FlowableIllegalArgumentException("Invalid continuation token '" + token + "'");
+            }
+            String id = in.readUTF();
+            return new KeysetToken(column, descending, value, id);
+
+        } catch (IOException | IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid continuation token '" + token + "'", e);
+        }
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+}
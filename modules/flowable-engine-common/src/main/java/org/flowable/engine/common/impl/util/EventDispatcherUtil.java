@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.util;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.api.delegate.event.ListenerAwareEventDispatcher;
+
+/**
+ * Helper methods for code that builds events before dispatching them.
+ */
+public class EventDispatcherUtil {
+
+    // No need to instantiate
+    private EventDispatcherUtil() {
+    }
+
+    /**
+     * Whether an event of the given type should be built and dispatched: only a {@link ListenerAwareEventDispatcher} can tell that nobody
+     * would receive it, any other dispatcher is asked whether it is enabled.
+     */
+    public static boolean isListening(FlowableEventDispatcher eventDispatcher, FlowableEventType type) {
+        if (eventDispatcher == null) {
+            return false;
+        }
+        if (eventDispatcher instanceof ListenerAwareEventDispatcher) {
+            return ((ListenerAwareEventDispatcher) eventDispatcher).isListening(type);
+        }
+        return eventDispatcher.isEnabled();
+    }
+
+}
@@ -126,6 +126,12 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
 
     protected boolean isCreateDiagramOnDeploy = true;
 
+    /**
+     * When set (and diagram creation is enabled), the diagram of a process definition is not rendered during the deployment,
+     * but when it is requested for the first time. It is then stored as a generated resource of the deployment, as if it was created at deploy time.
+     */
+    protected boolean isLazyDiagramCreation;
+
     protected String defaultCamelContext = "camelContext";
 
     protected String activityFontName = "Arial";
@@ -136,6 +142,12 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
 
     protected boolean enableProcessDefinitionInfoCache;
 
+    /**
+     * When set, the value expressions of the default expression manager are compiled when they are created, instead of being interpreted
+     * on every evaluation. Identifiers, properties and method calls are still resolved as before; only operators and literals are compiled.
+     */
+    protected boolean isExpressionCompilationEnabled;
+
     /** use one of the static createXxxx methods instead */
     protected ProcessEngineConfiguration() {
     }
@@ -513,6 +525,24 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         return this;
     }
 
+    public boolean isLazyDiagramCreation() {
+        return isLazyDiagramCreation;
+    }
+
+    public ProcessEngineConfiguration setLazyDiagramCreation(boolean lazyDiagramCreation) {
+        this.isLazyDiagramCreation = lazyDiagramCreation;
+        return this;
+    }
+
+    public boolean isExpressionCompilationEnabled() {
+        return isExpressionCompilationEnabled;
+    }
+
+    public ProcessEngineConfiguration setExpressionCompilationEnabled(boolean expressionCompilationEnabled) {
+        this.isExpressionCompilationEnabled = expressionCompilationEnabled;
+        return this;
+    }
+
     public String getActivityFontName() {
         return activityFontName;
     }
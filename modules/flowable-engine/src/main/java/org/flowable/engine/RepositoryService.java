@@ -293,6 +293,9 @@ public interface RepositoryService {
     /**
      * Gives access to a deployed process diagram, e.g., a PNG image, through a stream of bytes.
      * 
+     * When diagram creation is postponed until first requested (see {@link org.flowable.engine.ProcessEngineConfiguration#setLazyDiagramCreation(boolean)}), the first call for a process
+     * definition without a diagram renders it and stores it as a deployment resource, updating the process definition. This write happens in a separate transaction.
+     * 
      * @param processDefinitionId
      *            id of a {@link ProcessDefinition}, cannot be null.
      * @return null when the diagram resource name of a {@link ProcessDefinition} is null.
@@ -12,19 +12,29 @@
  */
 package org.flowable.engine.delegate.event.impl;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
-import org.flowable.engine.common.impl.event.EventDispatchAction;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
 import org.flowable.engine.common.impl.event.FlowableEventSupport;
+import org.flowable.engine.common.impl.event.ListenerAwareEventDispatchAction;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 
-public class BpmnModelEventDispatchAction implements EventDispatchAction {
+public class BpmnModelEventDispatchAction implements ListenerAwareEventDispatchAction {
+
+    // Event types for which a parsed process definition declared an event listener. Never cleared, as that would require
+    // knowing about all process definitions in the deployment cache; this only makes isListening more conservative.
+    protected volatile boolean listeningToAllEvents;
+    protected Set<FlowableEventType> listeningToEventTypes = Collections.newSetFromMap(new ConcurrentHashMap<FlowableEventType, Boolean>());
 
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
@@ -45,6 +55,27 @@ public class BpmnModelEventDispatchAction implements EventDispatchAction {
         }
     }
     
+    /**
+     * Events are only dispatched to the listeners of process definitions in the process definition cache (see {@link #extractBpmnModelFromEvent}),
+     * and every process definition is parsed by this engine before it is put in that cache, so the types collected while parsing cover all listeners
+     * that could be notified. A process definition that isn't parsed yet has no listeners to notify.
+     */
+    @Override
+    public boolean isListening(FlowableEventType type) {
+        return listeningToAllEvents || listeningToEventTypes.contains(type);
+    }
+
+    /**
+     * Called when a process definition declaring an event listener for the given types is parsed. No types means all events.
+     */
+    public void addProcessDefinitionEventListenerTypes(FlowableEventType... types) {
+        if (types == null || types.length == 0) {
+            listeningToAllEvents = true;
+        } else {
+            Collections.addAll(listeningToEventTypes, types);
+        }
+    }
+
     /**
      * In case no process-context is active, this method attempts to extract a process-definition based on the event. In case it's an event related to an entity, this can be deducted by inspecting the
      * entity, without additional queries to the database.
@@ -14,11 +14,13 @@
 package org.flowable.engine.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.common.api.query.KeysetPageableQuery;
 import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 
@@ -30,7 +32,7 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Tijs Rademakers
  * @author Falko Menge
  */
-public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance> {
+public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, KeysetPageableQuery<HistoricProcessInstance> {
 
     /**
      * Only select historic process instances with the given process instance. {@link ProcessInstance) ids and {@link HistoricProcessInstance} ids match.
@@ -297,6 +299,11 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include only the process variables with the given names in the process query result. Avoids fetching (and deserializing) variables that are not needed.
+     */
+    HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      */
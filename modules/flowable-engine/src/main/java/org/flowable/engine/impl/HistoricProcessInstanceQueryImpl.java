@@ -14,6 +14,7 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -69,6 +70,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected Set<String> processInstanceIds;
     protected String involvedUser;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String tenantId;
@@ -326,6 +328,18 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    public HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     public HistoricProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         this.processInstanceVariablesLimit = processInstanceVariablesLimit;
         return this;
@@ -572,6 +586,22 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return orderBy(HistoricProcessInstanceQueryProperty.TENANT_ID);
     }
 
+    @Override
+    protected boolean isKeysetColumnSupported(String column) {
+        return KEYSET_ID_COLUMN.equals(column)
+                || HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName().equals(column)
+                || HistoricProcessInstanceQueryProperty.START_TIME.getName().equals(column);
+    }
+
+    @Override
+    protected Object getOrderValue(HistoricProcessInstance processInstance, String column) {
+        if (HistoricProcessInstanceQueryProperty.START_TIME.getName().equals(column)) {
+            return processInstance.getStartTime();
+        }
+        // the process instance id is the id of the historic process instance
+        return processInstance.getId();
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -768,6 +798,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
@@ -119,6 +119,10 @@ public class ProcessEngineImpl implements ProcessEngine {
         }
 
         processEngineConfiguration.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createGlobalEvent(FlowableEngineEventType.ENGINE_CLOSED));
+
+        if (processEngineConfiguration.getAsyncEventDispatchExecutor() != null) {
+            processEngineConfiguration.getAsyncEventDispatchExecutor().shutdown();
+        }
     }
 
     // getters and setters
@@ -15,6 +15,7 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -66,6 +67,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected String involvedUser;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String name;
@@ -384,6 +386,18 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     public ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         this.processInstanceVariablesLimit = processInstanceVariablesLimit;
         return this;
@@ -823,6 +837,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
@@ -26,6 +26,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.ExecutionListener;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -238,7 +239,7 @@ public class ContinueProcessOperation extends AbstractOperation {
         LOGGER.debug("Executing activityBehavior {} on activity '{}' with execution {}", activityBehavior.getClass(), flowNode.getId(), execution.getId());
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        if (processEngineConfiguration != null && processEngineConfiguration.getEventDispatcher().isEnabled()) {
+        if (processEngineConfiguration != null && EventDispatcherUtil.isListening(processEngineConfiguration.getEventDispatcher(), FlowableEngineEventType.ACTIVITY_STARTED)) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                             execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
@@ -265,7 +266,7 @@ public class ContinueProcessOperation extends AbstractOperation {
 
         // Firing event that transition is being taken
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        if (processEngineConfiguration != null && processEngineConfiguration.getEventDispatcher().isEnabled()) {
+        if (processEngineConfiguration != null && EventDispatcherUtil.isListening(processEngineConfiguration.getEventDispatcher(), FlowableEngineEventType.SEQUENCEFLOW_TAKEN)) {
             FlowElement sourceFlowElement = sequenceFlow.getSourceFlowElement();
             FlowElement targetFlowElement = sequenceFlow.getTargetFlowElement();
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
@@ -320,4 +321,20 @@ public class ContinueProcessOperation extends AbstractOperation {
         }
     }
 
+    public boolean isForceSynchronousOperation() {
+        return forceSynchronousOperation;
+    }
+
+    public void setForceSynchronousOperation(boolean forceSynchronousOperation) {
+        this.forceSynchronousOperation = forceSynchronousOperation;
+    }
+
+    public boolean isInCompensation() {
+        return inCompensation;
+    }
+
+    public void setInCompensation(boolean inCompensation) {
+        this.inCompensation = inCompensation;
+    }
+
 }
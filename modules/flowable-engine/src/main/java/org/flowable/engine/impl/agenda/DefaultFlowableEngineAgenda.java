@@ -12,7 +12,8 @@
  */
 package org.flowable.engine.impl.agenda;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.flowable.engine.FlowableEngineAgenda;
 import org.flowable.engine.common.api.FlowableException;
@@ -34,6 +35,9 @@ import org.slf4j.LoggerFactory;
  *
  * During a {@link Command} execution, the agenda can always be fetched using {@link Context#getAgenda()}.
  *
+ * As one agenda is used by one thread only, the {@link ContinueProcessOperation} and {@link TakeOutgoingSequenceFlowsOperation} instances
+ * are reused once they have been executed, instead of creating new ones for every step of the process.
+ *
  * @author Joram Barrez
  */
 public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
@@ -42,7 +46,27 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
 
     protected CommandContext commandContext;
 
-    protected LinkedList<Runnable> operations = new LinkedList<>();
+    /**
+     * The maximum number of executed operation instances of one type that are kept for reuse.
+     */
+    protected static final int MAX_REUSABLE_OPERATIONS = 16;
+
+    protected Deque<Runnable> operations = new ArrayDeque<>();
+
+    /**
+     * The operation that was returned last by {@link #getNextOperation()}.
+     * It has been executed when the next operation is requested, and can then be reused.
+     */
+    protected Runnable lastOperation;
+
+    protected ArrayDeque<ContinueProcessOperation> reusableContinueProcessOperations = new ArrayDeque<>();
+    protected ArrayDeque<TakeOutgoingSequenceFlowsOperation> reusableTakeOutgoingSequenceFlowsOperations = new ArrayDeque<>();
+
+    /**
+     * The execution that was passed last to {@link CommandContextUtil#addInvolvedExecution(CommandContext, ExecutionEntity)},
+     * as most consecutive operations are planned for the same execution.
+     */
+    protected ExecutionEntity lastInvolvedExecution;
 
     public DefaultFlowableEngineAgenda(CommandContext commandContext) {
         this.commandContext = commandContext;
@@ -54,7 +78,11 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
 
     public Runnable getNextOperation() {
         assertOperationsNotEmpty();
-        return operations.poll();
+        if (lastOperation != null) {
+            releaseOperation(lastOperation);
+        }
+        lastOperation = operations.poll();
+        return lastOperation;
     }
 
     public Runnable peekOperation() {
@@ -80,25 +108,75 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
      */
     public void planOperation(Runnable operation, ExecutionEntity executionEntity) {
         operations.add(operation);
-        LOGGER.debug("Operation {} added to agenda", operation.getClass());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Operation {} added to agenda", operation.getClass());
+        }
 
-        if (executionEntity != null) {
+        if (executionEntity != null && executionEntity != lastInvolvedExecution) {
             CommandContextUtil.addInvolvedExecution(commandContext, executionEntity);
+
+            // An execution without id isn't added, so it needs to be passed again once it has one
+            if (executionEntity.getId() != null) {
+                lastInvolvedExecution = executionEntity;
+            }
         }
     }
 
+    /**
+     * Makes an executed operation available for reuse. Only the exact operation types are reused, not subclasses of them.
+     */
+    protected void releaseOperation(Runnable operation) {
+        if (operation.getClass() == ContinueProcessOperation.class) {
+            if (reusableContinueProcessOperations.size() < MAX_REUSABLE_OPERATIONS) {
+                ContinueProcessOperation continueProcessOperation = (ContinueProcessOperation) operation;
+                continueProcessOperation.setExecution(null);
+                reusableContinueProcessOperations.push(continueProcessOperation);
+            }
+
+        } else if (operation.getClass() == TakeOutgoingSequenceFlowsOperation.class) {
+            if (reusableTakeOutgoingSequenceFlowsOperations.size() < MAX_REUSABLE_OPERATIONS) {
+                TakeOutgoingSequenceFlowsOperation takeOutgoingSequenceFlowsOperation = (TakeOutgoingSequenceFlowsOperation) operation;
+                takeOutgoingSequenceFlowsOperation.setExecution(null);
+                reusableTakeOutgoingSequenceFlowsOperations.push(takeOutgoingSequenceFlowsOperation);
+            }
+        }
+    }
+
+    protected ContinueProcessOperation createContinueProcessOperation(ExecutionEntity execution, boolean forceSynchronousOperation, boolean inCompensation) {
+        ContinueProcessOperation operation = reusableContinueProcessOperations.poll();
+        if (operation == null) {
+            return new ContinueProcessOperation(commandContext, execution, forceSynchronousOperation, inCompensation);
+        }
+
+        operation.setExecution(execution);
+        operation.setForceSynchronousOperation(forceSynchronousOperation);
+        operation.setInCompensation(inCompensation);
+        return operation;
+    }
+
+    protected TakeOutgoingSequenceFlowsOperation createTakeOutgoingSequenceFlowsOperation(ExecutionEntity execution, boolean evaluateConditions) {
+        TakeOutgoingSequenceFlowsOperation operation = reusableTakeOutgoingSequenceFlowsOperations.poll();
+        if (operation == null) {
+            return new TakeOutgoingSequenceFlowsOperation(commandContext, execution, evaluateConditions);
+        }
+
+        operation.setExecution(execution);
+        operation.setEvaluateConditions(evaluateConditions);
+        return operation;
+    }
+
     /* SPECIFIC operations */
 
     public void planContinueProcessOperation(ExecutionEntity execution) {
-        planOperation(new ContinueProcessOperation(commandContext, execution), execution);
+        planOperation(createContinueProcessOperation(execution, false, false), execution);
     }
 
     public void planContinueProcessSynchronousOperation(ExecutionEntity execution) {
-        planOperation(new ContinueProcessOperation(commandContext, execution, true, false), execution);
+        planOperation(createContinueProcessOperation(execution, true, false), execution);
     }
 
     public void planContinueProcessInCompensation(ExecutionEntity execution) {
-        planOperation(new ContinueProcessOperation(commandContext, execution, false, true), execution);
+        planOperation(createContinueProcessOperation(execution, false, true), execution);
     }
 
     public void planContinueMultiInstanceOperation(ExecutionEntity execution, int loopCounter) {
@@ -106,7 +184,7 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
     }
 
     public void planTakeOutgoingSequenceFlowsOperation(ExecutionEntity execution, boolean evaluateConditions) {
-        planOperation(new TakeOutgoingSequenceFlowsOperation(commandContext, execution, evaluateConditions), execution);
+        planOperation(createTakeOutgoingSequenceFlowsOperation(execution, evaluateConditions), execution);
     }
 
     public void planEndExecutionOperation(ExecutionEntity execution) {
@@ -133,7 +211,7 @@ public class DefaultFlowableEngineAgenda implements FlowableEngineAgenda {
         this.commandContext = commandContext;
     }
 
-    public LinkedList<Runnable> getOperations() {
+    public Deque<Runnable> getOperations() {
         return operations;
     }
 
@@ -362,4 +362,12 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
         return true;
     }
 
+    public boolean isEvaluateConditions() {
+        return evaluateConditions;
+    }
+
+    public void setEvaluateConditions(boolean evaluateConditions) {
+        this.evaluateConditions = evaluateConditions;
+    }
+
 }
@@ -20,6 +20,7 @@ import org.flowable.bpmn.model.MessageEventDefinition;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.variable.service.delegate.Expression;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -59,7 +60,7 @@ public class BoundaryMessageEventActivityBehavior extends BoundaryEventActivityB
 
         CommandContextUtil.getEventSubscriptionEntityManager(commandContext).insertMessageEvent(messageName, executionEntity);
 
-        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher(), FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING)) {
             CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher()
                     .dispatchEvent(FlowableEventBuilder.createMessageEvent(FlowableEngineEventType.ACTIVITY_MESSAGE_WAITING, executionEntity.getActivityId(), messageName,
                             null, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()));
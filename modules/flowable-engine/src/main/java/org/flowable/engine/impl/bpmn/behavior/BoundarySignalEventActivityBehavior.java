@@ -21,6 +21,7 @@ import org.flowable.bpmn.model.SignalEventDefinition;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.variable.service.delegate.Expression;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -63,7 +64,7 @@ public class BoundarySignalEventActivityBehavior extends BoundaryEventActivityBe
 
         CommandContextUtil.getEventSubscriptionEntityManager(commandContext).insertSignalEvent(signalName, signal, executionEntity);
 
-        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher(), FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING)) {
             CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher()
                     .dispatchEvent(FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNAL_WAITING, executionEntity.getActivityId(), signalName,
                             null, executionEntity.getId(), executionEntity.getProcessInstanceId(), executionEntity.getProcessDefinitionId()));
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -58,14 +59,14 @@ public class BpmnActivityBehavior implements Serializable {
         if (activityExecution != null) {
             List<JobEntity> jobs = activityExecution.getJobs();
             for (JobEntity job : jobs) {
-                if (CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
 
             List<TimerJobEntity> timerJobs = activityExecution.getTimerJobs();
             for (TimerJobEntity job : timerJobs) {
-                if (CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.JOB_CANCELED)) {
                     CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_CANCELED, job));
                 }
             }
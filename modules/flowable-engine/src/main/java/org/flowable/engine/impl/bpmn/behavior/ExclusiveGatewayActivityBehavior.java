@@ -19,6 +19,7 @@ import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
@@ -55,7 +56,7 @@ public class ExclusiveGatewayActivityBehavior extends GatewayActivityBehavior {
 
         ExclusiveGateway exclusiveGateway = (ExclusiveGateway) execution.getCurrentFlowElement();
 
-        if (CommandContextUtil.getProcessEngineConfiguration() != null && CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().isEnabled()) {
+        if (CommandContextUtil.getProcessEngineConfiguration() != null && EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher(), FlowableEngineEventType.ACTIVITY_COMPLETED)) {
             CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, exclusiveGateway.getId(), exclusiveGateway.getName(), execution.getId(),
                             execution.getProcessInstanceId(), execution.getProcessDefinitionId(), exclusiveGateway));
@@ -24,6 +24,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.history.DeleteReason;
@@ -171,7 +172,7 @@ public class TerminateEndEventActivityBehavior extends FlowNodeActivityBehavior
 
             // Fire event
             ProcessEngineConfigurationImpl config = CommandContextUtil.getProcessEngineConfiguration();
-            if (config != null && config.getEventDispatcher().isEnabled()) {
+            if (config != null && EventDispatcherUtil.isListening(config.getEventDispatcher(), FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED)) {
                 config.getEventDispatcher().dispatchEvent(
                         FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
             }
@@ -13,9 +13,11 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -80,6 +82,7 @@ public class BpmnDeployer implements Deployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        persistBpmnModelSnapshotsIfNeeded(parsedDeployment);
 
         if (deployment.isNew()) {
             Map<ProcessDefinitionEntity, ProcessDefinitionEntity> mapOfNewProcessDefinitionToPreviousVersion = getPreviousVersionsOfProcessDefinitions(parsedDeployment);
@@ -126,6 +129,38 @@ public class BpmnDeployer implements Deployer {
         }
     }
 
+    /**
+     * Stores the BPMN model snapshots created while parsing a new deployment as generated resources of the deployment, so that later cache misses can restore the model from them.
+     */
+    protected void persistBpmnModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew() || !CommandContextUtil.getProcessEngineConfiguration().isEnableBpmnModelSnapshots()) {
+            return;
+        }
+
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getProcessEngineConfiguration().getResourceEntityManager();
+        Set<String> handledResourceNames = new HashSet<>();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            ResourceEntity bpmnResource = parsedDeployment.getResourceForProcessDefinition(processDefinition);
+            if (!handledResourceNames.add(bpmnResource.getName())) {
+                continue;
+            }
+
+            byte[] snapshot = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition).getBpmnModelSnapshot();
+            String snapshotResourceName = ResourceNameUtil.getBpmnModelSnapshotResourceName(bpmnResource.getName());
+            if (snapshot != null && !deploymentEntity.getResources().containsKey(snapshotResourceName)) {
+                ResourceEntity resource = resourceEntityManager.create();
+                resource.setName(snapshotResourceName);
+                resource.setBytes(snapshot);
+                resource.setDeploymentId(deploymentEntity.getId());
+                resource.setGenerated(true);
+
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource);
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
@@ -12,7 +12,6 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
-import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -20,10 +19,12 @@ import java.util.Map;
 
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,14 +66,25 @@ public class ParsedDeploymentBuilder {
 
     protected BpmnParse createBpmnParseFromResource(ResourceEntity resource) {
         String resourceName = resource.getName();
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
 
         BpmnParse bpmnParse = bpmnParser.createParse()
-                .sourceInputStream(inputStream)
+                .sourceBytes(resource.getBytes())
                 .setSourceSystemId(resourceName)
                 .deployment(deployment)
                 .name(resourceName);
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration != null && processEngineConfiguration.isEnableBpmnModelSnapshots()) {
+            if (deployment.isNew()) {
+                bpmnParse.setCreateBpmnModelSnapshot(true);
+            } else {
+                ResourceEntity snapshotResource = deployment.getResources().get(ResourceNameUtil.getBpmnModelSnapshotResourceName(resourceName));
+                if (snapshotResource != null) {
+                    bpmnParse.setBpmnModelSnapshot(snapshotResource.getBytes());
+                }
+            }
+        }
+
         if (deploymentSettings != null) {
 
             // Schema validation if needed
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
@@ -20,6 +21,7 @@ import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +39,13 @@ public class ProcessDefinitionDiagramHelper {
      * The caller must determine whether creating a diagram for this process definition is appropriate or not, for example see {@link #shouldCreateDiagram(ProcessDefinitionEntity, DeploymentEntity)}.
      */
     public ResourceEntity createDiagramForProcessDefinition(ProcessDefinitionEntity processDefinition, BpmnParse bpmnParse) {
+        return createDiagramForProcessDefinition(processDefinition, bpmnParse.getBpmnModel());
+    }
+
+    /**
+     * Same as {@link #createDiagramForProcessDefinition(ProcessDefinitionEntity, BpmnParse)}, for when the diagram is created after the deployment.
+     */
+    public ResourceEntity createDiagramForProcessDefinition(ProcessDefinitionEntity processDefinition, BpmnModel bpmnModel) {
 
         if (StringUtils.isEmpty(processDefinition.getKey()) || StringUtils.isEmpty(processDefinition.getResourceName())) {
             throw new IllegalStateException("Provided process definition must have both key and resource name set.");
@@ -46,7 +55,7 @@ public class ProcessDefinitionDiagramHelper {
         ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         try {
             byte[] diagramBytes = IoUtil.readInputStream(
-                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnParse.getBpmnModel(), "png",
+                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnModel, "png",
                             processEngineConfiguration.getActivityFontName(),
                             processEngineConfiguration.getLabelFontName(),
                             processEngineConfiguration.getAnnotationFontName(),
@@ -77,7 +86,8 @@ public class ProcessDefinitionDiagramHelper {
     public boolean shouldCreateDiagram(ProcessDefinitionEntity processDefinition, DeploymentEntity deployment) {
         if (deployment.isNew()
                 && processDefinition.isGraphicalNotationDefined()
-                && CommandContextUtil.getProcessEngineConfiguration().isCreateDiagramOnDeploy()) {
+                && CommandContextUtil.getProcessEngineConfiguration().isCreateDiagramOnDeploy()
+                && !CommandContextUtil.getProcessEngineConfiguration().isLazyDiagramCreation()) {
 
             // If the 'getProcessDiagramResourceNameFromDeployment' call returns null, it means
             // no diagram image for the process definition was provided in the deployment resources.
@@ -86,4 +96,15 @@ public class ProcessDefinitionDiagramHelper {
 
         return false;
     }
+
+    /**
+     * Whether the diagram of a deployed process definition still needs to be created, because its creation was postponed until first requested.
+     */
+    public boolean shouldCreateDiagramLazily(ProcessDefinition processDefinition) {
+        ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        return processDefinition.getDiagramResourceName() == null
+                && processDefinition.hasGraphicalNotation()
+                && processEngineConfiguration.isCreateDiagramOnDeploy()
+                && processEngineConfiguration.isLazyDiagramCreation();
+    }
 }
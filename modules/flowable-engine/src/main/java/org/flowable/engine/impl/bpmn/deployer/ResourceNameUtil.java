@@ -25,6 +25,7 @@ public class ResourceNameUtil {
 
     public static final String[] BPMN_RESOURCE_SUFFIXES = new String[] { "bpmn20.xml", "bpmn" };
     public static final String[] DIAGRAM_SUFFIXES = new String[] { "png", "jpg", "gif", "svg" };
+    public static final String BPMN_MODEL_SNAPSHOT_SUFFIX = "bpmnmodel";
 
     public static String stripBpmnFileSuffix(String bpmnFileResource) {
         for (String suffix : BPMN_RESOURCE_SUFFIXES) {
@@ -40,6 +41,10 @@ public class ResourceNameUtil {
         return bpmnFileResourceBase + processKey + "." + diagramSuffix;
     }
 
+    public static String getBpmnModelSnapshotResourceName(String bpmnFileResource) {
+        return bpmnFileResource + "." + BPMN_MODEL_SNAPSHOT_SUFFIX;
+    }
+
     /**
      * Finds the name of a resource for the diagram for a process definition. Assumes that the process definition's key and (BPMN) resource name are already set.
      *
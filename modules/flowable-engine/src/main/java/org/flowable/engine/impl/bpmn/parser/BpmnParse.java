@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.parser;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -46,6 +47,7 @@ import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.io.ResourceStreamSource;
 import org.flowable.validation.ProcessValidator;
@@ -85,6 +87,17 @@ public class BpmnParse implements BpmnXMLConstants {
 
     protected BpmnModel bpmnModel;
 
+    /** The raw source, only known when parsing from bytes. Needed to verify or create a {@link BpmnModelSnapshotUtil model snapshot}. */
+    protected byte[] sourceBytes;
+
+    /**
+     * Snapshot of the {@link BpmnModel} as it was converted from the xml, before any parse handlers were applied.
+     * When set before executing, the model is restored from it instead of parsing the xml (as long as it still matches the source).
+     */
+    protected byte[] bpmnModelSnapshot;
+    protected boolean createBpmnModelSnapshot;
+    protected boolean restoredFromBpmnModelSnapshot;
+
     protected String targetNamespace;
 
     /** The deployment to which the parsed process definitions will be added. */
@@ -135,55 +148,68 @@ public class BpmnParse implements BpmnXMLConstants {
         try {
 
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
 
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
+            if (bpmnModelSnapshot != null) {
+                bpmnModel = BpmnModelSnapshotUtil.readSnapshot(bpmnModelSnapshot, sourceBytes);
+                restoredFromBpmnModelSnapshot = bpmnModel != null;
             }
 
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
-            }
+            if (!restoredFromBpmnModelSnapshot) {
+                BpmnXMLConverter converter = new BpmnXMLConverter();
+
+                boolean enableSafeBpmnXml = false;
+                String encoding = null;
+                if (processEngineConfiguration != null) {
+                    enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+                    encoding = processEngineConfiguration.getXmlEncoding();
+                }
 
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+                if (encoding != null) {
+                    bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
                 } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error.toString());
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error.toString());
-                                errorBuilder.append("\n");
+                    bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+                }
+
+                // XSD validation goes first, then process/semantic validation
+                if (validateProcess) {
+                    ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+                    if (processValidator == null) {
+                        LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+                    } else {
+                        List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                        if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                            StringBuilder warningBuilder = new StringBuilder();
+                            StringBuilder errorBuilder = new StringBuilder();
+
+                            for (ValidationError error : validationErrors) {
+                                if (error.isWarning()) {
+                                    warningBuilder.append(error.toString());
+                                    warningBuilder.append("\n");
+                                } else {
+                                    errorBuilder.append(error.toString());
+                                    errorBuilder.append("\n");
+                                }
                             }
-                        }
 
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
+                            // Throw exception if there is any error
+                            if (errorBuilder.length() > 0) {
+                                throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                            }
 
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
-                        }
+                            // Write out warnings (if any)
+                            if (warningBuilder.length() > 0) {
+                                LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
+                            }
 
+                        }
                     }
                 }
+
+                // Taken before the parse handlers are applied, as these alter the model
+                if (createBpmnModelSnapshot) {
+                    bpmnModelSnapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, sourceBytes);
+                }
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
@@ -223,6 +249,15 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    public BpmnParse sourceBytes(byte[] bytes) {
+        if (name == null) {
+            name("bytes");
+        }
+        this.sourceBytes = bytes;
+        setStreamSource(new InputStreamSource(new ByteArrayInputStream(bytes)));
+        return this;
+    }
+
     public BpmnParse sourceResource(String resource) {
         return sourceResource(resource, null);
     }
@@ -434,6 +469,26 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateProcess = validateProcess;
     }
 
+    public byte[] getBpmnModelSnapshot() {
+        return bpmnModelSnapshot;
+    }
+
+    public void setBpmnModelSnapshot(byte[] bpmnModelSnapshot) {
+        this.bpmnModelSnapshot = bpmnModelSnapshot;
+    }
+
+    public boolean isCreateBpmnModelSnapshot() {
+        return createBpmnModelSnapshot;
+    }
+
+    public void setCreateBpmnModelSnapshot(boolean createBpmnModelSnapshot) {
+        this.createBpmnModelSnapshot = createBpmnModelSnapshot;
+    }
+
+    public boolean isRestoredFromBpmnModelSnapshot() {
+        return restoredFromBpmnModelSnapshot;
+    }
+
     public List<ProcessDefinitionEntity> getProcessDefinitions() {
         return processDefinitions;
     }
@@ -20,7 +20,9 @@ import org.flowable.bpmn.model.EventListener;
 import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.Process;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.event.EventDispatchAction;
 import org.flowable.engine.common.impl.event.FlowableEventSupport;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -86,9 +88,11 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
 
                 if (ImplementationType.IMPLEMENTATION_TYPE_CLASS.equals(eventListener.getImplementationType())) {
                     getEventSupport(bpmnParse.getBpmnModel()).addEventListener(bpmnParse.getListenerFactory().createClassDelegateEventListener(eventListener), types);
+                    addProcessDefinitionEventListenerTypes(types);
 
                 } else if (ImplementationType.IMPLEMENTATION_TYPE_DELEGATEEXPRESSION.equals(eventListener.getImplementationType())) {
                     getEventSupport(bpmnParse.getBpmnModel()).addEventListener(bpmnParse.getListenerFactory().createDelegateExpressionEventListener(eventListener), types);
+                    addProcessDefinitionEventListenerTypes(types);
 
                 } else if (ImplementationType.IMPLEMENTATION_TYPE_THROW_SIGNAL_EVENT.equals(eventListener.getImplementationType())
                         || ImplementationType.IMPLEMENTATION_TYPE_THROW_GLOBAL_SIGNAL_EVENT.equals(eventListener.getImplementationType())
@@ -96,6 +100,7 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
                         || ImplementationType.IMPLEMENTATION_TYPE_THROW_ERROR_EVENT.equals(eventListener.getImplementationType())) {
 
                     getEventSupport(bpmnParse.getBpmnModel()).addEventListener(bpmnParse.getListenerFactory().createEventThrowingEventListener(eventListener), types);
+                    addProcessDefinitionEventListenerTypes(types);
 
                 } else {
                     LOGGER.warn("Unsupported implementation type for EventListener: {} for element {}", eventListener.getImplementationType(), bpmnParse.getCurrentFlowElement().getId());
@@ -105,6 +110,28 @@ public class ProcessParseHandler extends AbstractBpmnParseHandler<Process> {
 
     }
 
+    /**
+     * Makes sure {@link org.flowable.engine.common.api.delegate.event.ListenerAwareEventDispatcher#isListening} takes the process definition scoped listener into account.
+     */
+    protected void addProcessDefinitionEventListenerTypes(FlowableEngineEventType[] types) {
+        BpmnModelEventDispatchAction bpmnModelEventDispatchAction = getBpmnModelEventDispatchAction();
+        if (bpmnModelEventDispatchAction != null) {
+            bpmnModelEventDispatchAction.addProcessDefinitionEventListenerTypes(types);
+        }
+    }
+
+    protected BpmnModelEventDispatchAction getBpmnModelEventDispatchAction() {
+        List<EventDispatchAction> eventDispatchActions = CommandContextUtil.getProcessEngineConfiguration().getAdditionalEventDispatchActions();
+        if (eventDispatchActions != null) {
+            for (EventDispatchAction eventDispatchAction : eventDispatchActions) {
+                if (eventDispatchAction instanceof BpmnModelEventDispatchAction) {
+                    return (BpmnModelEventDispatchAction) eventDispatchAction;
+                }
+            }
+        }
+        return null;
+    }
+
     protected FlowableEventSupport getEventSupport(BpmnModel bpmnModel) {
         return (FlowableEventSupport) bpmnModel.getEventSupport();
     }
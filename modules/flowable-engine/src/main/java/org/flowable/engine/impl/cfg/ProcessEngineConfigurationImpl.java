@@ -66,6 +66,8 @@ import org.flowable.engine.common.impl.calendar.BusinessCalendarManager;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.engine.common.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.common.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.engine.common.impl.event.AsyncEventDispatchExecutor;
 import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.Command;
@@ -192,6 +194,9 @@ import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.GzipAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.SmileAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
@@ -203,11 +208,13 @@ import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandle
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
 import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -287,6 +294,7 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobScopeInterface;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutionMode;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
@@ -411,6 +419,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * The codec used to encode the data of async history jobs. By default null, meaning plain json is written.
+     * Payloads written with another codec remain readable, as each codec has its own history job handler.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -446,6 +460,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When set to a positive value, a {@link ConcurrentDeploymentCache} is used for the process definition cache, 
+     * which evicts the least recently used process definitions when the total number of flow elements of the cached definitions exceeds this value. 
+     * This takes precedence over the processDefinitionCacheLimit.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
@@ -502,6 +523,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorThreadPoolQueueSize = 100;
 
+    /**
+     * Determines on which threads the async executor executes jobs. Default value = {@link AsyncJobExecutionMode#THREAD_POOL}.
+     * With {@link AsyncJobExecutionMode#ELASTIC} or {@link AsyncJobExecutionMode#VIRTUAL_THREADS}, jobs are not queued but handed off to a new or idle thread,
+     * up to {@link #asyncExecutorMaxConcurrentJobs}, which suits jobs that mostly block on IO.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected AsyncJobExecutionMode asyncExecutorExecutionMode = AsyncJobExecutionMode.THREAD_POOL;
+
+    /**
+     * The maximum number of jobs executed concurrently when the {@link #asyncExecutorExecutionMode} is not {@link AsyncJobExecutionMode#THREAD_POOL}. Default value = 1000.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 1000;
+
     /**
      * The queue onto which jobs will be placed before they are actually executed. Threads form the async executor threadpool will take work from this queue.
      * <p>
@@ -624,6 +661,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean asyncExecutorMessageQueueMode;
     protected boolean asyncHistoryExecutorMessageQueueMode;
 
+    /**
+     * The maximum number of history jobs the async history executor applies together in one transaction. Default value = 1 (no bulk apply).
+     * When > 1, the existing history data needed by a bulk of jobs is fetched with one query per entity type,
+     * and as many history jobs are acquired at once.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncHistoryJobExecutor}).
+     */
+    protected int asyncHistoryExecutorBulkSize = 1;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -677,6 +723,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When tracking deserialized objects (see {@link #serializableVariableTypeTrackDeserializedObjects}), only keep a digest of the serialized bytes
+     * of every tracked object. At the end of the command, tracked objects are serialized straight into a digest instead of into a byte array,
+     * which uses less memory for large variables. It doesn't save time: every tracked object is still serialized at the end of the command.
+     * Values implementing {@link org.flowable.variable.service.ImmutableSerializable}, enums and immutable JDK values are never tracked.
+     * <p>
+     * The cost of the verification can be seen in the statistics of the {@link SerializableType}.
+     */
+    protected boolean serializableVariableTypeTrackDeserializedObjectsByHash;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
@@ -707,6 +763,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableSafeBpmnXml;
 
+    /**
+     * Set this to true to store a binary snapshot of the parsed BPMN model as a generated resource with every new deployment.
+     * When a process definition needs to be put in the cache again later on (eg. after it was evicted, or on another node), the model is restored
+     * from that snapshot instead of parsing the BPMN 2.0 xml. A snapshot that doesn't match the engine version or the xml is ignored.
+     */
+    protected boolean enableBpmnModelSnapshots;
+
     /**
      * The following settings will determine the amount of entities loaded at once when the engine needs to load multiple entities (eg. when suspending a process definition with all its process
      * instances).
@@ -719,6 +782,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When set, events for {@link org.flowable.engine.common.api.delegate.event.AsyncFlowableEventListener}s are delivered by this executor
+     * after the transaction has committed, instead of synchronously in the thread firing the event.
+     */
+    protected AsyncEventDispatchExecutor asyncEventDispatchExecutor;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -749,6 +818,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
+    /**
+     * If set to true, updates and deletes of entities are grouped per sql statement and sent to the database as JDBC batches when flushing,
+     * instead of doing one roundtrip per entity. Optimistic locking is still verified using the update counts of the batch.
+     * Default false. Note that some (older) JDBC drivers don't return update counts for batched statements.
+     */
+    protected boolean batchedFlushEnabled;
+
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -1191,6 +1267,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(batchedFlushEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1230,10 +1307,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         sessionFactories.put(AsyncHistorySession.class, asyncHistorySessionFactory);
     }
 
+    protected boolean isSmileDataformatAvailable() {
+        // Checked by name, as the Smile dataformat is an optional dependency
+        try {
+            Class.forName("com.fasterxml.jackson.dataformat.smile.SmileFactory", false, getClass().getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     protected void initDefaultAsyncHistoryListener() {
         DefaultAsyncHistoryJobProducer asyncHistoryJobProducer = new DefaultAsyncHistoryJobProducer();
         //asyncHistoryJobProducer.setJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
         //asyncHistoryJobProducer.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+        asyncHistoryJobProducer.setPayloadCodec(asyncHistoryPayloadCodec);
         asyncHistoryListener = asyncHistoryJobProducer;
     }
 
@@ -1430,7 +1518,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1726,6 +1816,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            List<AsyncHistoryPayloadCodec> payloadCodecs = new ArrayList<>();
+            if (isSmileDataformatAvailable()) {
+                payloadCodecs.add(new SmileAsyncHistoryPayloadCodec());
+                payloadCodecs.add(new GzipAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec()));
+            }
+            if (asyncHistoryPayloadCodec != null) {
+                payloadCodecs.add(asyncHistoryPayloadCodec);
+            }
+            for (AsyncHistoryPayloadCodec payloadCodec : payloadCodecs) {
+                if (!historyJobHandlers.containsKey(payloadCodec.getJobHandlerType())) {
+                    AsyncHistoryJobHandler codecHistoryJobHandler = new AsyncHistoryJobHandler(payloadCodec);
+                    codecHistoryJobHandler.initDefaultTransformers();
+                    codecHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+                    historyJobHandlers.put(codecHistoryJobHandler.getType(), codecHistoryJobHandler);
+                }
+            }
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -1758,6 +1865,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
 
+            // Execution mode
+            defaultAsyncExecutor.setExecutionMode(asyncExecutorExecutionMode);
+            defaultAsyncExecutor.setMaxConcurrentJobs(asyncExecutorMaxConcurrentJobs);
+
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
@@ -1789,11 +1900,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAsyncHistoryExecutor() {
         if (asyncHistoryExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+            DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
 
             // Message queue mode
             defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
 
+            // Bulk apply
+            if (asyncHistoryExecutorBulkSize > 1) {
+                defaultAsyncHistoryExecutor.setHistoryJobBulkSize(asyncHistoryExecutorBulkSize);
+                defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorBulkSize);
+            }
+
             // Thread pool config
             defaultAsyncHistoryExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
             defaultAsyncHistoryExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
@@ -1913,7 +2030,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
-            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
+            variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects, serializableVariableTypeTrackDeserializedObjectsByHash));
             variableTypes.addType(new CustomObjectType("item", ItemInstance.class));
             variableTypes.addType(new CustomObjectType("message", MessageInstance.class));
             if (customPostVariableTypes != null) {
@@ -1980,7 +2097,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initExpressionManager() {
         if (expressionManager == null) {
-            expressionManager = new DefaultExpressionManager(delegateInterceptor, beans, true);
+            DefaultExpressionManager defaultExpressionManager = new DefaultExpressionManager(delegateInterceptor, beans, true);
+            if (isExpressionCompilationEnabled) {
+                ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+                expressionFactory.setCompileExpressions(true);
+                defaultExpressionManager.setExpressionFactory(expressionFactory);
+            }
+            expressionManager = defaultExpressionManager;
         }
 
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
@@ -2073,6 +2196,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        if (asyncEventDispatchExecutor != null && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) this.eventDispatcher).setAsyncEventDispatchExecutor(asyncEventDispatchExecutor);
+        }
+
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
                 this.eventDispatcher.addEventListener(listenerToAdd);
@@ -2545,6 +2672,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isSerializableVariableTypeTrackDeserializedObjectsByHash() {
+        return serializableVariableTypeTrackDeserializedObjectsByHash;
+    }
+
+    public void setSerializableVariableTypeTrackDeserializedObjectsByHash(boolean serializableVariableTypeTrackDeserializedObjectsByHash) {
+        this.serializableVariableTypeTrackDeserializedObjectsByHash = serializableVariableTypeTrackDeserializedObjectsByHash;
+    }
+
     public ExpressionManager getExpressionManager() {
         return expressionManager;
     }
@@ -2888,6 +3023,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -2951,6 +3095,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableBpmnModelSnapshots() {
+        return enableBpmnModelSnapshots;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableBpmnModelSnapshots(boolean enableBpmnModelSnapshots) {
+        this.enableBpmnModelSnapshots = enableBpmnModelSnapshots;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setEventDispatcher(FlowableEventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
@@ -3011,6 +3164,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncEventDispatchExecutor getAsyncEventDispatchExecutor() {
+        return asyncEventDispatchExecutor;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventDispatchExecutor(AsyncEventDispatchExecutor asyncEventDispatchExecutor) {
+        this.asyncEventDispatchExecutor = asyncEventDispatchExecutor;
+        return this;
+    }
+
     public int getMaxLengthStringVariableType() {
         return maxLengthStringVariableType;
     }
@@ -3038,6 +3200,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return batchedFlushEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchedFlushEnabled(boolean batchedFlushEnabled) {
+        this.batchedFlushEnabled = batchedFlushEnabled;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3427,6 +3598,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public AsyncHistoryListener getAsyncHistoryListener() {
         return asyncHistoryListener;
     }
@@ -3655,6 +3835,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncJobExecutionMode getAsyncExecutorExecutionMode() {
+        return asyncExecutorExecutionMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExecutionMode(AsyncJobExecutionMode asyncExecutorExecutionMode) {
+        this.asyncExecutorExecutionMode = asyncExecutorExecutionMode;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public int getAsyncExecutorThreadPoolQueueSize() {
         return asyncExecutorThreadPoolQueueSize;
     }
@@ -3807,4 +4005,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryExecutorMessageQueueMode = asyncHistoryExecutorMessageQueueMode;
         return this;
     }
+
+    public int getAsyncHistoryExecutorBulkSize() {
+        return asyncHistoryExecutorBulkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorBulkSize(int asyncHistoryExecutorBulkSize) {
+        this.asyncHistoryExecutorBulkSize = asyncHistoryExecutorBulkSize;
+        return this;
+    }
 }
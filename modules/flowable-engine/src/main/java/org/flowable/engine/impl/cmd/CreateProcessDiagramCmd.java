@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+
+/**
+ * Renders the diagram of a process definition whose diagram creation was postponed until first requested, and stores it as a deployment resource.
+ *
+ * Meant to run in its own transaction (see {@link GetDeploymentProcessDiagramCmd}): when another transaction stores the diagram concurrently, the update of the process definition fails with a
+ * {@link org.flowable.engine.common.api.FlowableOptimisticLockingException}, after which the rendered diagram is still available through {@link #getDiagramResource()}.
+ */
+public class CreateProcessDiagramCmd implements Command<ResourceEntity>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionId;
+    protected ResourceEntity diagramResource;
+
+    public CreateProcessDiagramCmd(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    public ResourceEntity execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinitionEntity processDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+
+        if (processDefinition.getDiagramResourceName() != null) {
+            // Stored by another transaction in the meantime
+            return processEngineConfiguration.getResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(processDefinition.getDeploymentId(), processDefinition.getDiagramResourceName());
+        }
+
+        diagramResource = processEngineConfiguration.getProcessDefinitionDiagramHelper()
+                .createDiagramForProcessDefinition(processDefinition, ProcessDefinitionUtil.getBpmnModel(processDefinitionId));
+        if (diagramResource != null) {
+            processEngineConfiguration.getResourceEntityManager().insert(diagramResource, false);
+            processDefinition.setDiagramResourceName(diagramResource.getName());
+        }
+        return diagramResource;
+    }
+
+    /**
+     * The diagram rendered by this command, or null when it found an already stored diagram or none could be rendered.
+     */
+    public ResourceEntity getDiagramResource() {
+        return diagramResource;
+    }
+
+}
@@ -13,13 +13,19 @@
 
 package org.flowable.engine.impl.cmd;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,9 +50,33 @@ public class GetDeploymentProcessDiagramCmd implements Command<InputStream>, Ser
     }
 
     public InputStream execute(CommandContext commandContext) {
-        ProcessDefinition processDefinition = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().findDeployedProcessDefinitionById(processDefinitionId);
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinition processDefinition = processEngineConfiguration.getDeploymentManager().findDeployedProcessDefinitionById(processDefinitionId);
         String deploymentId = processDefinition.getDeploymentId();
         String resourceName = processDefinition.getDiagramResourceName();
+
+        if (resourceName == null && processEngineConfiguration.getProcessDefinitionDiagramHelper().shouldCreateDiagramLazily(processDefinition)
+                && !Flowable5Util.isFlowable5ProcessDefinition(processDefinition, processEngineConfiguration)) {
+
+            // The cached process definition doesn't know about a diagram created by another transaction (or on another node)
+            ProcessDefinitionEntity persistedProcessDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+            resourceName = persistedProcessDefinition.getDiagramResourceName();
+
+            if (resourceName == null) {
+                ResourceEntity resource = createDiagram(processEngineConfiguration);
+                if (resource == null) {
+                    return null;
+                }
+                if (processDefinition instanceof ProcessDefinitionEntity) {
+                    ((ProcessDefinitionEntity) processDefinition).setDiagramResourceName(resource.getName());
+                }
+                return new ByteArrayInputStream(resource.getBytes());
+
+            } else if (processDefinition instanceof ProcessDefinitionEntity) {
+                ((ProcessDefinitionEntity) processDefinition).setDiagramResourceName(resourceName);
+            }
+        }
+
         if (resourceName == null) {
             LOGGER.info("Resource name is null! No process diagram stream exists.");
             return null;
@@ -56,4 +86,20 @@ public class GetDeploymentProcessDiagramCmd implements Command<InputStream>, Ser
         }
     }
 
+    /**
+     * Renders and stores the diagram in its own transaction. When a concurrent first request stored the diagram before this one,
+     * the update of the process definition fails on its revision and the diagram rendered here is served anyway.
+     */
+    protected ResourceEntity createDiagram(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        CreateProcessDiagramCmd createProcessDiagramCmd = new CreateProcessDiagramCmd(processDefinitionId);
+        try {
+            return processEngineConfiguration.getCommandExecutor().execute(
+                    processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew(), createProcessDiagramCmd);
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Process diagram of {} was stored concurrently, serving the diagram rendered by this request", processDefinitionId);
+            return createProcessDiagramCmd.getDiagramResource();
+        }
+    }
+
 }
@@ -60,6 +60,12 @@ public abstract class AbstractExpressionManager implements ExpressionManager {
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
 
+    /**
+     * The part of the resolver chain that doesn't depend on the variable scope. It is created once and shared by all el contexts,
+     * so only the {@link VariableScopeElResolver} is created per variable scope.
+     */
+    protected volatile ELResolver scopeIndependentElResolver;
+
     @Override
     public Expression createExpression(String expression) {
         if (parsingElContext == null) {
@@ -99,6 +105,24 @@ public abstract class AbstractExpressionManager implements ExpressionManager {
     protected ELResolver createElResolver(VariableScope variableScope) {
         CompositeELResolver elResolver = new CompositeELResolver();
         elResolver.add(new VariableScopeElResolver(variableScope));
+        elResolver.add(getScopeIndependentElResolver());
+        return elResolver;
+    }
+
+    public ELResolver getScopeIndependentElResolver() {
+        ELResolver elResolver = scopeIndependentElResolver;
+        if (elResolver == null) {
+            elResolver = createScopeIndependentElResolver();
+            scopeIndependentElResolver = elResolver;
+        }
+        return elResolver;
+    }
+
+    /**
+     * Creates the resolvers that come after the {@link VariableScopeElResolver}. These are shared between threads, so they must be stateless.
+     */
+    protected ELResolver createScopeIndependentElResolver() {
+        CompositeELResolver elResolver = new CompositeELResolver();
 
         if (beans != null) {
             // ACT-1102: Also expose all beans in configuration when using
@@ -121,6 +145,7 @@ public abstract class AbstractExpressionManager implements ExpressionManager {
 
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.scopeIndependentElResolver = null;
     }
 
     public List<FlowableFunctionDelegate> getFunctionDelegates() {
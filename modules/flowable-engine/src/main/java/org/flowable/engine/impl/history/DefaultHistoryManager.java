@@ -21,6 +21,7 @@ import java.util.Objects;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.impl.history.HistoryLevel;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -70,7 +71,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED)) {
                     eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
                             FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance));
                 }
@@ -100,7 +101,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (eventDispatcher != null && EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED)) {
                 eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
                         FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance));
             }
@@ -117,7 +118,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (eventDispatcher != null && EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED)) {
                 eventDispatcher.dispatchEvent(
                                 FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance));
             }
@@ -185,7 +186,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED)) {
                     eventDispatcher.dispatchEvent(
                                     FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity));
                 }
@@ -203,7 +204,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED)) {
                     eventDispatcher.dispatchEvent(
                                     FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
                 }
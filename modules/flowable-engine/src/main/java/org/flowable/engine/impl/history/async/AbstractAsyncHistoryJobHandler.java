@@ -14,6 +14,8 @@ package org.flowable.engine.impl.history.async;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
@@ -25,6 +27,15 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
 
     protected boolean isAsyncHistoryJsonGroupingEnabled;
+    protected AsyncHistoryPayloadCodec payloadCodec;
+
+    public AbstractAsyncHistoryJobHandler() {
+        this(new JsonAsyncHistoryPayloadCodec());
+    }
+
+    public AbstractAsyncHistoryJobHandler(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
 
     @Override
     public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext) {
@@ -33,7 +44,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
             try {
 
                 byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
+                JsonNode historyNode = payloadCodec.decode(bytes, objectMapper);
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
@@ -60,6 +71,14 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
 
     protected abstract void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode);
 
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    public void setPayloadCodec(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
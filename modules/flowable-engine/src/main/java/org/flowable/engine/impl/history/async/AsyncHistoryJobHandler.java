@@ -14,10 +14,14 @@ package org.flowable.engine.impl.history.async;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityStartHistoryJsonTransformer;
@@ -41,14 +45,19 @@ import org.flowable.engine.impl.history.async.json.transformer.TaskPropertyChang
 import org.flowable.engine.impl.history.async.json.transformer.VariableCreatedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableRemovedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableUpdatedHistoryJsonTransformer;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.BulkHistoryJobHandler;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
+public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler implements BulkHistoryJobHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHistoryJobHandler.class);
 
@@ -56,9 +65,20 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
 
     protected Map<String, List<HistoryJsonTransformer>> historyJsonTransformers = new HashMap<>();
 
+    /** The maximum number of ids in one IN-clause when prefetching existing history data for a bulk of jobs */
+    protected int bulkPrefetchInClauseSize = 500;
+
+    public AsyncHistoryJobHandler() {
+    }
+
+    public AsyncHistoryJobHandler(AsyncHistoryPayloadCodec payloadCodec) {
+        super(payloadCodec);
+    }
+
     @Override
     public String getType() {
-        return JOB_TYPE;
+        // The type is determined by the codec, so that every payload encoding has its own handler
+        return payloadCodec.getJobHandlerType();
     }
 
     public void initDefaultTransformers() {
@@ -128,6 +148,81 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         }
     }
 
+    @Override
+    public void executeBulk(List<HistoryJobEntity> jobs, CommandContext commandContext) {
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+
+        List<HistoryJobEntity> historyNodeJobs = new ArrayList<>();
+        List<JsonNode> historyNodes = new ArrayList<>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+                JsonNode historyNode = payloadCodec.decode(getJobBytes(job), objectMapper);
+                if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+                    for (JsonNode jsonNode : historyNode) {
+                        historyNodeJobs.add(job);
+                        historyNodes.add(jsonNode);
+                    }
+                } else {
+                    historyNodeJobs.add(job);
+                    historyNodes.add(historyNode);
+                }
+            }
+        }
+
+        prefetchHistoricData(historyNodes, commandContext);
+
+        // The nodes are applied in their original order, as later nodes can depend on earlier ones (e.g. an activity end on its start).
+        // The lookups of the transformers are now served from the entity cache, and the resulting inserts and updates
+        // are flushed together at the end of the transaction.
+        for (int i = 0; i < historyNodes.size(); i++) {
+            processHistoryJson(commandContext, historyNodeJobs.get(i), historyNodes.get(i));
+        }
+    }
+
+    /**
+     * Loads the existing historic process instances, unfinished activity instances and task instances of all process instances
+     * referenced in the given history data with one query per entity type, so they end up in the entity cache.
+     */
+    protected void prefetchHistoricData(List<JsonNode> historyNodes, CommandContext commandContext) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        for (JsonNode historyNode : historyNodes) {
+            JsonNode dataNode = historyNode.get(HistoryJsonConstants.DATA);
+            if (dataNode != null && dataNode.hasNonNull(HistoryJsonConstants.PROCESS_INSTANCE_ID)) {
+                processInstanceIds.add(dataNode.get(HistoryJsonConstants.PROCESS_INSTANCE_ID).asText());
+            }
+        }
+
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        List<String> processInstanceIdList = new ArrayList<>(processInstanceIds);
+        for (int fromIndex = 0; fromIndex < processInstanceIdList.size(); fromIndex += bulkPrefetchInClauseSize) {
+            List<String> ids = processInstanceIdList.subList(fromIndex, Math.min(processInstanceIdList.size(), fromIndex + bulkPrefetchInClauseSize));
+
+            HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = new HistoricProcessInstanceQueryImpl();
+            historicProcessInstanceQuery.processInstanceIds(new LinkedHashSet<>(ids));
+            CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery);
+
+            CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findUnfinishedHistoricActivityInstancesByProcessInstanceIds(ids);
+
+            HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService();
+            if (historicTaskService != null) {
+                HistoricTaskInstanceQueryImpl historicTaskInstanceQuery = new HistoricTaskInstanceQueryImpl();
+                historicTaskInstanceQuery.processInstanceIdIn(new ArrayList<>(ids));
+                historicTaskService.findHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery);
+            }
+        }
+    }
+
+    public int getBulkPrefetchInClauseSize() {
+        return bulkPrefetchInClauseSize;
+    }
+
+    public void setBulkPrefetchInClauseSize(int bulkPrefetchInClauseSize) {
+        this.bulkPrefetchInClauseSize = bulkPrefetchInClauseSize;
+    }
+
     public Map<String, List<HistoryJsonTransformer>> getHistoryJsonTransformers() {
         return historyJsonTransformers;
     }
@@ -12,12 +12,8 @@
  */
 package org.flowable.engine.impl.history.async;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.util.zip.GZIPInputStream;
-
-import org.flowable.engine.common.impl.util.IoUtil;
-import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.engine.impl.history.async.codec.GzipAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
 
 /**
  * @author Joram Barrez
@@ -26,25 +22,13 @@ public class AsyncHistoryJobZippedHandler extends AsyncHistoryJobHandler {
 
     public static final String JOB_TYPE = "async-history-zipped";
 
+    public AsyncHistoryJobZippedHandler() {
+        super(new GzipAsyncHistoryPayloadCodec(new JsonAsyncHistoryPayloadCodec()));
+    }
+
     @Override
     public String getType() {
         return JOB_TYPE;
     }
-    
-    protected byte[] getJobBytes(HistoryJobEntity job) {
-        byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
-        bytes = decompress(bytes);
-        return bytes;
-    }
-
-    protected byte[] decompress(final byte[] compressed) {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(compressed)) {
-            try (GZIPInputStream gis = new GZIPInputStream(bais)) {
-                return IoUtil.readInputStream(gis, "async-history-configuration");
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error while decompressing json bytes", e);
-        }
-    }
 
 }
@@ -21,12 +21,14 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.HistoryJobService;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -35,6 +37,12 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     protected boolean isJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold;
+
+    /**
+     * When set, all history data is written with this codec (and the history job type of the codec).
+     * When null, json text is written, gzipped for grouped jobs when {@link #isJsonGzipCompressionEnabled} is true.
+     */
+    protected AsyncHistoryPayloadCodec payloadCodec;
     
     @Override
     public void historyDataGenerated(List<ObjectNode> historyObjectNodes) {
@@ -43,7 +51,10 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
 
     protected void createJobsWithHistoricalData(List<ObjectNode> historyObjectNodes, CommandContext commandContext) {
         AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
-        if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
+        if (payloadCodec != null) {
+            createJobsWithHistoricalData(historyObjectNodes, commandContext, asyncHistorySession, payloadCodec);
+
+        } else if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
             String jobType = isJsonGzipCompressionEnabled ? AsyncHistoryJobZippedHandler.JOB_TYPE : AsyncHistoryJobHandler.JOB_TYPE;
             HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobType);
             ArrayNode arrayNode = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createArrayNode();
@@ -61,6 +72,26 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
         }
     }
     
+    protected void createJobsWithHistoricalData(List<ObjectNode> historyObjectNodes, CommandContext commandContext, 
+            AsyncHistorySession asyncHistorySession, AsyncHistoryPayloadCodec codec) {
+        
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
+            HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, codec.getJobHandlerType());
+            ArrayNode arrayNode = objectMapper.createArrayNode();
+            for (ObjectNode historyJsonNode : historyObjectNodes) {
+                arrayNode.add(historyJsonNode);
+            }
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(codec.encode(arrayNode, objectMapper));
+            
+        } else {
+            for (ObjectNode historyJsonNode : historyObjectNodes) {
+                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, codec.getJobHandlerType());
+                jobEntity.setAdvancedJobHandlerConfigurationBytes(codec.encode(historyJsonNode, objectMapper));
+            }
+        }
+    }
+    
     protected HistoryJobEntity createAndInsertJobEntity(CommandContext commandContext, AsyncHistorySession asyncHistorySession, String jobType) {
         ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         HistoryJobService historyJobService = CommandContextUtil.getHistoryJobService(commandContext);
@@ -104,6 +135,14 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
         this.isJsonGzipCompressionEnabled = isJsonGzipCompressionEnabled;
     }
 
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    public void setPayloadCodec(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
+
     public boolean isAsyncHistoryJsonGroupingEnabled() {
         return isAsyncHistoryJsonGroupingEnabled;
     }
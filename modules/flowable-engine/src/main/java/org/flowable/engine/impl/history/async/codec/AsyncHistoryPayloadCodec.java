@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encodes the json history data produced by the async history manager into the bytes stored on a history job,
+ * and decodes them again when the history job is executed.
+ * 
+ * Each codec is bound to its own history job handler type, so that payloads written with one codec
+ * remain readable after the codec of the engine has been changed.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    /**
+     * @return the type of the history job handler that decodes payloads encoded by this codec.
+     */
+    String getJobHandlerType();
+
+    byte[] encode(JsonNode historyNode, ObjectMapper objectMapper);
+
+    JsonNode decode(byte[] bytes, ObjectMapper objectMapper);
+
+}
@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.util.IoUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Gzip compresses the bytes of another codec. The job handler type is the one of the wrapped codec with a '-zipped' suffix,
+ * so gzipped json is handled by the existing {@link org.flowable.engine.impl.history.async.AsyncHistoryJobZippedHandler}.
+ */
+public class GzipAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final String JOB_TYPE_SUFFIX = "-zipped";
+
+    protected AsyncHistoryPayloadCodec wrappedCodec;
+
+    public GzipAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec wrappedCodec) {
+        this.wrappedCodec = wrappedCodec;
+    }
+
+    @Override
+    public String getJobHandlerType() {
+        return wrappedCodec.getJobHandlerType() + JOB_TYPE_SUFFIX;
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode, ObjectMapper objectMapper) {
+        return compress(wrappedCodec.encode(historyNode, objectMapper));
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) {
+        return wrappedCodec.decode(decompress(bytes), objectMapper);
+    }
+
+    protected byte[] compress(final byte[] bytes) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+                gos.write(bytes);
+            }
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new FlowableException("Error while compressing async history data", e);
+        }
+    }
+
+    protected byte[] decompress(final byte[] compressed) {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(compressed)) {
+            try (GZIPInputStream gis = new GZIPInputStream(bais)) {
+                return IoUtil.readInputStream(gis, "async-history-configuration");
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Error while decompressing async history data", e);
+        }
+    }
+
+    public AsyncHistoryPayloadCodec getWrappedCodec() {
+        return wrappedCodec;
+    }
+
+}
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import java.io.IOException;
+
+import org.flowable.engine.common.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Stores history data in the binary Smile format, which is a lot more compact than json text
+ * (field names are back-referenced, numbers are stored binary) and cheaper to parse.
+ * 
+ * Requires the com.fasterxml.jackson.dataformat:jackson-dataformat-smile dependency on the classpath.
+ */
+public class SmileAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final String JOB_TYPE = "async-history-smile";
+
+    // Only json trees are written and read, so the configuration of the engine object mapper is not needed
+    protected ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory());
+
+    @Override
+    public String getJobHandlerType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode, ObjectMapper objectMapper) {
+        try {
+            return smileObjectMapper.writeValueAsBytes(historyNode);
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize historic data for async history", e);
+        }
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) {
+        try {
+            return smileObjectMapper.readTree(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize historic data for async history", e);
+        }
+    }
+
+}
@@ -12,16 +12,20 @@
  */
 package org.flowable.engine.impl.history.async.message;
 
-import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.asyncexecutor.message.AsyncJobMessageReceiver;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.AbstractAsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.HistoryJob;
+import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.HistoryJobService;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
@@ -94,14 +98,24 @@ public class AsyncHistoryJobMessageReceiver {
     protected JsonNode getHistoryJobData(HistoryJobEntity job) {
         ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
-            try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
-            } catch (IOException e) {
-                throw new FlowableException("Could not deserialize json for history job data", e);
-            }
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
+            return getPayloadCodec(job).decode(bytes, objectMapper);
         }
         return null;
     }
+
+    /**
+     * The payload is decoded with the codec of the history job handler of the job, as that is the codec that was used to encode it.
+     * Payloads of other (custom) history job types are read as plain json.
+     */
+    protected AsyncHistoryPayloadCodec getPayloadCodec(HistoryJobEntity job) {
+        Map<String, HistoryJobHandler> historyJobHandlers = processEngineConfiguration.getHistoryJobHandlers();
+        HistoryJobHandler historyJobHandler = historyJobHandlers != null ? historyJobHandlers.get(job.getJobHandlerType()) : null;
+        if (historyJobHandler instanceof AbstractAsyncHistoryJobHandler) {
+            return ((AbstractAsyncHistoryJobHandler) historyJobHandler).getPayloadCodec();
+        }
+        return new JsonAsyncHistoryPayloadCodec();
+    }
     
     public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return processEngineConfiguration;
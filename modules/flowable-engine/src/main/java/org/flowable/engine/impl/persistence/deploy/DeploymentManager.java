@@ -23,6 +23,7 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -123,10 +124,14 @@ public class DeploymentManager {
                 return Flowable5Util.getFlowable5CompatibilityHandler().resolveProcessDefinition(processDefinition);
             }
 
+            long loadStartTime = System.nanoTime();
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
             deploy(deployment, null);
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+            if (processDefinitionCache instanceof DeploymentCacheStatistics) {
+                ((DeploymentCacheStatistics) processDefinitionCache).recordLoadTime(System.nanoTime() - loadStartTime);
+            }
 
             if (cachedProcessDefinition == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put process definition '" + processDefinitionId + "' in the cache");
@@ -12,21 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.deploy;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -38,35 +32,23 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class ProcessDefinitionInfoCache {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
-
-    protected Map<String, ProcessDefinitionInfoCacheObject> cache;
+    protected DeploymentCache<ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
-        this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new HashMap<String, ProcessDefinitionInfoCacheObject>());
+        this(commandExecutor, new DefaultDeploymentCache<ProcessDefinitionInfoCacheObject>());
     }
 
     /** Cache which has a hard limit: no more elements will be cached than the limit. */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor, final int limit) {
-        this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, ProcessDefinitionInfoCacheObject>(limit + 1, 0.75f, true) {
-            // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            protected boolean removeEldestEntry(Map.Entry<String, ProcessDefinitionInfoCacheObject> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
+        this(commandExecutor, new DefaultDeploymentCache<ProcessDefinitionInfoCacheObject>(limit));
+    }
 
-        });
+    /** Cache backed by the given {@link DeploymentCache} implementation, e.g. a {@link ConcurrentDeploymentCache}. */
+    public ProcessDefinitionInfoCache(CommandExecutor commandExecutor, DeploymentCache<ProcessDefinitionInfoCacheObject> cache) {
+        this.commandExecutor = commandExecutor;
+        this.cache = cache;
     }
 
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
@@ -89,7 +71,7 @@ public class ProcessDefinitionInfoCache {
     }
 
     public void add(String id, ProcessDefinitionInfoCacheObject obj) {
-        cache.put(id, obj);
+        cache.add(id, obj);
     }
 
     public void remove(String id) {
@@ -102,17 +84,18 @@ public class ProcessDefinitionInfoCache {
 
     // For testing purposes only
     public int size() {
-        return cache.size();
+        if (!(cache instanceof DeploymentCacheStatistics)) {
+            throw new FlowableException("The process definition info cache " + cache.getClass().getName() + " doesn't know its size");
+        }
+        return ((DeploymentCacheStatistics) cache).size();
     }
 
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
@@ -47,7 +48,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -278,11 +279,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
-        if (currentFlowElement != null) {
-            this.activityId = currentFlowElement.getId();
-        } else {
-            this.activityId = null;
-        }
+        String activityId = currentFlowElement != null ? currentFlowElement.getId() : null;
+        markDirtyIfChanged(this.activityId, activityId);
+        this.activityId = activityId;
     }
 
     public FlowableListener getCurrentFlowableListener() {
@@ -322,6 +321,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setBusinessKey(String businessKey) {
+        markDirtyIfChanged(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -332,6 +332,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     // process definition ///////////////////////////////////////////////////////
 
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirtyIfChanged(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -388,7 +389,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
+            String oldProcessInstanceId = this.processInstanceId;
             this.processInstanceId = this.processInstance.getId();
+            indexKeyChanged(oldProcessInstanceId, this.processInstanceId);
         }
     }
 
@@ -413,11 +416,11 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setParent(ExecutionEntity parent) {
         this.parent = (ExecutionEntityImpl) parent;
 
-        if (parent != null) {
-            this.parentId = parent.getId();
-        } else {
-            this.parentId = null;
-        }
+        String parentId = parent != null ? parent.getId() : null;
+        markDirtyIfChanged(this.parentId, parentId);
+        String oldParentId = this.parentId;
+        this.parentId = parentId;
+        indexKeyChanged(oldParentId, parentId);
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -437,11 +440,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
             superExecution.setSubProcessInstance(null);
         }
 
-        if (superExecution != null) {
-            this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
-        } else {
-            this.superExecutionId = null;
-        }
+        String superExecutionId = superExecution != null ? ((ExecutionEntityImpl) superExecution).getId() : null;
+        markDirtyIfChanged(this.superExecutionId, superExecutionId);
+        this.superExecutionId = superExecutionId;
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -479,11 +480,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
-        if (rootProcessInstance != null) {
-            this.rootProcessInstanceId = rootProcessInstance.getId();
-        } else {
-            this.rootProcessInstanceId = null;
-        }
+        String rootProcessInstanceId = rootProcessInstance != null ? rootProcessInstance.getId() : null;
+        markDirtyIfChanged(this.rootProcessInstanceId, rootProcessInstanceId);
+        this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
     public String getRootProcessInstanceId() {
@@ -491,6 +490,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirtyIfChanged(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -501,11 +501,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setScope(boolean isScope) {
+        markDirtyIfChanged(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     public void forceUpdate() {
         this.forcedUpdate = true;
+        this.isDirty = true;
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -814,7 +816,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        indexKeyChanged(oldProcessInstanceId, processInstanceId);
     }
 
     public String getParentId() {
@@ -822,7 +826,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParentId(String parentId) {
+        markDirtyIfChanged(this.parentId, parentId);
+        String oldParentId = this.parentId;
         this.parentId = parentId;
+        indexKeyChanged(oldParentId, parentId);
     }
 
     public String getActivityId() {
@@ -834,6 +841,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setConcurrent(boolean isConcurrent) {
+        markDirtyIfChanged(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -842,10 +850,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setActive(boolean isActive) {
+        markDirtyIfChanged(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     public void inactivate() {
+        markDirtyIfChanged(this.isActive, false);
         this.isActive = false;
     }
 
@@ -878,6 +888,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setSuspensionState(int suspensionState) {
+        markDirtyIfChanged(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -890,6 +901,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setEventScope(boolean isEventScope) {
+        markDirtyIfChanged(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -900,6 +912,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirtyIfChanged(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -910,6 +923,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirtyIfChanged(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -927,6 +941,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setName(String name) {
+        markDirtyIfChanged(this.name, name);
         this.name = name;
     }
 
@@ -971,6 +986,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setLockTime(Date lockTime) {
+        markDirtyIfChanged(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -1014,6 +1030,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setStartActivityId(String startActivityId) {
+        markDirtyIfChanged(this.startActivityId, startActivityId);
         this.startActivityId = startActivityId;
     }
 
@@ -1022,6 +1039,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setStartUserId(String startUserId) {
+        markDirtyIfChanged(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -1030,6 +1048,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setStartTime(Date startTime) {
+        markDirtyIfChanged(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -1038,6 +1057,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirtyIfChanged(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1046,6 +1066,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setTaskCount(int taskCount) {
+        markDirtyIfChanged(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -1054,6 +1075,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setJobCount(int jobCount) {
+        markDirtyIfChanged(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -1062,6 +1084,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setTimerJobCount(int timerJobCount) {
+        markDirtyIfChanged(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -1070,6 +1093,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirtyIfChanged(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1078,6 +1102,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirtyIfChanged(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1086,6 +1111,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setVariableCount(int variableCount) {
+        markDirtyIfChanged(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -1094,6 +1120,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirtyIfChanged(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
 
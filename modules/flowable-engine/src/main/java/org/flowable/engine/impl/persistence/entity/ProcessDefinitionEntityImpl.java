@@ -58,6 +58,7 @@ public class ProcessDefinitionEntityImpl extends AbstractEntity implements Proce
         Map<String, Object> persistentState = new HashMap<>();
         persistentState.put("suspensionState", this.suspensionState);
         persistentState.put("category", this.category);
+        persistentState.put("diagramResourceName", this.diagramResourceName);
         return persistentState;
     }
 
@@ -16,12 +16,13 @@ import java.io.Serializable;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 
 /**
  * @author Tom Baeyens
  * @author Joram Barrez
  */
-public class PropertyEntityImpl extends AbstractEntity implements PropertyEntity, Serializable {
+public class PropertyEntityImpl extends AbstractEntity implements PropertyEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -45,6 +46,7 @@ public class PropertyEntityImpl extends AbstractEntity implements PropertyEntity
 
     public void setValue(String value) {
         this.value = value;
+        this.isDirty = true;
     }
 
     public String getId() {
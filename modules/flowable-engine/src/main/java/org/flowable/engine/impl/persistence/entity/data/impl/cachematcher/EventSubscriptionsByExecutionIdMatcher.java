@@ -13,16 +13,42 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher<EventSubscriptionEntity> {
+
+    public static final EntityCacheIndex<EventSubscriptionEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<EventSubscriptionEntity>() {
+
+        @Override
+        public String getName() {
+            return "executionId";
+        }
+
+        @Override
+        public String getIndexKey(EventSubscriptionEntity eventSubscriptionEntity) {
+            return eventSubscriptionEntity.getExecutionId();
+        }
+
+    };
 
     @Override
     public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
         return eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex<EventSubscriptionEntity> getCacheIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    public String getCacheIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
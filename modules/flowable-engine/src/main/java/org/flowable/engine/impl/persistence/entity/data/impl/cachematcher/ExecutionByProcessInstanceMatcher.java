@@ -13,16 +13,42 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
+
+    public static final EntityCacheIndex<ExecutionEntity> PROCESS_INSTANCE_ID_INDEX = new EntityCacheIndex<ExecutionEntity>() {
+
+        @Override
+        public String getName() {
+            return "processInstanceId";
+        }
+
+        @Override
+        public String getIndexKey(ExecutionEntity executionEntity) {
+            return executionEntity.getProcessInstanceId();
+        }
+
+    };
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
         return entity.getProcessInstanceId() != null && entity.getProcessInstanceId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex<ExecutionEntity> getCacheIndex() {
+        return PROCESS_INSTANCE_ID_INDEX;
+    }
+
+    @Override
+    public String getCacheIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
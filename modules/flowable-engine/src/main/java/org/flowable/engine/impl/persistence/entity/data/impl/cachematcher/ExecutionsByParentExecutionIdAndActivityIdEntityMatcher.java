@@ -16,12 +16,14 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -33,4 +35,14 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex<ExecutionEntity> getCacheIndex() {
+        return ExecutionsByParentExecutionIdEntityMatcher.PARENT_ID_INDEX;
+    }
+
+    @Override
+    public String getCacheIndexKey(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("parentExecutionId");
+    }
+
+}
@@ -13,12 +13,28 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
+
+    public static final EntityCacheIndex<ExecutionEntity> PARENT_ID_INDEX = new EntityCacheIndex<ExecutionEntity>() {
+
+        @Override
+        public String getName() {
+            return "parentId";
+        }
+
+        @Override
+        public String getIndexKey(ExecutionEntity executionEntity) {
+            return executionEntity.getParentId();
+        }
+
+    };
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -26,4 +42,14 @@ public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatc
         return entity.getParentId() != null && entity.getParentId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex<ExecutionEntity> getCacheIndex() {
+        return PARENT_ID_INDEX;
+    }
+
+    @Override
+    public String getCacheIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -0,0 +1,551 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+import org.flowable.bpmn.model.AbstractFlowableHttpHandler;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.engine.ProcessEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and reads binary snapshots of a {@link BpmnModel}, so a model can be restored without parsing its BPMN 2.0 xml again.
+ * 
+ * A snapshot starts with a header containing the snapshot format version, the engine version and a checksum of the xml it was created from.
+ * A snapshot is only used when all of these match, otherwise (or when anything goes wrong) null is returned and the caller needs to parse the xml.
+ * 
+ * The model is written field by field, keeping references between elements intact. Fields holding runtime objects
+ * (eg. the behavior of a flow node or a listener instance) are listed in {@link #EXCLUDED_FIELDS} and are not written.
+ * Only classes of the BPMN model package, the usual collections and simple values are supported: a model containing anything else
+ * (eg. a custom element) does not get a snapshot.
+ */
+public class BpmnModelSnapshotUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnModelSnapshotUtil.class);
+
+    protected static final int MAGIC_NUMBER = 0x464C424D;
+    protected static final int FORMAT_VERSION = 1;
+
+    protected static final String MODEL_PACKAGE_PREFIX = BpmnModel.class.getPackage().getName() + ".";
+
+    protected static final Set<Class<?>> COLLECTION_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+            ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, HashMap.class, LinkedHashMap.class));
+
+    /**
+     * Fields set at runtime (by the parse handlers or directly by the user) with objects that are not part of the model itself.
+     * These are left at their default value when the model is restored, the same way they are after parsing the xml.
+     */
+    protected static final Set<String> EXCLUDED_FIELDS = new HashSet<String>(Arrays.asList(
+            getFieldKey(BpmnModel.class, "eventSupport"),
+            getFieldKey(FlowNode.class, "behavior"),
+            getFieldKey(FlowableListener.class, "instance"),
+            getFieldKey(AbstractFlowableHttpHandler.class, "instance")));
+
+    protected static final byte TAG_NULL = 0;
+    protected static final byte TAG_REFERENCE = 1;
+    protected static final byte TAG_OBJECT = 2;
+    protected static final byte TAG_STRING = 3;
+    protected static final byte TAG_STRING_REFERENCE = 4;
+    protected static final byte TAG_BOOLEAN = 5;
+    protected static final byte TAG_INTEGER = 6;
+    protected static final byte TAG_LONG = 7;
+    protected static final byte TAG_DOUBLE = 8;
+    protected static final byte TAG_FLOAT = 9;
+    protected static final byte TAG_SHORT = 10;
+    protected static final byte TAG_DATE = 11;
+    protected static final byte TAG_ENUM = 12;
+    protected static final byte TAG_LIST = 13;
+    protected static final byte TAG_SET = 14;
+    protected static final byte TAG_MAP = 15;
+
+    protected static final ConcurrentMap<Class<?>, ClassInfo> CLASS_INFO_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * @return the snapshot, or null if no snapshot could be created for the model (eg. because it contains custom elements).
+     */
+    public static byte[] createSnapshot(BpmnModel bpmnModel, byte[] source) {
+        if (source == null) {
+            return null;
+        }
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeInt(FORMAT_VERSION);
+            dataOutputStream.writeUTF(ProcessEngine.VERSION);
+            dataOutputStream.writeInt(source.length);
+            dataOutputStream.writeLong(getChecksum(source));
+            dataOutputStream.flush();
+
+            new SnapshotWriter(dataOutputStream).writeValue(bpmnModel);
+            dataOutputStream.close();
+            return outputStream.toByteArray();
+
+        } catch (Exception | StackOverflowError e) {
+            LOGGER.warn("Could not create a snapshot of the BPMN model, the xml will be parsed when it is needed again", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the restored model, or null if the snapshot can't be used for the given source.
+     */
+    public static BpmnModel readSnapshot(byte[] snapshot, byte[] source) {
+        if (snapshot == null || source == null) {
+            return null;
+        }
+
+        try {
+            DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(snapshot));
+            if (dataInputStream.readInt() != MAGIC_NUMBER
+                    || dataInputStream.readInt() != FORMAT_VERSION
+                    || !ProcessEngine.VERSION.equals(dataInputStream.readUTF())
+                    || dataInputStream.readInt() != source.length
+                    || dataInputStream.readLong() != getChecksum(source)) {
+                LOGGER.debug("BPMN model snapshot does not match the current engine version or source, ignoring it");
+                return null;
+            }
+
+            Object value = new SnapshotReader(dataInputStream).readValue();
+            if (!(value instanceof BpmnModel)) {
+                throw new IOException("Snapshot does not contain a BPMN model");
+            }
+            return (BpmnModel) value;
+
+        } catch (Exception | StackOverflowError e) {
+            LOGGER.warn("Could not read BPMN model snapshot, falling back to parsing the xml", e);
+            return null;
+        }
+    }
+
+    protected static long getChecksum(byte[] source) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(source);
+        return crc32.getValue();
+    }
+
+    protected static String getFieldKey(Class<?> declaringClass, String fieldName) {
+        return declaringClass.getName() + "#" + fieldName;
+    }
+
+    protected static boolean isExcludedField(Field field) {
+        return EXCLUDED_FIELDS.contains(getFieldKey(field.getDeclaringClass(), field.getName()));
+    }
+
+    protected static boolean isModelClass(Class<?> type) {
+        return type.getName().startsWith(MODEL_PACKAGE_PREFIX);
+    }
+
+    protected static ClassInfo getClassInfo(Class<?> type) throws NoSuchMethodException {
+        ClassInfo classInfo = CLASS_INFO_CACHE.get(type);
+        if (classInfo == null) {
+            classInfo = new ClassInfo(type);
+            CLASS_INFO_CACHE.putIfAbsent(type, classInfo);
+        }
+        return classInfo;
+    }
+
+    /**
+     * The constructor and the persistent fields (superclass fields first) of a model or collection class.
+     */
+    protected static class ClassInfo {
+
+        protected Constructor<?> constructor;
+        protected Field[] fields;
+        protected int fieldsHash;
+
+        public ClassInfo(Class<?> type) throws NoSuchMethodException {
+            if (!type.isEnum()) {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            }
+
+            List<Field> fieldList = new ArrayList<>();
+            if (isModelClass(type)) {
+                List<Class<?>> hierarchy = new LinkedList<>();
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    hierarchy.add(0, current);
+                }
+                for (Class<?> current : hierarchy) {
+                    for (Field field : current.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !isExcludedField(field)) {
+                            field.setAccessible(true);
+                            fieldList.add(field);
+                        }
+                    }
+                }
+            }
+            fields = fieldList.toArray(new Field[fieldList.size()]);
+
+            StringBuilder fieldsDescription = new StringBuilder();
+            for (Field field : fields) {
+                fieldsDescription.append(field.getName()).append(':').append(field.getType().getName()).append(';');
+            }
+            fieldsHash = fieldsDescription.toString().hashCode();
+        }
+
+        public Object newInstance() throws Exception {
+            return constructor.newInstance();
+        }
+    }
+
+    protected static class SnapshotWriter {
+
+        protected DataOutputStream out;
+        protected Map<Object, Integer> objectHandles = new IdentityHashMap<>();
+        protected Map<String, Integer> stringHandles = new HashMap<>();
+        protected Map<Class<?>, Integer> classHandles = new HashMap<>();
+
+        public SnapshotWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @SuppressWarnings("rawtypes")
+        public void writeValue(Object value) throws Exception {
+            if (value == null) {
+                out.writeByte(TAG_NULL);
+                return;
+            }
+
+            Class<?> type = value.getClass();
+            if (type == String.class) {
+                writeString((String) value);
+            } else if (type == Boolean.class) {
+                out.writeByte(TAG_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (type == Integer.class) {
+                out.writeByte(TAG_INTEGER);
+                writeVarInt((Integer) value);
+            } else if (type == Long.class) {
+                out.writeByte(TAG_LONG);
+                out.writeLong((Long) value);
+            } else if (type == Double.class) {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (type == Float.class) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (type == Short.class) {
+                out.writeByte(TAG_SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Date) {
+                out.writeByte(TAG_DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Enum) {
+                Enum<?> enumValue = (Enum<?>) value;
+                if (!isModelClass(enumValue.getDeclaringClass())) {
+                    throw new IOException("Unsupported enum " + enumValue.getDeclaringClass().getName());
+                }
+                out.writeByte(TAG_ENUM);
+                writeClass(enumValue.getDeclaringClass());
+                writeString(enumValue.name());
+
+            } else {
+                Integer handle = objectHandles.get(value);
+                if (handle != null) {
+                    out.writeByte(TAG_REFERENCE);
+                    writeVarInt(handle);
+                    return;
+                }
+                objectHandles.put(value, objectHandles.size());
+
+                if (value instanceof List) {
+                    out.writeByte(TAG_LIST);
+                    writeCollection(type, ArrayList.class, (Collection) value);
+                } else if (value instanceof Set) {
+                    out.writeByte(TAG_SET);
+                    writeCollection(type, LinkedHashSet.class, (Collection) value);
+                } else if (value instanceof Map) {
+                    Map<?, ?> map = (Map) value;
+                    out.writeByte(TAG_MAP);
+                    writeClass(COLLECTION_CLASSES.contains(type) ? type : LinkedHashMap.class);
+                    writeVarInt(map.size());
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        writeValue(entry.getKey());
+                        writeValue(entry.getValue());
+                    }
+                } else if (isModelClass(type)) {
+                    out.writeByte(TAG_OBJECT);
+                    writeClass(type);
+                    for (Field field : getClassInfo(type).fields) {
+                        writeField(value, field);
+                    }
+                } else {
+                    throw new IOException("Unsupported type " + type.getName());
+                }
+            }
+        }
+
+        protected void writeCollection(Class<?> type, Class<?> defaultType, Collection<?> collection) throws Exception {
+            writeClass(COLLECTION_CLASSES.contains(type) ? type : defaultType);
+            writeVarInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        }
+
+        protected void writeField(Object object, Field field) throws Exception {
+            Class<?> type = field.getType();
+            if (!type.isPrimitive()) {
+                writeValue(field.get(object));
+            } else if (type == int.class) {
+                writeVarInt(field.getInt(object));
+            } else if (type == boolean.class) {
+                out.writeBoolean(field.getBoolean(object));
+            } else if (type == long.class) {
+                out.writeLong(field.getLong(object));
+            } else if (type == double.class) {
+                out.writeDouble(field.getDouble(object));
+            } else if (type == float.class) {
+                out.writeFloat(field.getFloat(object));
+            } else if (type == short.class) {
+                out.writeShort(field.getShort(object));
+            } else if (type == byte.class) {
+                out.writeByte(field.getByte(object));
+            } else {
+                out.writeChar(field.getChar(object));
+            }
+        }
+
+        /**
+         * Zigzag encoded, so small negative values (eg. -1 for unknown xml positions) are short too.
+         */
+        protected void writeVarInt(int value) throws IOException {
+            int encoded = (value << 1) ^ (value >> 31);
+            while ((encoded & ~0x7F) != 0) {
+                out.writeByte((encoded & 0x7F) | 0x80);
+                encoded >>>= 7;
+            }
+            out.writeByte(encoded);
+        }
+
+        protected void writeString(String value) throws IOException {
+            Integer handle = stringHandles.get(value);
+            if (handle != null) {
+                out.writeByte(TAG_STRING_REFERENCE);
+                writeVarInt(handle);
+            } else {
+                stringHandles.put(value, stringHandles.size());
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeByte(TAG_STRING);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        /**
+         * The first time a model class is used, a hash of its fields is written too, so the reader can verify it sees the same fields.
+         */
+        protected void writeClass(Class<?> type) throws Exception {
+            Integer handle = classHandles.get(type);
+            if (handle != null) {
+                writeVarInt(handle);
+                return;
+            }
+            classHandles.put(type, classHandles.size());
+
+            writeVarInt(-1);
+            out.writeUTF(type.getName());
+            if (isModelClass(type) && !type.isEnum()) {
+                writeVarInt(getClassInfo(type).fieldsHash);
+            }
+        }
+    }
+
+    protected static class SnapshotReader {
+
+        protected DataInputStream in;
+        protected List<Object> objects = new ArrayList<>();
+        protected List<String> strings = new ArrayList<>();
+        protected List<Class<?>> classes = new ArrayList<>();
+
+        public SnapshotReader(DataInputStream in) {
+            this.in = in;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Object readValue() throws Exception {
+            byte tag = in.readByte();
+            switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_REFERENCE:
+                return objects.get(readVarInt());
+            case TAG_STRING:
+                byte[] bytes = new byte[readVarInt()];
+                in.readFully(bytes);
+                String string = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(string);
+                return string;
+            case TAG_STRING_REFERENCE:
+                return strings.get(readVarInt());
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_INTEGER:
+                return readVarInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_DATE:
+                return new Date(in.readLong());
+            case TAG_ENUM:
+                Class enumType = readClass();
+                if (!enumType.isEnum()) {
+                    throw new IOException(enumType.getName() + " is not an enum");
+                }
+                return Enum.valueOf(enumType, (String) readValue());
+            case TAG_LIST:
+            case TAG_SET:
+                Collection collection = (Collection) newCollection(tag == TAG_LIST ? List.class : Set.class);
+                int collectionSize = readVarInt();
+                for (int i = 0; i < collectionSize; i++) {
+                    collection.add(readValue());
+                }
+                return collection;
+            case TAG_MAP:
+                Map map = (Map) newCollection(Map.class);
+                int mapSize = readVarInt();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readValue(), readValue());
+                }
+                return map;
+            case TAG_OBJECT:
+                Class<?> type = readClass();
+                if (!isModelClass(type) || type.isEnum()) {
+                    throw new IOException("Unsupported type " + type.getName());
+                }
+                ClassInfo classInfo = getClassInfo(type);
+                Object object = classInfo.newInstance();
+                objects.add(object);
+                for (Field field : classInfo.fields) {
+                    readField(object, field);
+                }
+                return object;
+            default:
+                throw new IOException("Invalid snapshot tag " + tag);
+            }
+        }
+
+        protected Object newCollection(Class<?> expectedType) throws Exception {
+            Class<?> type = readClass();
+            if (!COLLECTION_CLASSES.contains(type) || !expectedType.isAssignableFrom(type)) {
+                throw new IOException("Unsupported collection type " + type.getName());
+            }
+            Object collection = getClassInfo(type).newInstance();
+            objects.add(collection);
+            return collection;
+        }
+
+        protected void readField(Object object, Field field) throws Exception {
+            Class<?> type = field.getType();
+            if (!type.isPrimitive()) {
+                field.set(object, readValue());
+            } else if (type == int.class) {
+                field.setInt(object, readVarInt());
+            } else if (type == boolean.class) {
+                field.setBoolean(object, in.readBoolean());
+            } else if (type == long.class) {
+                field.setLong(object, in.readLong());
+            } else if (type == double.class) {
+                field.setDouble(object, in.readDouble());
+            } else if (type == float.class) {
+                field.setFloat(object, in.readFloat());
+            } else if (type == short.class) {
+                field.setShort(object, in.readShort());
+            } else if (type == byte.class) {
+                field.setByte(object, in.readByte());
+            } else {
+                field.setChar(object, in.readChar());
+            }
+        }
+
+        protected int readVarInt() throws IOException {
+            int encoded = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 28) {
+                    throw new IOException("Invalid variable length int");
+                }
+                b = in.readByte();
+                encoded |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (encoded >>> 1) ^ -(encoded & 1);
+        }
+
+        protected Class<?> readClass() throws Exception {
+            int handle = readVarInt();
+            if (handle >= 0) {
+                return classes.get(handle);
+            }
+
+            String className = in.readUTF();
+            Class<?> type = null;
+            for (Class<?> collectionClass : COLLECTION_CLASSES) {
+                if (collectionClass.getName().equals(className)) {
+                    type = collectionClass;
+                }
+            }
+            if (type == null) {
+                if (!className.startsWith(MODEL_PACKAGE_PREFIX)) {
+                    throw new IOException("Class not allowed in a BPMN model snapshot: " + className);
+                }
+                type = Class.forName(className, false, BpmnModel.class.getClassLoader());
+
+                if (!type.isEnum() && readVarInt() != getClassInfo(type).fieldsHash) {
+                    throw new IOException("Fields of " + className + " have changed");
+                }
+            }
+
+            classes.add(type);
+            return type;
+        }
+    }
+
+}
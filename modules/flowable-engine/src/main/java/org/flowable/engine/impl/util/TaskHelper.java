@@ -20,6 +20,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -143,7 +144,7 @@ public class TaskHelper {
             countingExecutionEntity.setTaskCount(countingExecutionEntity.getTaskCount() + 1);
         }
 
-        if (fireCreateEvent && CommandContextUtil.getEventDispatcher().isEnabled()) {
+        if (fireCreateEvent && EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.TASK_ASSIGNED)) {
             if (taskEntity.getAssignee() != null) {
                 CommandContextUtil.getEventDispatcher().dispatchEvent(
                                 FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity));
@@ -363,7 +364,7 @@ public class TaskHelper {
     protected static void fireAssignmentEvents(TaskEntity taskEntity) {
         CommandContextUtil.getProcessEngineConfiguration().getListenerNotificationHelper().executeTaskListeners(taskEntity, TaskListener.EVENTNAME_ASSIGNMENT);
 
-        if (CommandContextUtil.getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.TASK_ASSIGNED)) {
             CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.TASK_ASSIGNED, taskEntity));
         }
     }
@@ -20,15 +20,12 @@ import org.flowable.engine.common.impl.javax.el.ELResolver;
 import org.flowable.engine.common.impl.javax.el.ListELResolver;
 import org.flowable.engine.common.impl.javax.el.MapELResolver;
 import org.flowable.engine.impl.el.DefaultExpressionManager;
-import org.flowable.engine.impl.el.VariableScopeElResolver;
-import org.flowable.variable.service.delegate.VariableScope;
 
 public class MockExpressionManager extends DefaultExpressionManager {
 
     @Override
-    protected ELResolver createElResolver(VariableScope variableScope) {
+    protected ELResolver createScopeIndependentElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(new VariableScopeElResolver(variableScope));
         compositeElResolver.add(new MockElResolver());
         compositeElResolver.add(new ArrayELResolver());
         compositeElResolver.add(new ListELResolver());
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.agenda;
+
+import java.util.Collections;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.ImplementationType;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+
+/**
+ * The agenda reuses executed operations: a long synchronous chain must still execute every step exactly once.
+ */
+public class AgendaOperationReuseTest extends PluggableFlowableTestCase {
+
+    public void testLongSynchronousChain() {
+        Deployment deployment = repositoryService.createDeployment()
+                .addBpmnModel("chain.bpmn20.xml", createServiceTaskChain("chain", 100, "${execution.setVariable('counter', counter + 1)}", true))
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+
+        for (int i = 0; i < 3; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("chain", Collections.<String, Object> singletonMap("counter", 0)).getId();
+            assertEquals(100, ((Number) runtimeService.getVariable(processInstanceId, "counter")).intValue());
+            assertEquals("waitState", taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getTaskDefinitionKey());
+        }
+    }
+
+    /**
+     * Creates a process with the given number of service tasks in sequence, all executing the given expression.
+     * If a wait state is requested, a user task is added before the end event.
+     */
+    public static BpmnModel createServiceTaskChain(String processDefinitionKey, int nrOfServiceTasks, String expression, boolean addWaitState) {
+        BpmnModel model = new BpmnModel();
+        org.flowable.bpmn.model.Process process = new org.flowable.bpmn.model.Process();
+        model.addProcess(process);
+        process.setId(processDefinitionKey);
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        String previousId = startEvent.getId();
+        for (int i = 0; i < nrOfServiceTasks; i++) {
+            ServiceTask serviceTask = new ServiceTask();
+            serviceTask.setId("serviceTask" + i);
+            serviceTask.setImplementationType(ImplementationType.IMPLEMENTATION_TYPE_EXPRESSION);
+            serviceTask.setImplementation(expression);
+            process.addFlowElement(serviceTask);
+
+            process.addFlowElement(new SequenceFlow(previousId, serviceTask.getId()));
+            previousId = serviceTask.getId();
+        }
+
+        if (addWaitState) {
+            UserTask userTask = new UserTask();
+            userTask.setId("waitState");
+            process.addFlowElement(userTask);
+
+            process.addFlowElement(new SequenceFlow(previousId, userTask.getId()));
+            previousId = userTask.getId();
+        }
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(endEvent);
+        process.addFlowElement(new SequenceFlow(previousId, endEvent.getId()));
+
+        return model;
+    }
+
+}
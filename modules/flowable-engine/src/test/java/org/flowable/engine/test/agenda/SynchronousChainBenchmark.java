@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.agenda;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+
+/**
+ * Measures the throughput of the agenda for a long synchronous chain of service tasks, in agenda steps (flow nodes) per second.
+ * History is disabled, so that mainly the execution loop itself is measured.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of service tasks in the chain and the number of process instances.
+ */
+public class SynchronousChainBenchmark {
+
+    public static void main(String[] args) {
+        int nrOfServiceTasks = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int nrOfProcessInstances = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        ProcessEngine processEngine = new StandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-agenda-benchmark;DB_CLOSE_DELAY=1000")
+                .setHistory(ProcessEngineConfiguration.HISTORY_NONE)
+                .setAsyncExecutorActivate(false)
+                .buildProcessEngine();
+
+        try {
+            processEngine.getRepositoryService().createDeployment()
+                    .addBpmnModel("chain.bpmn20.xml", AgendaOperationReuseTest.createServiceTaskChain("chain", nrOfServiceTasks, "${true}", false))
+                    .deploy();
+
+            RuntimeService runtimeService = processEngine.getRuntimeService();
+
+            // Warm up
+            for (int i = 0; i < nrOfProcessInstances / 10; i++) {
+                runtimeService.startProcessInstanceByKey("chain");
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < nrOfProcessInstances; i++) {
+                runtimeService.startProcessInstanceByKey("chain");
+            }
+            long nanos = System.nanoTime() - start;
+
+            long nrOfSteps = (long) nrOfProcessInstances * (nrOfServiceTasks + 2);
+            System.out.println(String.format("%d process instances of %d service tasks: %.0f process instances/s, %.0f steps/s",
+                    nrOfProcessInstances, nrOfServiceTasks, nrOfProcessInstances / (nanos / 1e9), nrOfSteps / (nanos / 1e9)));
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+}
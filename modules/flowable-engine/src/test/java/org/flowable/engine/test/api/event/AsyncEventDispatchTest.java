@@ -0,0 +1,234 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.event.AsyncFlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.impl.event.AsyncEventDispatchExecutor;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.event.FlowableEventImpl;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Test case for the asynchronous, post-commit delivery of events to {@link AsyncFlowableEventListener}s.
+ */
+public class AsyncEventDispatchTest extends PluggableFlowableTestCase {
+
+    protected FlowableEventDispatcherImpl eventDispatcher;
+    protected AsyncEventDispatchExecutor asyncEventDispatchExecutor;
+    protected TestFlowableEventListener synchronousListener;
+    protected TestAsyncEventListener asyncListener;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        eventDispatcher = (FlowableEventDispatcherImpl) processEngineConfiguration.getEventDispatcher();
+        asyncEventDispatchExecutor = new AsyncEventDispatchExecutor(2, 16, AsyncEventDispatchExecutor.BackpressureStrategy.BLOCK);
+        eventDispatcher.setAsyncEventDispatchExecutor(asyncEventDispatchExecutor);
+
+        synchronousListener = new TestFlowableEventListener();
+        asyncListener = new TestAsyncEventListener(false);
+        eventDispatcher.addEventListener(synchronousListener);
+        eventDispatcher.addEventListener(asyncListener);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        eventDispatcher.removeEventListener(synchronousListener);
+        eventDispatcher.removeEventListener(asyncListener);
+        eventDispatcher.setAsyncEventDispatchExecutor(null);
+        asyncEventDispatchExecutor.shutdown();
+
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml" })
+    public void testAsyncListenerNotifiedAfterCommitInOrder() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        org.flowable.task.service.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        // Shutting down waits until all queued events have been delivered
+        asyncEventDispatchExecutor.shutdown();
+
+        List<FlowableEvent> expectedEvents = filterByProcessInstance(synchronousListener.getEventsReceived(), processInstance.getId());
+        List<FlowableEvent> asyncEvents = filterByProcessInstance(asyncListener.getEventsReceived(), processInstance.getId());
+        assertFalse(expectedEvents.isEmpty());
+        assertEquals(expectedEvents, asyncEvents);
+
+        for (String threadName : asyncListener.getThreadNames()) {
+            assertTrue(threadName, threadName.startsWith(asyncEventDispatchExecutor.getThreadNamePrefix()));
+        }
+    }
+
+    public void testAsyncListenerNotNotifiedOnRollback() {
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    Context.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+                    throw new FlowableException("rollback");
+                }
+
+            });
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertEquals("rollback", e.getMessage());
+        }
+
+        asyncEventDispatchExecutor.shutdown();
+
+        assertEquals(1, synchronousListener.getEventsReceived().size());
+        assertTrue(asyncListener.getEventsReceived().isEmpty());
+    }
+
+    public void testFailOnExceptionListenerIsNotifiedSynchronously() {
+        TestAsyncEventListener failOnExceptionListener = new TestAsyncEventListener(true);
+        eventDispatcher.addEventListener(failOnExceptionListener);
+        try {
+            eventDispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+
+            assertEquals(1, failOnExceptionListener.getEventsReceived().size());
+            assertEquals(Thread.currentThread().getName(), failOnExceptionListener.getThreadNames().get(0));
+
+        } finally {
+            eventDispatcher.removeEventListener(failOnExceptionListener);
+        }
+    }
+
+    public void testEventsAfterShutdownAreDeliveredInCallingThread() {
+        asyncEventDispatchExecutor.shutdown();
+
+        eventDispatcher.dispatchEvent(new FlowableEventImpl(FlowableEngineEventType.CUSTOM));
+
+        assertEquals(1, asyncListener.getEventsReceived().size());
+        assertEquals(Thread.currentThread().getName(), asyncListener.getThreadNames().get(0));
+        assertTrue(asyncEventDispatchExecutor.isShutdown());
+        assertFalse(asyncEventDispatchExecutor.isActive());
+    }
+
+    public void testBlockedEventDeliveredWhenShutDown() throws Exception {
+        final AsyncEventDispatchExecutor executor = new AsyncEventDispatchExecutor(1, 1, AsyncEventDispatchExecutor.BackpressureStrategy.BLOCK);
+        final CountDownLatch releaseListener = new CountDownLatch(1);
+        final TestAsyncEventListener blockingListener = new TestAsyncEventListener(false) {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                try {
+                    releaseListener.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvent(event);
+            }
+        };
+
+        // The first event occupies the lane, the second one fills its queue
+        executor.dispatch(new FlowableEventImpl(FlowableEngineEventType.CUSTOM), blockingListener);
+        executor.dispatch(new FlowableEventImpl(FlowableEngineEventType.CUSTOM), blockingListener);
+
+        Thread blockedThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                executor.dispatch(new FlowableEventImpl(FlowableEngineEventType.CUSTOM), blockingListener);
+            }
+        });
+        blockedThread.start();
+        waitForState(blockedThread, Thread.State.TIMED_WAITING);
+
+        Thread shutdownThread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                executor.shutdown();
+            }
+        });
+        shutdownThread.start();
+        while (!executor.isShutdown()) {
+            Thread.sleep(10);
+        }
+
+        releaseListener.countDown();
+        blockedThread.join(10000);
+        shutdownThread.join(10000);
+
+        assertEquals(3, blockingListener.getEventsReceived().size());
+        assertEquals(0, executor.getDiscardedEventCount());
+    }
+
+    protected void waitForState(Thread thread, Thread.State state) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while (thread.getState() != state && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertEquals(state, thread.getState());
+    }
+
+    protected List<FlowableEvent> filterByProcessInstance(List<FlowableEvent> events, String processInstanceId) {
+        List<FlowableEvent> result = new ArrayList<>();
+        for (FlowableEvent event : events) {
+            if (event instanceof FlowableEngineEvent && processInstanceId.equals(((FlowableEngineEvent) event).getProcessInstanceId())) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    public static class TestAsyncEventListener implements AsyncFlowableEventListener {
+
+        protected boolean failOnException;
+        protected List<FlowableEvent> eventsReceived = Collections.synchronizedList(new ArrayList<FlowableEvent>());
+        protected List<String> threadNames = Collections.synchronizedList(new ArrayList<String>());
+
+        public TestAsyncEventListener(boolean failOnException) {
+            this.failOnException = failOnException;
+        }
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            eventsReceived.add(event);
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return failOnException;
+        }
+
+        public List<FlowableEvent> getEventsReceived() {
+            return eventsReceived;
+        }
+
+        public List<String> getThreadNames() {
+            return threadNames;
+        }
+    }
+
+}
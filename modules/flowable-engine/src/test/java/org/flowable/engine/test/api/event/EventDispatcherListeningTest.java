@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Test case for {@link org.flowable.engine.common.api.delegate.event.ListenerAwareEventDispatcher#isListening}.
+ */
+public class EventDispatcherListeningTest extends PluggableFlowableTestCase {
+
+    public void testNotListeningWithoutListeners() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        for (FlowableEngineEventType type : FlowableEngineEventType.values()) {
+            assertFalse(dispatcher.isListening(type));
+        }
+    }
+
+    public void testListeningToTypedListener() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        dispatcher.addEventListener(listener, FlowableEngineEventType.TASK_CREATED, FlowableEngineEventType.TASK_COMPLETED);
+
+        assertTrue(dispatcher.isListening(FlowableEngineEventType.TASK_CREATED));
+        assertTrue(dispatcher.isListening(FlowableEngineEventType.TASK_COMPLETED));
+        assertFalse(dispatcher.isListening(FlowableEngineEventType.ENTITY_CREATED));
+
+        dispatcher.removeEventListener(listener);
+        assertFalse(dispatcher.isListening(FlowableEngineEventType.TASK_CREATED));
+        assertFalse(dispatcher.isListening(FlowableEngineEventType.TASK_COMPLETED));
+    }
+
+    public void testListeningToGlobalListener() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        dispatcher.addEventListener(listener);
+
+        for (FlowableEngineEventType type : FlowableEngineEventType.values()) {
+            assertTrue(dispatcher.isListening(type));
+        }
+
+        dispatcher.setEnabled(false);
+        assertFalse(dispatcher.isListening(FlowableEngineEventType.ENTITY_CREATED));
+
+        dispatcher.setEnabled(true);
+        dispatcher.removeEventListener(listener);
+        assertFalse(dispatcher.isListening(FlowableEngineEventType.ENTITY_CREATED));
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/event/SignalThrowingEventListenerTest.testThrowSignalDefinedInProcessDefinition.bpmn20.xml" })
+    public void testListeningToProcessDefinitionScopedListener() {
+        boolean listening = managementService.executeCommand(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                return EventDispatcherUtil.isListening(CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher(),
+                        FlowableEngineEventType.TASK_ASSIGNED);
+            }
+
+        });
+        assertTrue(listening);
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testListeningOnlyToParsedProcessDefinitionListeners() {
+        // A new action, as the one of the engine remembers the listeners of all process definitions parsed by earlier tests
+        BpmnModelEventDispatchAction eventDispatchAction = new BpmnModelEventDispatchAction();
+
+        // Process definitions missing from the cache can't be notified, so they don't make the action listen
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+        assertFalse(isListening(eventDispatchAction, FlowableEngineEventType.JOB_RETRIES_DECREMENTED));
+
+        eventDispatchAction.addProcessDefinitionEventListenerTypes(FlowableEngineEventType.TASK_ASSIGNED);
+        assertTrue(isListening(eventDispatchAction, FlowableEngineEventType.TASK_ASSIGNED));
+        assertFalse(isListening(eventDispatchAction, FlowableEngineEventType.JOB_RETRIES_DECREMENTED));
+
+        eventDispatchAction.addProcessDefinitionEventListenerTypes();
+        assertTrue(isListening(eventDispatchAction, FlowableEngineEventType.JOB_RETRIES_DECREMENTED));
+    }
+
+    public void testDispatcherWithoutListenerInformation() {
+        FlowableEventDispatcher dispatcher = new EnabledOnlyEventDispatcher();
+        assertTrue(EventDispatcherUtil.isListening(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+
+        dispatcher.setEnabled(false);
+        assertFalse(EventDispatcherUtil.isListening(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+    }
+
+    protected boolean isListening(final BpmnModelEventDispatchAction eventDispatchAction, final FlowableEventType type) {
+        return managementService.executeCommand(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                return eventDispatchAction.isListening(type);
+            }
+
+        });
+    }
+
+    /**
+     * A dispatcher written against the plain {@link FlowableEventDispatcher} interface.
+     */
+    protected static class EnabledOnlyEventDispatcher implements FlowableEventDispatcher {
+
+        protected boolean enabled = true;
+
+        @Override
+        public void addEventListener(FlowableEventListener listenerToAdd) {
+        }
+
+        @Override
+        public void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
+        }
+
+        @Override
+        public void removeEventListener(FlowableEventListener listenerToRemove) {
+        }
+
+        @Override
+        public void dispatchEvent(FlowableEvent event) {
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.test.api.history;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -182,6 +183,23 @@ public class HistoricProcessInstanceAndVariablesQueryTest extends PluggableFlowa
         }
     }
 
+    public void testQueryWithIncludedVariableNames() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricProcessInstance> instanceList = historyService.createHistoricProcessInstanceQuery()
+                    .includeProcessVariables(Collections.singletonList("test2")).processDefinitionKey(PROCESS_DEFINITION_KEY).list();
+            assertEquals(4, instanceList.size());
+            for (HistoricProcessInstance processInstance : instanceList) {
+                Map<String, Object> variableMap = processInstance.getProcessVariables();
+                assertEquals(1, variableMap.size());
+                assertEquals("test2", variableMap.get("test2"));
+            }
+
+            HistoricProcessInstance processInstance = historyService.createHistoricProcessInstanceQuery()
+                    .includeProcessVariables(Collections.singletonList("test")).processDefinitionKey(PROCESS_DEFINITION_KEY_2).singleResult();
+            assertEquals(0, processInstance.getProcessVariables().size());
+        }
+    }
+
     public void testQueryByprocessDefinition() {
         if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
             // DeploymentId
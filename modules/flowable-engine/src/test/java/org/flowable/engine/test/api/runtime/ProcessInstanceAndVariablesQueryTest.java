@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.test.api.runtime;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
@@ -129,6 +132,44 @@ public class ProcessInstanceAndVariablesQueryTest extends PluggableFlowableTestC
         assertEquals(0, instanceList.size());
     }
 
+    public void testQueryWithIncludedVariableNames() {
+        List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Collections.singletonList("test2"))
+                .processDefinitionKey(PROCESS_DEFINITION_KEY).list();
+        assertEquals(4, instanceList.size());
+        for (ProcessInstance processInstance : instanceList) {
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals("test2", variableMap.get("test2"));
+        }
+
+        instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("test", "anothertest")).orderByProcessDefinitionKey().asc().list();
+        assertEquals(6, instanceList.size());
+        for (ProcessInstance processInstance : instanceList) {
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            if (PROCESS_DEFINITION_KEY.equals(processInstance.getProcessDefinitionKey())) {
+                assertEquals(1, variableMap.size());
+                assertEquals("test", variableMap.get("test"));
+            } else if (PROCESS_DEFINITION_KEY_2.equals(processInstance.getProcessDefinitionKey())) {
+                assertEquals(1, variableMap.size());
+                assertEquals(123, variableMap.get("anothertest"));
+            } else {
+                assertEquals(0, variableMap.size());
+            }
+        }
+
+        instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Collections.singletonList("test"))
+                .processDefinitionKey(PROCESS_DEFINITION_KEY).listPage(0, 2);
+        assertEquals(2, instanceList.size());
+        assertEquals(1, instanceList.get(0).getProcessVariables().size());
+
+        try {
+            runtimeService.createProcessInstanceQuery().includeProcessVariables(Collections.<String>emptyList());
+            fail("Exception expected");
+        } catch (FlowableIllegalArgumentException e) {
+            // expected
+        }
+    }
+
     public void testOrQuery() {
         ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables()
                 .or().variableValueEquals("undefined", 999).variableValueEquals("anothertest", 123).endOr().singleResult();
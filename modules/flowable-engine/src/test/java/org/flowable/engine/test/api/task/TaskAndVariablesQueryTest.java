@@ -14,6 +14,7 @@ package org.flowable.engine.test.api.task;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -132,6 +133,33 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml" })
+    public void testQueryWithIncludedProcessVariableNames() {
+        Map<String, Object> startMap = new HashMap<>();
+        startMap.put("processVar", true);
+        startMap.put("binaryVariable", "This is a binary process variable".getBytes());
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+        org.flowable.task.service.Task task = taskService.createTaskQuery().taskAssignee("kermit").singleResult();
+        taskService.setVariableLocal(task.getId(), "localVar", "test");
+
+        task = taskService.createTaskQuery().includeProcessVariables(Collections.singletonList("processVar")).taskAssignee("kermit").singleResult();
+        assertEquals(1, task.getProcessVariables().size());
+        assertEquals(true, task.getProcessVariables().get("processVar"));
+        assertEquals(0, task.getTaskLocalVariables().size());
+
+        task = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables(Collections.singletonList("binaryVariable"))
+                .taskAssignee("kermit").singleResult();
+        assertEquals(1, task.getProcessVariables().size());
+        assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
+        assertEquals(1, task.getTaskLocalVariables().size());
+        assertEquals("test", task.getTaskLocalVariables().get("localVar"));
+
+        task = taskService.createTaskQuery().includeProcessVariables(Collections.singletonList("unknownVar")).taskAssignee("kermit").singleResult();
+        assertNotNull(task);
+        assertEquals(0, task.getProcessVariables().size());
+    }
+
     public void testQueryWithPagingAndVariables() {
         List<org.flowable.task.service.Task> tasks = taskService.createTaskQuery().includeProcessVariables().includeTaskLocalVariables().orderByTaskPriority().desc().listPage(0, 1);
         assertEquals(1, tasks.size());
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetPage;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -32,6 +33,7 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.service.IdentityLinkInfo;
 import org.flowable.task.service.DelegationState;
 import org.flowable.task.service.TaskQuery;
+import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -2207,6 +2209,103 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
                                                         // tasks
     }
 
+    public void testKeysetPaging() {
+        assertKeysetPaging(taskService.createTaskQuery(), taskService.createTaskQuery().orderByTaskId().asc(), 5);
+        assertKeysetPaging(taskService.createTaskQuery().orderByTaskId().desc(), taskService.createTaskQuery().orderByTaskId().desc(), 5);
+        assertKeysetPaging(taskService.createTaskQuery().orderByTaskCreateTime().asc(),
+                taskService.createTaskQuery().orderByTaskCreateTime().asc().orderByTaskId().asc(), 4);
+        assertKeysetPaging(taskService.createTaskQuery().orderByTaskCreateTime().desc(),
+                taskService.createTaskQuery().orderByTaskCreateTime().desc().orderByTaskId().desc(), 12);
+        // 6 tasks share the same priority and create time, the id breaks the ties
+        assertKeysetPaging(taskService.createTaskQuery().orderByTaskPriority().asc(),
+                taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskId().asc(), 1);
+        assertKeysetPaging(taskService.createTaskQuery().orderByTaskPriority().desc(),
+                taskService.createTaskQuery().orderByTaskPriority().desc().orderByTaskId().desc(), 3);
+
+        // The query criteria apply to every page
+        KeysetPage<org.flowable.task.service.Task> page = taskService.createTaskQuery().taskCandidateUser("kermit").listKeysetPage(null, 10);
+        assertEquals(10, page.getResults().size());
+        assertNotNull(page.getContinuationToken());
+
+        page = taskService.createTaskQuery().taskCandidateUser("kermit").listKeysetPage(page.getContinuationToken(), 10);
+        assertEquals(1, page.getResults().size());
+        assertNull(page.getContinuationToken());
+    }
+
+    public void testKeysetPagingKeepsQueryOrder() {
+        TaskQueryImpl query = (TaskQueryImpl) taskService.createTaskQuery().orderByTaskPriority().asc();
+        String orderByColumns = query.getOrderByColumns();
+
+        String continuationToken = query.listKeysetPage(null, 5).getContinuationToken();
+        assertEquals(orderByColumns, query.getOrderByColumns());
+
+        query.listKeysetPage(continuationToken, 5);
+        assertEquals(orderByColumns, query.getOrderByColumns());
+
+        try {
+            query.listKeysetPage("not a token", 5);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK
+        }
+        assertEquals(orderByColumns, query.getOrderByColumns());
+        assertEquals(12, query.list().size());
+    }
+
+    public void testKeysetPagingInvalidUsage() {
+        try {
+            taskService.createTaskQuery().orderByTaskName().asc().listKeysetPage(null, 5);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK, name is not supported
+        }
+
+        try {
+            taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskCreateTime().asc().listKeysetPage(null, 5);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK, only one order property
+        }
+
+        String continuationToken = taskService.createTaskQuery().orderByTaskCreateTime().asc().listKeysetPage(null, 2).getContinuationToken();
+        try {
+            taskService.createTaskQuery().orderByTaskCreateTime().desc().listKeysetPage(continuationToken, 2);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK, token of another order
+        }
+
+        try {
+            taskService.createTaskQuery().listKeysetPage("not a token", 2);
+            fail("expected exception");
+        } catch (FlowableIllegalArgumentException e) {
+            // OK
+        }
+    }
+
+    private void assertKeysetPaging(TaskQuery query, TaskQuery expectedOrderQuery, int pageSize) {
+        List<String> pagedTaskIds = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            KeysetPage<org.flowable.task.service.Task> page = query.listKeysetPage(continuationToken, pageSize);
+            continuationToken = page.getContinuationToken();
+            if (continuationToken != null) {
+                assertEquals(pageSize, page.getResults().size());
+            }
+            for (org.flowable.task.service.Task task : page.getResults()) {
+                pagedTaskIds.add(task.getId());
+            }
+        } while (continuationToken != null);
+
+        // Keyset paging uses the id to break ties in the order of the query
+        List<String> listedTaskIds = new ArrayList<>();
+        for (org.flowable.task.service.Task task : expectedOrderQuery.list()) {
+            listedTaskIds.add(task.getId());
+        }
+        assertEquals(12, listedTaskIds.size());
+        assertEquals(listedTaskIds, pagedTaskIds);
+    }
+
     public void testQuerySorting() {
         assertEquals(12, taskService.createTaskQuery().orderByTaskId().asc().list().size());
         assertEquals(12, taskService.createTaskQuery().orderByTaskName().asc().list().size());
@@ -12,15 +12,21 @@
  */
 package org.flowable.engine.test.api.variables;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.ImmutableSerializable;
+import org.flowable.variable.service.impl.types.DeserializedObjectStatistics;
+import org.flowable.variable.service.impl.types.SerializableType;
 
 /**
  * @author Joram Barrez
@@ -42,6 +48,68 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         assertEquals(2, testSerializableVariable.getNumber());
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SerializableVariableTest.testUpdateSerializableInServiceTask.bpmn20.xml")
+    public void testUpdateSerializableInServiceTaskTrackedByHash() {
+        SerializableType serializableType = (SerializableType) processEngineConfiguration.getVariableTypes().getVariableType(SerializableType.TYPE_NAME);
+        serializableType.setTrackDeserializedObjectsByHash(true);
+        try {
+            testUpdateSerializableInServiceTask();
+        } finally {
+            serializableType.setTrackDeserializedObjectsByHash(false);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SerializableVariableTest.testUpdateSerializableInServiceTask.bpmn20.xml")
+    public void testUnchangedObjectWithDifferentBytesTrackedByHash() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("myVar", new TestSerializableVariable(1));
+        vars.put("myNormalizedVar", new TestNormalizingSerializableVariable(" value "));
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testUpdateSerializableInServiceTask", vars);
+
+        SerializableType serializableType = (SerializableType) processEngineConfiguration.getVariableTypes().getVariableType(SerializableType.TYPE_NAME);
+        serializableType.setTrackDeserializedObjectsByHash(true);
+        try {
+            serializableType.getStatistics().reset();
+
+            // The deserialized object serializes to other bytes than the stored ones, but so does the original object
+            TestNormalizingSerializableVariable normalizedVariable = (TestNormalizingSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myNormalizedVar");
+            assertEquals("value", normalizedVariable.getValue());
+            assertEquals(1, serializableType.getStatistics().getVerificationCount());
+            assertEquals(0, serializableType.getStatistics().getChangedCount());
+
+        } finally {
+            serializableType.setTrackDeserializedObjectsByHash(false);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SerializableVariableTest.testUpdateSerializableInServiceTask.bpmn20.xml")
+    public void testVerificationStatistics() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("myVar", new TestSerializableVariable(1));
+        vars.put("myImmutableVar", new TestImmutableSerializableVariable(1));
+        vars.put("myEnumVar", TimeUnit.SECONDS);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testUpdateSerializableInServiceTask", vars);
+
+        DeserializedObjectStatistics statistics = ((SerializableType) processEngineConfiguration.getVariableTypes()
+                .getVariableType(SerializableType.TYPE_NAME)).getStatistics();
+        statistics.reset();
+
+        runtimeService.getVariable(processInstance.getId(), "myVar");
+        assertEquals(1, statistics.getVerificationCount());
+        assertEquals(0, statistics.getChangedCount());
+        assertEquals(0, statistics.getUntrackedCount());
+
+        TestImmutableSerializableVariable immutableVariable = (TestImmutableSerializableVariable) runtimeService.getVariable(processInstance.getId(), "myImmutableVar");
+        assertEquals(1, immutableVariable.getNumber());
+        assertEquals(1, statistics.getVerificationCount());
+        assertEquals(1, statistics.getUntrackedCount());
+
+        // Enums are immutable as far as serialization is concerned
+        assertEquals(TimeUnit.SECONDS, runtimeService.getVariable(processInstance.getId(), "myEnumVar"));
+        assertEquals(1, statistics.getVerificationCount());
+        assertEquals(2, statistics.getUntrackedCount());
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         public void execute(DelegateExecution execution) {
@@ -70,4 +138,39 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
 
     }
 
+    public static class TestNormalizingSerializableVariable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private String value;
+
+        public TestNormalizingSerializableVariable(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            value = value.trim();
+        }
+
+    }
+
+    public static class TestImmutableSerializableVariable implements ImmutableSerializable {
+
+        private static final long serialVersionUID = 1L;
+        private final int number;
+
+        public TestImmutableSerializableVariable(int number) {
+            this.number = number;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+    }
+
 }
@@ -14,6 +14,7 @@
 package org.flowable.engine.test.bpmn.deployment;
 
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 
 import org.flowable.bpmn.model.BpmnModel;
@@ -253,6 +254,38 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testLazyDiagramCreation() {
+        processEngineConfiguration.setLazyDiagramCreation(true);
+
+        try {
+            String deploymentId = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml").deploy().getId();
+
+            // Nothing is rendered during the deployment
+            assertEquals(1, repositoryService.getDeploymentResourceNames(deploymentId).size());
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            assertTrue(processDefinition.hasGraphicalNotation());
+            assertNull(processDefinition.getDiagramResourceName());
+
+            // The diagram is created and stored when it's requested for the first time
+            byte[] diagramBytes = IoUtil.readInputStream(repositoryService.getProcessDiagram(processDefinition.getId()), "diagram stream");
+            assertTrue(diagramBytes.length > 0);
+
+            processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+            assertEquals("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.myProcess.png", processDefinition.getDiagramResourceName());
+            List<String> resourceNames = repositoryService.getDeploymentResourceNames(deploymentId);
+            assertEquals(2, resourceNames.size());
+            assertTrue(resourceNames.contains(processDefinition.getDiagramResourceName()));
+
+            // and served from the stored resource afterwards
+            assertTrue(Arrays.equals(diagramBytes, IoUtil.readInputStream(repositoryService.getProcessDiagram(processDefinition.getId()), "diagram stream")));
+
+            repositoryService.deleteDeployment(deploymentId, true);
+        } finally {
+            processEngineConfiguration.setLazyDiagramCreation(false);
+        }
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml",
             "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.jpg" })
     public void testProcessDiagramResource() {
@@ -0,0 +1,248 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.ValuedDataObject;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.flowable.engine.common.impl.util.io.BytesStreamSource;
+import org.flowable.engine.impl.bpmn.deployer.ParsedDeployment;
+import org.flowable.engine.impl.bpmn.deployer.ResourceNameUtil;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.service.Task;
+
+public class BpmnModelSnapshotTest extends PluggableFlowableTestCase {
+
+    protected static final String BPMN_RESOURCE_NAME = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    public void testNoSnapshotByDefault() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(BPMN_RESOURCE_NAME).deploy().getId();
+        try {
+            List<String> resourceNames = repositoryService.getDeploymentResourceNames(deploymentId);
+            assertEquals(1, resourceNames.size());
+            assertEquals(BPMN_RESOURCE_NAME, resourceNames.get(0));
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testModelRestoredFromSnapshot() {
+        processEngineConfiguration.setEnableBpmnModelSnapshots(true);
+        String deploymentId = null;
+        try {
+            deploymentId = repositoryService.createDeployment().addClasspathResource(BPMN_RESOURCE_NAME).deploy().getId();
+
+            String snapshotResourceName = ResourceNameUtil.getBpmnModelSnapshotResourceName(BPMN_RESOURCE_NAME);
+            List<String> resourceNames = repositoryService.getDeploymentResourceNames(deploymentId);
+            assertEquals(2, resourceNames.size());
+            assertTrue(resourceNames.contains(snapshotResourceName));
+            assertTrue(getResource(deploymentId, snapshotResourceName).isGenerated());
+
+            // The diagram name lookup and the bpmn resource detection should not be confused by the snapshot
+            assertEquals(1, repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).count());
+            assertEquals(BPMN_RESOURCE_NAME, repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getResourceName());
+
+            assertTrue(parseDeploymentAgain(deploymentId).isRestoredFromBpmnModelSnapshot());
+
+            // A cache miss restores the model from the snapshot, after which the process can be used as before
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("my task", task.getName());
+            taskService.complete(task.getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+            if (deploymentId != null) {
+                repositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    public void testSnapshotIgnoredWhenSourceDoesNotMatch() {
+        processEngineConfiguration.setEnableBpmnModelSnapshots(true);
+        String deploymentId = null;
+        try {
+            deploymentId = repositoryService.createDeployment().addClasspathResource(BPMN_RESOURCE_NAME).deploy().getId();
+
+            byte[] source = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, BPMN_RESOURCE_NAME), BPMN_RESOURCE_NAME);
+            byte[] snapshot = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId,
+                    ResourceNameUtil.getBpmnModelSnapshotResourceName(BPMN_RESOURCE_NAME)), "snapshot");
+
+            assertNotNull(BpmnModelSnapshotUtil.readSnapshot(snapshot, source));
+            assertEquals("oneTaskProcess", BpmnModelSnapshotUtil.readSnapshot(snapshot, source).getMainProcess().getId());
+
+            byte[] changedSource = new String(source).replace("my task", "my other task").getBytes();
+            assertNull(BpmnModelSnapshotUtil.readSnapshot(snapshot, changedSource));
+            assertNull(BpmnModelSnapshotUtil.readSnapshot(new byte[] { 1, 2, 3 }, source));
+
+        } finally {
+            processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+            if (deploymentId != null) {
+                repositoryService.deleteDeployment(deploymentId, true);
+            }
+        }
+    }
+
+    public void testSubProcessesBoundaryEventsDiAndDataObjectsRestored() {
+        BpmnModel timerModel = assertRoundTrip(readClasspathResource(
+                "org/flowable/engine/test/bpmn/subprocess/SubProcessTest.testNestedSimpleSubprocessWithTimerOnInnerSubProcess.bpmn20.xml"));
+        SubProcess outerSubProcess = (SubProcess) timerModel.getMainProcess().getFlowElement("outerSubProcess");
+        SubProcess innerSubProcess = (SubProcess) outerSubProcess.getFlowElement("innerSubProcess");
+        BoundaryEvent boundaryEvent = (BoundaryEvent) outerSubProcess.getFlowElement("escalationTimer");
+        assertSame(innerSubProcess, boundaryEvent.getAttachedToRef());
+        assertTrue(innerSubProcess.getBoundaryEvents().contains(boundaryEvent));
+        assertSame(outerSubProcess, innerSubProcess.getParentContainer());
+
+        BpmnModel dataObjectModel = assertRoundTrip(readClasspathResource("org/flowable/engine/test/bpmn/subprocess/SubProcessTest.testDataObjectScope.bpmn20.xml"));
+        assertEquals(2, dataObjectModel.getMainProcess().getDataObjects().size());
+        SubProcess subProcess = (SubProcess) dataObjectModel.getMainProcess().getFlowElement("subprocess1");
+        assertEquals(1, subProcess.getDataObjects().size());
+        ValuedDataObject dataObject = subProcess.getDataObjects().get(0);
+        assertEquals("dObj456", dataObject.getId());
+        assertEquals("StringTest456", dataObject.getName());
+        assertEquals(8, dataObjectModel.getLocationMap().size());
+        assertNotNull(dataObjectModel.getGraphicInfo("subprocess1"));
+    }
+
+    public void testRuntimeObjectsNotWritten() {
+        byte[] source = readClasspathResource(BPMN_RESOURCE_NAME);
+        BpmnModel bpmnModel = convertToBpmnModel(source);
+        bpmnModel.setEventSupport(new Object());
+        FlowNode task = (FlowNode) bpmnModel.getMainProcess().getFlowElement("theTask");
+        task.setBehavior(new Object());
+
+        byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, source);
+        assertNotNull(snapshot);
+        BpmnModel restoredModel = BpmnModelSnapshotUtil.readSnapshot(snapshot, source);
+        assertNotNull(restoredModel);
+        assertNull(restoredModel.getEventSupport());
+        FlowNode restoredTask = (FlowNode) restoredModel.getMainProcess().getFlowElement("theTask");
+        assertEquals("my task", restoredTask.getName());
+        assertNull(restoredTask.getBehavior());
+    }
+
+    public void testTestResourcesRoundTrip() throws Exception {
+        List<File> bpmnFiles = new ArrayList<>();
+        collectBpmnFiles(new File(getClass().getClassLoader().getResource("org/flowable/engine/test").toURI()), bpmnFiles);
+        assertFalse(bpmnFiles.isEmpty());
+
+        int snapshotCount = 0;
+        for (File bpmnFile : bpmnFiles) {
+            byte[] source = readStream(new FileInputStream(bpmnFile), bpmnFile.getName());
+            BpmnModel bpmnModel;
+            byte[] xml;
+            try {
+                bpmnModel = convertToBpmnModel(source);
+                xml = new BpmnXMLConverter().convertToXML(convertToBpmnModel(source));
+            } catch (RuntimeException e) {
+                // Resources used to test invalid models
+                continue;
+            }
+
+            byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(bpmnModel, source);
+            if (snapshot != null) {
+                BpmnModel restoredModel = BpmnModelSnapshotUtil.readSnapshot(snapshot, source);
+                assertNotNull(bpmnFile.getPath(), restoredModel);
+                assertTrue(bpmnFile.getPath(), Arrays.equals(xml, new BpmnXMLConverter().convertToXML(restoredModel)));
+                snapshotCount++;
+            }
+        }
+        assertTrue(snapshotCount > bpmnFiles.size() / 2);
+    }
+
+    /**
+     * Asserts a snapshot of the given xml restores to a model that converts back to the same xml, and returns the restored model.
+     */
+    protected BpmnModel assertRoundTrip(byte[] source) {
+        byte[] snapshot = BpmnModelSnapshotUtil.createSnapshot(convertToBpmnModel(source), source);
+        assertNotNull(snapshot);
+        BpmnModel restoredModel = BpmnModelSnapshotUtil.readSnapshot(snapshot, source);
+        assertNotNull(restoredModel);
+        assertTrue(Arrays.equals(new BpmnXMLConverter().convertToXML(convertToBpmnModel(source)), new BpmnXMLConverter().convertToXML(restoredModel)));
+        return restoredModel;
+    }
+
+    protected BpmnModel convertToBpmnModel(byte[] source) {
+        return new BpmnXMLConverter().convertToBpmnModel(new BytesStreamSource(source), false, false);
+    }
+
+    protected byte[] readClasspathResource(String resourceName) {
+        return readStream(getClass().getClassLoader().getResourceAsStream(resourceName), resourceName);
+    }
+
+    protected byte[] readStream(InputStream inputStream, String name) {
+        try {
+            return IoUtil.readInputStream(inputStream, name);
+        } finally {
+            IoUtil.closeSilently(inputStream);
+        }
+    }
+
+    protected void collectBpmnFiles(File directory, List<File> bpmnFiles) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    collectBpmnFiles(file, bpmnFiles);
+                } else if (file.getName().endsWith(".bpmn20.xml") || file.getName().endsWith(".bpmn")) {
+                    bpmnFiles.add(file);
+                }
+            }
+        }
+    }
+
+    protected ResourceEntity getResource(final String deploymentId, final String resourceName) {
+        return managementService.executeCommand(new Command<ResourceEntity>() {
+
+            @Override
+            public ResourceEntity execute(CommandContext commandContext) {
+                return CommandContextUtil.getResourceEntityManager(commandContext).findResourceByDeploymentIdAndResourceName(deploymentId, resourceName);
+            }
+        });
+    }
+
+    protected BpmnParse parseDeploymentAgain(final String deploymentId) {
+        return managementService.executeCommand(new Command<BpmnParse>() {
+
+            @Override
+            public BpmnParse execute(CommandContext commandContext) {
+                DeploymentEntity deployment = CommandContextUtil.getDeploymentEntityManager(commandContext).findById(deploymentId);
+                deployment.setNew(false);
+                ParsedDeployment parsedDeployment = processEngineConfiguration.getParsedDeploymentBuilderFactory().getBuilderForDeployment(deployment).build();
+                return parsedDeployment.getBpmnParseForProcessDefinition(parsedDeployment.getAllProcessDefinitions().get(0));
+            }
+        });
+    }
+
+}
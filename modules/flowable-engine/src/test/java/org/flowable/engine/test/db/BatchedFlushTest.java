@@ -0,0 +1,234 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.test.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.db.DbSqlSession;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.service.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+public class BatchedFlushTest extends ResourceFlowableTestCase {
+
+    public BatchedFlushTest() {
+        super("org/flowable/engine/test/db/batched-flush.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchedUpdatesAndDeletes() {
+        assertTrue(processEngineConfiguration.getDbSqlSessionFactory().isBatchedFlushEnabled());
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        // Updating all variables in one command results in one batch of updates
+        Map<String, Object> updatedVariables = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            updatedVariables.put("var" + i, "updated" + i);
+        }
+        runtimeService.setVariables(processInstance.getId(), updatedVariables);
+
+        Map<String, Object> storedVariables = runtimeService.getVariables(processInstance.getId());
+        assertEquals(20, storedVariables.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("updated" + i, storedVariables.get("var" + i));
+        }
+
+        // Completing the task deletes all runtime data, in batches
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdatesOfSameTypeAreSentAsOneBatch() {
+        final ProcessInstance processInstance = startProcessInstanceWithVariables(20);
+
+        final int[] flushCounts = new int[2];
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                // Changing the entities directly, so no history is written and only the 20 variable updates are flushed
+                for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(processInstance.getId())) {
+                    variableInstance.setTextValue("updated");
+                }
+                commandContext.addCloseListener(new FlushCountsListener(flushCounts));
+                return null;
+            }
+        });
+
+        assertEquals(20, flushCounts[0]);
+        assertEquals(1, flushCounts[1]);
+
+        for (Object value : runtimeService.getVariables(processInstance.getId()).values()) {
+            assertEquals("updated", value);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBatchedUpdatesAreCommittedBeforeSessionClose() {
+        final ProcessInstance processInstance = startProcessInstanceWithVariables(5);
+
+        final List<String> committedValues = new ArrayList<>();
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                // Only the batch session executes statements in this command
+                for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(processInstance.getId())) {
+                    variableInstance.setTextValue("updated");
+                }
+
+                // Runs after the commit, while the connection of this command is still open
+                Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        committedValues.addAll(readVariableValuesFromOtherConnection(processInstance.getId()));
+                    }
+                });
+                return null;
+            }
+        });
+
+        assertEquals(5, committedValues.size());
+        for (String value : committedValues) {
+            assertEquals("updated", value);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOptimisticLockingInBatch() {
+        final ProcessInstance processInstance = startProcessInstanceWithVariables(2);
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(processInstance.getId());
+
+                    // Concurrent update of one of the variables, committed in its own transaction
+                    processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), new Command<Void>() {
+
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(processInstance.getId())) {
+                                if ("var0".equals(variableInstance.getName())) {
+                                    variableInstance.setTextValue("concurrent");
+                                }
+                            }
+                            return null;
+                        }
+                    });
+
+                    for (VariableInstanceEntity variableInstance : variableInstances) {
+                        variableInstance.setTextValue("stale");
+                    }
+                    return null;
+                }
+            });
+            fail("Expected optimistic locking exception");
+
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+
+        // The whole batch has been rolled back
+        assertEquals("concurrent", runtimeService.getVariable(processInstance.getId(), "var0"));
+        assertEquals("value1", runtimeService.getVariable(processInstance.getId(), "var1"));
+    }
+
+    protected ProcessInstance startProcessInstanceWithVariables(int nrOfVariables) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < nrOfVariables; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+    }
+
+    protected List<String> readVariableValuesFromOtherConnection(String processInstanceId) {
+        DataSource dataSource = processEngineConfiguration.getDbSqlSessionFactory().getSqlSessionFactory().getConfiguration().getEnvironment().getDataSource();
+        List<String> values = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("select TEXT_ from ACT_RU_VARIABLE where PROC_INST_ID_ = ?")) {
+            statement.setString(1, processInstanceId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    values.add(resultSet.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new FlowableException("Could not read the variables from another connection", e);
+        }
+        return values;
+    }
+
+    protected static class FlushCountsListener implements CommandContextCloseListener {
+
+        protected int[] flushCounts;
+
+        public FlushCountsListener(int[] flushCounts) {
+            this.flushCounts = flushCounts;
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+            DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+            flushCounts[0] = dbSqlSession.getFlushStatementCount();
+            flushCounts[1] = dbSqlSession.getFlushBatchCount();
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.test.db;
+
+import java.util.Collections;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.service.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+public class DirtyTrackingEntityTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testSettingUnchangedValuesDoesNotUpdate() {
+        final ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess",
+                Collections.<String, Object>singletonMap("var", "value"));
+        final Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+
+        final int[] revisions = getRevisions(processInstance.getId(), task.getId());
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                TaskEntity taskEntity = CommandContextUtil.getTaskService().getTask(task.getId());
+                VariableInstanceEntity variable = CommandContextUtil.getVariableService().findVariableInstanceByExecutionAndName(processInstance.getId(), "var");
+
+                // Loaded entities are clean
+                assertDirty(false, execution, taskEntity, variable);
+
+                execution.setName(execution.getName());
+                execution.setActive(execution.isActive());
+                taskEntity.setAssignee("kermit");
+                taskEntity.setPriority(taskEntity.getPriority());
+                variable.setTextValue("value");
+
+                assertDirty(false, execution, taskEntity, variable);
+                return null;
+            }
+        });
+
+        int[] unchangedRevisions = getRevisions(processInstance.getId(), task.getId());
+        assertEquals(revisions[0], unchangedRevisions[0]);
+        assertEquals(revisions[1], unchangedRevisions[1]);
+        assertEquals(revisions[2], unchangedRevisions[2]);
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                TaskEntity taskEntity = CommandContextUtil.getTaskService().getTask(task.getId());
+                VariableInstanceEntity variable = CommandContextUtil.getVariableService().findVariableInstanceByExecutionAndName(processInstance.getId(), "var");
+
+                execution.setName("renamed");
+                taskEntity.setAssignee("gonzo");
+                variable.setTextValue("updated");
+
+                assertDirty(true, execution, taskEntity, variable);
+                return null;
+            }
+        });
+
+        int[] changedRevisions = getRevisions(processInstance.getId(), task.getId());
+        assertEquals(revisions[0] + 1, changedRevisions[0]);
+        assertEquals(revisions[1] + 1, changedRevisions[1]);
+        assertEquals(revisions[2] + 1, changedRevisions[2]);
+
+        assertEquals("renamed", runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName());
+        assertEquals("gonzo", taskService.createTaskQuery().taskId(task.getId()).singleResult().getAssignee());
+        assertEquals("updated", runtimeService.getVariable(processInstance.getId(), "var"));
+    }
+
+    protected int[] getRevisions(final String processInstanceId, final String taskId) {
+        return managementService.executeCommand(new Command<int[]>() {
+
+            @Override
+            public int[] execute(CommandContext commandContext) {
+                return new int[] {
+                        CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId).getRevision(),
+                        CommandContextUtil.getTaskService().getTask(taskId).getRevision(),
+                        CommandContextUtil.getVariableService().findVariableInstanceByExecutionAndName(processInstanceId, "var").getRevision()
+                };
+            }
+        });
+    }
+
+    protected void assertDirty(boolean dirty, Object... entities) {
+        for (Object entity : entities) {
+            assertEquals(entity.toString(), dirty, ((DirtyTrackingEntity) entity).isDirty());
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.common.impl.persistence.cache.EntityCache;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionByProcessInstanceMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByParentExecutionIdEntityMatcher;
+
+import junit.framework.TestCase;
+
+public class EntityCacheIndexTest extends TestCase {
+
+    protected EntityCacheImpl entityCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        // Entities notify the entity cache of the current command when an indexed key changes
+        entityCache = new EntityCacheImpl();
+        CommandContext commandContext = new CommandContext(null);
+        commandContext.getSessions().put(EntityCache.class, entityCache);
+        Context.setCommandContext(commandContext);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Context.removeCommandContext();
+        super.tearDown();
+    }
+
+    public void testFindByIndex() {
+        for (int i = 0; i < 10; i++) {
+            entityCache.put(createExecution("child" + i, i % 2 == 0 ? "parentA" : "parentB"), false);
+        }
+
+        assertEquals(createSet("child0", "child2", "child4", "child6", "child8"), getIds(findByParentId(entityCache, "parentA")));
+        assertEquals(createSet("child1", "child3", "child5", "child7", "child9"), getIds(findByParentId(entityCache, "parentB")));
+        assertTrue(findByParentId(entityCache, "parentC").isEmpty());
+
+        // Index is kept up to date after it has been created
+        entityCache.put(createExecution("child10", "parentA"), false);
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "child0");
+        assertEquals(createSet("child2", "child4", "child6", "child8", "child10"), getIds(findByParentId(entityCache, "parentA")));
+    }
+
+    public void testNoEntitiesOfType() {
+        assertNull(findByParentId(entityCache, "parentA"));
+    }
+
+    public void testKeySetAfterCaching() {
+        ExecutionEntityImpl processInstance = createExecution("processInstance", null);
+        entityCache.put(processInstance, false);
+        assertTrue(findByProcessInstanceId(entityCache, "processInstance").isEmpty());
+
+        processInstance.setProcessInstanceId("processInstance");
+        assertEquals(createSet("processInstance"), getIds(findByProcessInstanceId(entityCache, "processInstance")));
+    }
+
+    public void testKeyRemovedAfterCaching() {
+        ExecutionEntityImpl execution = createExecution("child", "parentA");
+        entityCache.put(execution, false);
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentA")));
+
+        execution.setParentId(null);
+        assertTrue(findByParentId(entityCache, "parentA").isEmpty());
+
+        execution.setParentId("parentA");
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentA")));
+    }
+
+    public void testKeyChangedAfterCaching() {
+        ExecutionEntityImpl execution = createExecution("child", "parentA");
+        entityCache.put(execution, false);
+        entityCache.put(createExecution("otherChild", "parentB"), false);
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentA")));
+
+        // Re-parenting within a command: the new key is found without looking up the old key first
+        execution.setParentId("parentB");
+        assertEquals(createSet("child", "otherChild"), getIds(findByParentId(entityCache, "parentB")));
+        assertTrue(findByParentId(entityCache, "parentA").isEmpty());
+
+        execution.setParentId("parentC");
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentC")));
+        assertEquals(createSet("otherChild"), getIds(findByParentId(entityCache, "parentB")));
+    }
+
+    public void testKeyChangeOfUncachedEntity() {
+        entityCache.put(createExecution("child", "parentA"), false);
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentA")));
+
+        // Another instance with the same id, that isn't the cached one
+        ExecutionEntityImpl execution = createExecution("child", "parentA");
+        execution.setParentId("parentB");
+        assertEquals(createSet("child"), getIds(findByParentId(entityCache, "parentA")));
+        assertTrue(findByParentId(entityCache, "parentB").isEmpty());
+    }
+
+    protected Collection<CachedEntity> findByParentId(EntityCacheImpl entityCache, String parentId) {
+        return entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, ExecutionsByParentExecutionIdEntityMatcher.PARENT_ID_INDEX, parentId);
+    }
+
+    protected Collection<CachedEntity> findByProcessInstanceId(EntityCacheImpl entityCache, String processInstanceId) {
+        return entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, ExecutionByProcessInstanceMatcher.PROCESS_INSTANCE_ID_INDEX, processInstanceId);
+    }
+
+    protected ExecutionEntityImpl createExecution(String id, String parentId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setParentId(parentId);
+        return execution;
+    }
+
+    protected Set<String> getIds(Collection<CachedEntity> cachedEntities) {
+        Set<String> ids = new HashSet<>();
+        for (CachedEntity cachedEntity : cachedEntities) {
+            ids.add(cachedEntity.getEntity().getId());
+        }
+        return ids;
+    }
+
+    protected Set<String> createSet(String... values) {
+        Set<String> set = new HashSet<>();
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+}
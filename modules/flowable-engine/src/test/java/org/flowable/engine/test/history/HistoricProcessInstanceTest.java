@@ -24,8 +24,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.query.KeysetPage;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -416,6 +418,64 @@ public class HistoricProcessInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testKeysetPaging() {
+        // 3 process instances start at the same time
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i, Collections.singletonMap("index", (Object) i));
+        }
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 1000));
+        for (int i = 3; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i, Collections.singletonMap("index", (Object) i));
+        }
+        processEngineConfiguration.getClock().reset();
+
+        waitForHistoryJobExecutorToProcessAllJobs(5000, 100);
+
+        assertKeysetPaging(historyService.createHistoricProcessInstanceQuery(),
+                historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc(), 2);
+        assertKeysetPaging(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().desc(),
+                historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().desc(), 3);
+        assertKeysetPaging(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc(),
+                historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc().orderByProcessInstanceId().asc(), 2);
+        assertKeysetPaging(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc(),
+                historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc().orderByProcessInstanceId().desc(), 1);
+        assertKeysetPaging(historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc().includeProcessVariables(),
+                historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc().orderByProcessInstanceId().desc(), 2);
+
+        try {
+            historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().asc().listKeysetPage(null, 2);
+            fail();
+        } catch (FlowableIllegalArgumentException e) {
+
+        }
+    }
+
+    protected void assertKeysetPaging(HistoricProcessInstanceQuery query, HistoricProcessInstanceQuery expectedOrderQuery, int pageSize) {
+        List<String> pagedIds = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            KeysetPage<HistoricProcessInstance> page = query.listKeysetPage(continuationToken, pageSize);
+            continuationToken = page.getContinuationToken();
+            if (continuationToken != null) {
+                assertEquals(pageSize, page.getResults().size());
+            }
+            for (HistoricProcessInstance historicProcessInstance : page.getResults()) {
+                pagedIds.add(historicProcessInstance.getId());
+            }
+        } while (continuationToken != null);
+
+        // Keyset paging uses the id to break ties in the order of the query
+        List<String> listedIds = new ArrayList<>();
+        for (HistoricProcessInstance historicProcessInstance : expectedOrderQuery.list()) {
+            listedIds.add(historicProcessInstance.getId());
+        }
+        assertEquals(5, listedIds.size());
+        assertEquals(listedIds, pagedIds);
+    }
+
     @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
     // ACT-1098
     public void testDeleteReason() {
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutionMode;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+
+import junit.framework.TestCase;
+
+public class ElasticAsyncJobExecutorTest extends TestCase {
+
+    public void testElasticExecutionIsBoundedByMaxConcurrentJobs() throws Exception {
+        assertConcurrencyLimit(AsyncJobExecutionMode.ELASTIC);
+    }
+
+    public void testVirtualThreadExecutionIsBoundedByMaxConcurrentJobs() throws Exception {
+        // Falls back to platform threads on JVMs without virtual threads
+        assertConcurrencyLimit(AsyncJobExecutionMode.VIRTUAL_THREADS);
+    }
+
+    protected void assertConcurrencyLimit(AsyncJobExecutionMode executionMode) throws Exception {
+        TestAsyncJobExecutor asyncExecutor = new TestAsyncJobExecutor();
+        asyncExecutor.setExecutionMode(executionMode);
+        asyncExecutor.setMaxConcurrentJobs(2);
+        asyncExecutor.initAsyncJobExecutionThreadPool();
+
+        try {
+            assertEquals(2, asyncExecutor.getRemainingCapacity());
+
+            final CountDownLatch started = new CountDownLatch(2);
+            final CountDownLatch release = new CountDownLatch(1);
+            Runnable blockingJob = new Runnable() {
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+
+            asyncExecutor.getExecutorService().execute(blockingJob);
+            asyncExecutor.getExecutorService().execute(blockingJob);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(0, asyncExecutor.getRemainingCapacity());
+
+            try {
+                asyncExecutor.getExecutorService().execute(blockingJob);
+                fail("Expected the job to be rejected");
+            } catch (RejectedExecutionException e) {
+                // Expected: the async executor unacquires rejected jobs
+            }
+
+            release.countDown();
+
+        } finally {
+            asyncExecutor.stopExecutingAsyncJobs();
+        }
+    }
+
+    protected static class TestAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+        @Override
+        public void initAsyncJobExecutionThreadPool() {
+            super.initAsyncJobExecutionThreadPool();
+        }
+
+        @Override
+        public void stopExecutingAsyncJobs() {
+            super.stopExecutingAsyncJobs();
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.AbstractEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.Job;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+
+public class JobAcquisitionStrategyTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+    public void testClaimUpdateAcquisition() {
+        assertJobsAcquiredOnce(JobAcquisitionStrategy.CLAIM_UPDATE);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+    public void testSkipLockedAcquisition() {
+        assertJobsAcquiredOnce(JobAcquisitionStrategy.SKIP_LOCKED);
+    }
+
+    /**
+     * Two transactions acquiring jobs at the same time get disjoint batches: the second one skips the jobs locked by the first one.
+     * Only runs on the databases that support skipping locked rows.
+     */
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+    public void testSkipLockedAcquisitionInConcurrentTransactions() throws Exception {
+        List<String> skipLockedDatabaseTypes = Arrays.asList(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, AbstractEngineConfiguration.DATABASE_TYPE_MYSQL,
+                AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, AbstractEngineConfiguration.DATABASE_TYPE_MSSQL);
+        if (!skipLockedDatabaseTypes.contains(processEngineConfiguration.getDatabaseType())) {
+            return;
+        }
+
+        final AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        JobAcquisitionStrategy originalAcquisitionStrategy = asyncExecutor.getJobAcquisitionStrategy();
+        int originalMaxAsyncJobsDuePerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        try {
+            asyncExecutor.setJobAcquisitionStrategy(JobAcquisitionStrategy.SKIP_LOCKED);
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(3);
+
+            for (int i = 0; i < 6; i++) {
+                runtimeService.startProcessInstanceByKey("myProcess");
+            }
+
+            final CountDownLatch firstBatchAcquired = new CountDownLatch(1);
+            final CountDownLatch commitFirstBatch = new CountDownLatch(1);
+            final Set<String> firstBatch = new HashSet<>();
+            Thread firstTransaction = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    managementService.executeCommand(new Command<Void>() {
+
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            firstBatch.addAll(getJobIds(new AcquireJobsCmd(asyncExecutor).execute(commandContext)));
+                            firstBatchAcquired.countDown();
+                            try {
+                                // Keep the rows locked until the second transaction has acquired its jobs
+                                commitFirstBatch.await(30, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return null;
+                        }
+                    });
+                }
+            });
+            firstTransaction.start();
+
+            Set<String> secondBatch;
+            try {
+                assertTrue(firstBatchAcquired.await(30, TimeUnit.SECONDS));
+                secondBatch = getJobIds(managementService.executeCommand(new AcquireJobsCmd(asyncExecutor)));
+            } finally {
+                commitFirstBatch.countDown();
+                firstTransaction.join(30000);
+            }
+
+            assertEquals(3, firstBatch.size());
+            assertEquals(3, secondBatch.size());
+            for (String jobId : secondBatch) {
+                assertFalse(jobId, firstBatch.contains(jobId));
+            }
+            assertEquals(0, managementService.createJobQuery().unlocked().count());
+
+        } finally {
+            asyncExecutor.setJobAcquisitionStrategy(originalAcquisitionStrategy);
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(originalMaxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+    protected Set<String> getJobIds(AcquiredJobEntities acquiredJobs) {
+        Set<String> jobIds = new HashSet<>();
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            jobIds.add(job.getId());
+        }
+        return jobIds;
+    }
+
+    protected void assertJobsAcquiredOnce(JobAcquisitionStrategy acquisitionStrategy) {
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        JobAcquisitionStrategy originalAcquisitionStrategy = asyncExecutor.getJobAcquisitionStrategy();
+        int originalMaxAsyncJobsDuePerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        try {
+            asyncExecutor.setJobAcquisitionStrategy(acquisitionStrategy);
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+
+            for (int i = 0; i < 3; i++) {
+                runtimeService.startProcessInstanceByKey("myProcess");
+            }
+            assertEquals(3, managementService.createJobQuery().unlocked().count());
+
+            AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(3, acquiredJobs.size());
+            for (JobInfoEntity job : acquiredJobs.getJobs()) {
+                assertEquals(asyncExecutor.getLockOwner(), job.getLockOwner());
+                assertNotNull(job.getLockExpirationTime());
+            }
+
+            assertEquals(0, managementService.createJobQuery().unlocked().count());
+            for (Job job : managementService.createJobQuery().list()) {
+                JobEntity jobEntity = (JobEntity) job;
+                assertEquals(asyncExecutor.getLockOwner(), jobEntity.getLockOwner());
+                assertNotNull(jobEntity.getLockExpirationTime());
+            }
+
+            // Jobs that are already locked are not claimed again
+            acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+            assertEquals(0, acquiredJobs.size());
+
+        } finally {
+            asyncExecutor.setJobAcquisitionStrategy(originalAcquisitionStrategy);
+            asyncExecutor.setMaxAsyncJobsDuePerAcquisition(originalMaxAsyncJobsDuePerAcquisition);
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.InMemoryJobAvailableNotifier;
+import org.flowable.job.service.impl.asyncexecutor.JobAvailableNotifier;
+
+import junit.framework.TestCase;
+
+public class JobAvailableNotifierTest extends TestCase {
+
+    public void testWaitingAcquisitionThreadIsWokenUp() throws Exception {
+        final TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable();
+        JobAvailableNotifier notifier = new InMemoryJobAvailableNotifier();
+        notifier.addListener(runnable);
+
+        Thread sleepingThread = new Thread(new Runnable() {
+            public void run() {
+                runnable.sleep(60000L);
+            }
+        });
+        sleepingThread.start();
+
+        long waitStart = System.currentTimeMillis();
+        while (!runnable.isWaiting() && System.currentTimeMillis() - waitStart < 5000L) {
+            Thread.sleep(10L);
+        }
+        assertTrue(runnable.isWaiting());
+
+        notifier.notifyJobAvailable();
+        sleepingThread.join(5000L);
+        assertFalse(sleepingThread.isAlive());
+    }
+
+    public void testNotificationBeforeSleepSkipsWait() {
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable();
+        JobAvailableNotifier notifier = new InMemoryJobAvailableNotifier();
+        notifier.addListener(runnable);
+
+        notifier.notifyJobAvailable();
+
+        long start = System.currentTimeMillis();
+        runnable.sleep(60000L);
+        assertTrue(System.currentTimeMillis() - start < 5000L);
+        assertFalse(runnable.isWaiting());
+    }
+
+    public void testRemovedListenerIsNotNotified() {
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable();
+        JobAvailableNotifier notifier = new InMemoryJobAvailableNotifier();
+        notifier.addListener(runnable);
+        notifier.removeListener(runnable);
+
+        notifier.notifyJobAvailable();
+        assertFalse(runnable.hasPendingNotification());
+    }
+
+    public void testAcquisitionThreadIsWokenUpWhenRejectedJobCanBeQueued() throws Exception {
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable();
+        TestAsyncJobExecutor asyncExecutor = new TestAsyncJobExecutor();
+        asyncExecutor.setAsyncJobsDueRunnable(runnable);
+        BlockingQueue<Runnable> threadPoolQueue = new ArrayBlockingQueue<>(1);
+        asyncExecutor.setThreadPoolQueue(threadPoolQueue);
+        ThreadPoolExecutor executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, threadPoolQueue);
+        asyncExecutor.setExecutorService(executorService);
+
+        try {
+            final CountDownLatch jobStarted = new CountDownLatch(1);
+            final CountDownLatch finishJob = new CountDownLatch(1);
+            Runnable blockingJob = new Runnable() {
+                public void run() {
+                    jobStarted.countDown();
+                    try {
+                        finishJob.await(10L, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+
+            assertTrue(asyncExecutor.executeAsyncJob(null, blockingJob));
+            assertTrue(jobStarted.await(5L, TimeUnit.SECONDS));
+            assertTrue(asyncExecutor.executeAsyncJob(null, blockingJob));
+
+            // The queue is full: the job is rejected and nobody is notified yet
+            assertFalse(asyncExecutor.executeAsyncJob(null, blockingJob));
+            assertFalse(runnable.hasPendingNotification());
+
+            // The queued job is taken by the freed thread, making room for the rejected job
+            finishJob.countDown();
+            long waitStart = System.currentTimeMillis();
+            while (!runnable.hasPendingNotification() && System.currentTimeMillis() - waitStart < 5000L) {
+                Thread.sleep(10L);
+            }
+            assertTrue(runnable.hasPendingNotification());
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected static class TestAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job, Runnable runnable) {
+            return super.executeAsyncJob(job, runnable);
+        }
+
+        @Override
+        protected void unacquireRejectedJob(JobInfo job) {
+            // no job in the database to unacquire
+        }
+    }
+
+    protected static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public TestAcquireAsyncJobsDueRunnable() {
+            super("test-acquire-async-jobs", null, null);
+        }
+
+        @Override
+        public void sleep(long millisToWait) {
+            super.sleep(millisToWait);
+        }
+
+        public boolean isWaiting() {
+            return isWaiting.get();
+        }
+
+        public boolean hasPendingNotification() {
+            return jobsAvailable.get();
+        }
+    }
+
+}
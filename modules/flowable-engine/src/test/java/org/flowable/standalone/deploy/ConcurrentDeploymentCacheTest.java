@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+import org.flowable.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+
+import junit.framework.TestCase;
+
+public class ConcurrentDeploymentCacheTest extends TestCase {
+
+    public void testUnlimitedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertEquals(100, cache.size());
+        assertEquals("value50", cache.get("id50"));
+        assertTrue(cache.contains("id99"));
+
+        cache.remove("id99");
+        assertFalse(cache.contains("id99"));
+        assertEquals(99, cache.getTotalWeight());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalWeight());
+    }
+
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "a");
+        cache.add("b", "b");
+        cache.add("c", "c");
+
+        // Accessing 'a' makes 'b' the least recently used entry
+        assertEquals("a", cache.get("a"));
+        cache.add("d", "d");
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    public void testLimitIsKeptWhenReplacingAndRemovingEntries() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("id" + (i % 25), "value" + i);
+            if (i % 3 == 0) {
+                cache.remove("id" + (i % 7));
+            }
+            assertTrue(cache.size() <= 10);
+            assertTrue(cache.getTotalWeight() <= 10);
+        }
+        assertEquals(cache.size(), cache.getTotalWeight());
+    }
+
+    public void testWeightBasedEviction() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, new CacheWeigher<String>() {
+
+            @Override
+            public int weigh(String id, String object) {
+                return object.length();
+            }
+        });
+
+        cache.add("1", "aaaa");
+        cache.add("2", "bbbb");
+        assertEquals(8, cache.getTotalWeight());
+
+        cache.add("3", "cccccc");
+        assertFalse(cache.contains("1"));
+        assertTrue(cache.contains("2"));
+        assertTrue(cache.contains("3"));
+        assertEquals(10, cache.getTotalWeight());
+
+        // Replacing an entry replaces its weight
+        cache.add("3", "cc");
+        assertEquals(6, cache.getTotalWeight());
+    }
+
+    public void testStatistics() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        cache.add("a", "a");
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.recordLoadTime(2000000L);
+
+        assertEquals(2, cache.getStatistics().getHitCount());
+        assertEquals(1, cache.getStatistics().getMissCount());
+        assertEquals(1, cache.getStatistics().getLoadCount());
+        assertEquals(2.0, cache.getStatistics().getAverageLoadTimeInMillis(), 0.0001);
+
+        cache.getStatistics().reset();
+        assertEquals(0, cache.getStatistics().getHitCount());
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.el;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Properties;
+
+import org.flowable.engine.common.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.engine.common.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.engine.common.impl.de.odysseus.el.util.SimpleContext;
+
+import junit.framework.TestCase;
+
+/**
+ * Compiled expressions must give exactly the same results as interpreted ones.
+ */
+public class CompiledExpressionTest extends TestCase {
+
+    protected static final String[] EXPRESSIONS = new String[] {
+        "${a + b}", "${a - b}", "${a * b}", "${a / b}", "${a % b}", "${-a}",
+        "${a == b}", "${a != b}", "${a < b}", "${a > b}", "${a <= b}", "${a >= b}",
+        "${a > 1 && b < 10}", "${a > 1 || b < 10}", "${!(a == b)}", "${empty a}",
+        "${a > b ? a : b}", "${(a + 1) * (b - 1)}", "${1 + 2 * 3}", "${'x' == 'x'}",
+        "${a}", "text", "#{a + 1} and ${b}"
+    };
+
+    protected static final Object[] VALUES = new Object[] {
+        null, 0, 7, -3L, (short) 2, (byte) 5, 2.5d, 1.5f, Double.NaN, -0.0d, 0.0d,
+        new BigDecimal("1.25"), BigInteger.TEN, "4", "1.5", "kermit", Boolean.TRUE
+    };
+
+    protected ExpressionFactoryImpl interpretingFactory;
+    protected ExpressionFactoryImpl compilingFactory;
+
+    @Override
+    protected void setUp() throws Exception {
+        interpretingFactory = new ExpressionFactoryImpl(new Properties());
+
+        Properties properties = new Properties();
+        properties.setProperty(ExpressionFactoryImpl.PROP_COMPILE_EXPRESSIONS, "true");
+        compilingFactory = new ExpressionFactoryImpl(properties);
+    }
+
+    public void testCompileExpressionsProperty() {
+        assertFalse(interpretingFactory.isCompileExpressions());
+        assertTrue(compilingFactory.isCompileExpressions());
+    }
+
+    public void testSameResultsAsInterpreter() {
+        for (String expression : EXPRESSIONS) {
+            for (Object a : VALUES) {
+                for (Object b : VALUES) {
+                    assertSameResult(expression, a, b);
+                }
+            }
+        }
+    }
+
+    public void testCoercionToExpectedType() {
+        SimpleContext context = createContext(3, 4);
+        TreeValueExpression expression = compilingFactory.createValueExpression(context, "${a + b}", String.class);
+        assertEquals("7", expression.getValue(context));
+    }
+
+    public void testBeanPropertiesAndMethods() {
+        SimpleContext context = createContext(new SharedElResolverTest.TestBean("kermit"), null);
+        assertEquals(Boolean.TRUE, compilingFactory.createValueExpression(context, "${a.name.length() > 3 && a.name == 'kermit'}", Object.class).getValue(context));
+        assertEquals(Boolean.FALSE, compilingFactory.createValueExpression(context, "${a.name.length() > 6}", Object.class).getValue(context));
+    }
+
+    protected void assertSameResult(String expressionText, Object a, Object b) {
+        Object expected;
+        try {
+            SimpleContext context = createContext(a, b);
+            expected = interpretingFactory.createValueExpression(context, expressionText, Object.class).getValue(context);
+        } catch (RuntimeException e) {
+            expected = e.getClass();
+        }
+
+        Object actual;
+        try {
+            SimpleContext context = createContext(a, b);
+            actual = compilingFactory.createValueExpression(context, expressionText, Object.class).getValue(context);
+        } catch (RuntimeException e) {
+            actual = e.getClass();
+        }
+
+        String message = expressionText + " with a=" + describe(a) + ", b=" + describe(b);
+        assertEquals(message, expected, actual);
+        if (expected != null) {
+            assertEquals(message, expected.getClass(), actual.getClass());
+        }
+    }
+
+    protected SimpleContext createContext(Object a, Object b) {
+        SimpleContext context = new SimpleContext();
+        context.getELResolver().setValue(context, null, "a", a);
+        context.getELResolver().setValue(context, null, "b", b);
+        return context;
+    }
+
+    protected String describe(Object value) {
+        return value == null ? "null" : value + " (" + value.getClass().getSimpleName() + ")";
+    }
+
+}
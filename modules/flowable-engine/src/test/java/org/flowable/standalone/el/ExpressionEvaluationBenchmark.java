@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.el;
+
+import org.flowable.engine.common.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.variable.service.delegate.Expression;
+import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
+
+/**
+ * Measures expression evaluation throughput when every evaluation happens on a new variable scope,
+ * which means a new el context is needed every time (as for a new execution or task).
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of iterations and
+ * 'compiled' to use compiled expressions.
+ */
+public class ExpressionEvaluationBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(SharedElResolverTest.createBeans());
+        if (args.length > 1 && "compiled".equals(args[1])) {
+            ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
+            expressionFactory.setCompileExpressions(true);
+            expressionManager.setExpressionFactory(expressionFactory);
+        }
+        Expression[] expressions = new Expression[] {
+                expressionManager.createExpression("${bean.name}"),
+                expressionManager.createExpression("${bean.name == 'kermit'}"),
+                expressionManager.createExpression("${bean.name.length() > 3}"),
+                expressionManager.createExpression("${bean.name.length() * 2 + 1 >= 10 && bean.name != 'gonzo'}")
+        };
+
+        // Warm up
+        run(expressions, iterations / 10);
+
+        long start = System.nanoTime();
+        run(expressions, iterations);
+        long nanos = System.nanoTime() - start;
+
+        long nrOfEvaluations = (long) iterations * expressions.length;
+        System.out.println(String.format("%d evaluations: %.0f evaluations/s", nrOfEvaluations, nrOfEvaluations / (nanos / 1e9)));
+    }
+
+    protected static void run(Expression[] expressions, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            for (Expression expression : expressions) {
+                expression.getValue(new NoExecutionVariableScope());
+            }
+        }
+    }
+
+}
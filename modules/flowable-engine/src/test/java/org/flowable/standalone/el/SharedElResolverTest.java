@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.el;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.el.FlowableElContext;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.variable.service.delegate.Expression;
+import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
+
+import junit.framework.TestCase;
+
+public class SharedElResolverTest extends TestCase {
+
+    public void testScopeIndependentResolversAreShared() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(createBeans());
+
+        FlowableElContext firstElContext = (FlowableElContext) expressionManager.getElContext(new NoExecutionVariableScope());
+        FlowableElContext secondElContext = (FlowableElContext) expressionManager.getElContext(new NoExecutionVariableScope());
+        assertNotSame(firstElContext.getELResolver(), secondElContext.getELResolver());
+        assertSame(expressionManager.getScopeIndependentElResolver(), expressionManager.getScopeIndependentElResolver());
+
+        Expression expression = expressionManager.createExpression("${bean.name}");
+        assertEquals("kermit", expression.getValue(new NoExecutionVariableScope()));
+        assertEquals("kermit", expression.getValue(new NoExecutionVariableScope()));
+    }
+
+    public void testChangingBeansResetsSharedResolvers() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(createBeans());
+        Expression expression = expressionManager.createExpression("${bean.name}");
+        assertEquals("kermit", expression.getValue(new NoExecutionVariableScope()));
+
+        Map<Object, Object> otherBeans = new HashMap<>();
+        otherBeans.put("bean", new TestBean("gonzo"));
+        expressionManager.setBeans(otherBeans);
+        assertEquals("gonzo", expression.getValue(new NoExecutionVariableScope()));
+    }
+
+    public static Map<Object, Object> createBeans() {
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("bean", new TestBean("kermit"));
+        return beans;
+    }
+
+    public static class TestBean {
+
+        protected String name;
+
+        public TestBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+}
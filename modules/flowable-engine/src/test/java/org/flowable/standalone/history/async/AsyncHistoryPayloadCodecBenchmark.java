@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the async history payload codecs: the number of bytes written to the history job byte array,
+ * and the encode and decode throughput. Decoding is what the async history job handler does before the json transformers run.
+ * 
+ * Not a unit test: run the main method manually, optionally passing the number of activities per payload and the number of iterations.
+ */
+public class AsyncHistoryPayloadCodecBenchmark {
+
+    public static void main(String[] args) {
+        int nrOfActivities = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode historyNode = AsyncHistoryPayloadCodecTest.createHistoryData(objectMapper, nrOfActivities);
+
+        System.out.println(String.format("%-30s %10s %15s %15s", "codec", "bytes", "encode ops/s", "decode ops/s"));
+        for (AsyncHistoryPayloadCodec codec : AsyncHistoryPayloadCodecTest.createCodecs()) {
+            byte[] bytes = codec.encode(historyNode, objectMapper);
+
+            // Warm up
+            run(codec, historyNode, bytes, objectMapper, iterations / 10);
+
+            long encodeStart = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                codec.encode(historyNode, objectMapper);
+            }
+            long encodeNanos = System.nanoTime() - encodeStart;
+
+            long decodeStart = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                codec.decode(bytes, objectMapper);
+            }
+            long decodeNanos = System.nanoTime() - decodeStart;
+
+            System.out.println(String.format("%-30s %10d %15.0f %15.0f", codec.getJobHandlerType(), bytes.length,
+                    iterations / (encodeNanos / 1e9), iterations / (decodeNanos / 1e9)));
+        }
+    }
+
+    protected static void run(AsyncHistoryPayloadCodec codec, JsonNode historyNode, byte[] bytes, ObjectMapper objectMapper, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            codec.decode(codec.encode(historyNode, objectMapper), objectMapper);
+        }
+    }
+
+}
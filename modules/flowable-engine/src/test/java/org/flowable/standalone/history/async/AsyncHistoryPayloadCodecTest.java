@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobZippedHandler;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.GzipAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.JsonAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.SmileAsyncHistoryPayloadCodec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import junit.framework.TestCase;
+
+public class AsyncHistoryPayloadCodecTest extends TestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    public void testRoundTrip() {
+        JsonNode historyNode = createHistoryData(objectMapper, 20);
+        for (AsyncHistoryPayloadCodec codec : createCodecs()) {
+            byte[] bytes = codec.encode(historyNode, objectMapper);
+            assertEquals(codec.getJobHandlerType(), historyNode, codec.decode(bytes, objectMapper));
+        }
+    }
+
+    public void testJobHandlerTypes() {
+        assertEquals(AsyncHistoryJobHandler.JOB_TYPE, new JsonAsyncHistoryPayloadCodec().getJobHandlerType());
+        assertEquals(AsyncHistoryJobZippedHandler.JOB_TYPE, new GzipAsyncHistoryPayloadCodec(new JsonAsyncHistoryPayloadCodec()).getJobHandlerType());
+        assertEquals(AsyncHistoryJobZippedHandler.JOB_TYPE, new AsyncHistoryJobZippedHandler().getType());
+        assertEquals("async-history-smile-zipped", new AsyncHistoryJobHandler(new GzipAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec())).getType());
+    }
+
+    public void testPreviouslyZippedPayloadIsReadable() throws Exception {
+        JsonNode historyNode = createHistoryData(objectMapper, 5);
+
+        // Gzipped json, as written before history payload codecs were introduced
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+            gos.write(objectMapper.writeValueAsBytes(historyNode));
+        }
+
+        AsyncHistoryPayloadCodec codec = new AsyncHistoryJobZippedHandler().getPayloadCodec();
+        assertEquals(historyNode, codec.decode(baos.toByteArray(), objectMapper));
+    }
+
+    public void testSmileIsMoreCompactThanJson() {
+        JsonNode historyNode = createHistoryData(objectMapper, 20);
+        int jsonSize = new JsonAsyncHistoryPayloadCodec().encode(historyNode, objectMapper).length;
+        int smileSize = new SmileAsyncHistoryPayloadCodec().encode(historyNode, objectMapper).length;
+        assertTrue("smile " + smileSize + " vs json " + jsonSize, smileSize < jsonSize);
+    }
+
+    public static AsyncHistoryPayloadCodec[] createCodecs() {
+        return new AsyncHistoryPayloadCodec[] {
+                new JsonAsyncHistoryPayloadCodec(),
+                new GzipAsyncHistoryPayloadCodec(new JsonAsyncHistoryPayloadCodec()),
+                new SmileAsyncHistoryPayloadCodec(),
+                new GzipAsyncHistoryPayloadCodec(new SmileAsyncHistoryPayloadCodec())
+        };
+    }
+
+    /**
+     * Creates a grouped history payload resembling the one of a process instance passing through a number of activities.
+     */
+    public static JsonNode createHistoryData(ObjectMapper objectMapper, int nrOfActivities) {
+        ArrayNode arrayNode = objectMapper.createArrayNode();
+        for (int i = 0; i < nrOfActivities; i++) {
+            ObjectNode data = objectMapper.createObjectNode();
+            data.put(HistoryJsonConstants.ID, "activity-instance-" + i);
+            data.put(HistoryJsonConstants.PROCESS_DEFINITION_ID, "oneTaskProcess:1:4");
+            data.put(HistoryJsonConstants.PROCESS_INSTANCE_ID, "5");
+            data.put(HistoryJsonConstants.EXECUTION_ID, "6");
+            data.put(HistoryJsonConstants.ACTIVITY_ID, "serviceTask" + i);
+            data.put(HistoryJsonConstants.ACTIVITY_NAME, "Service task " + i);
+            data.put(HistoryJsonConstants.ACTIVITY_TYPE, "serviceTask");
+            data.put(HistoryJsonConstants.START_TIME, "2017-06-01T10:15:30.123+02:00");
+            data.put(HistoryJsonConstants.END_TIME, "2017-06-01T10:15:30.456+02:00");
+            data.put(HistoryJsonConstants.TENANT_ID, "");
+
+            ObjectNode historyNode = objectMapper.createObjectNode();
+            historyNode.put(HistoryJsonConstants.TYPE, HistoryJsonConstants.TYPE_ACTIVITY_FULL);
+            historyNode.set(HistoryJsonConstants.DATA, data);
+            arrayNode.add(historyNode);
+        }
+        return arrayNode;
+    }
+
+}
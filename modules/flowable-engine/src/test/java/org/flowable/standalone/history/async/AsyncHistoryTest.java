@@ -12,6 +12,7 @@
  */
 package org.flowable.standalone.history.async;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.test.Deployment;
 import org.flowable.job.service.HistoryJob;
 import org.flowable.job.service.Job;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncHistoryJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.task.service.history.HistoricTaskInstance;
 
@@ -97,6 +99,46 @@ public class AsyncHistoryTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testOneTaskProcessBulkApply() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            return;
+        }
+
+        deployOneTaskTestProcess();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+            processInstanceIds.add(processInstanceId);
+        }
+
+        List<String> jobIds = new ArrayList<>();
+        for (HistoryJob job : managementService.createHistoryJobQuery().list()) {
+            jobIds.add(job.getId());
+        }
+        assertEquals(55, jobIds.size());
+
+        managementService.executeCommand(new ExecuteAsyncHistoryJobsCmd(jobIds));
+        assertEquals(0, managementService.createHistoryJobQuery().count());
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicProcessInstance);
+            assertNotNull(historicProcessInstance.getEndTime());
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertNotNull(historicTaskInstance.getStartTime());
+            assertNotNull(historicTaskInstance.getEndTime());
+
+            List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+            assertEquals(3, historicActivityInstances.size());
+            for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+                assertNotNull(historicActivityInstance.getStartTime());
+                assertNotNull(historicActivityInstance.getEndTime());
+            }
+        }
+    }
+
     @Deployment
     public void testSimpleStraightThroughProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.variables;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.CustomObjectType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.DoubleType;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LongJsonType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.LongType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.ShortType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.flowable.variable.service.impl.types.UUIDType;
+import org.flowable.variable.service.impl.types.ValueFields;
+import org.flowable.variable.service.impl.types.VariableType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import junit.framework.TestCase;
+
+/**
+ * The type found for a value must not change because of the type cache per value class.
+ */
+public class DefaultVariableTypesTest extends TestCase {
+
+    protected static final int MAX_LENGTH = 20;
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    public void testFindVariableTypeForSameClass() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals("null", variableTypes.findVariableType(null).getTypeName());
+            assertEquals("string", variableTypes.findVariableType("short").getTypeName());
+            assertEquals("longString", variableTypes.findVariableType(StringUtils.repeat("x", MAX_LENGTH + 1)).getTypeName());
+            assertEquals("string", variableTypes.findVariableType("short again").getTypeName());
+            assertEquals("boolean", variableTypes.findVariableType(true).getTypeName());
+            assertEquals("short", variableTypes.findVariableType((short) 1).getTypeName());
+            assertEquals("integer", variableTypes.findVariableType(1).getTypeName());
+            assertEquals("long", variableTypes.findVariableType(1L).getTypeName());
+            assertEquals("date", variableTypes.findVariableType(new Date()).getTypeName());
+            assertEquals("double", variableTypes.findVariableType(1.0).getTypeName());
+            assertEquals("uuid", variableTypes.findVariableType(UUID.randomUUID()).getTypeName());
+            assertEquals("bytes", variableTypes.findVariableType(new byte[0]).getTypeName());
+            assertEquals("serializable", variableTypes.findVariableType(new ArrayList<String>()).getTypeName());
+
+            ObjectNode smallJson = objectMapper.createObjectNode().put("a", "b");
+            ObjectNode largeJson = objectMapper.createObjectNode().put("a", StringUtils.repeat("x", MAX_LENGTH));
+            assertEquals("json", variableTypes.findVariableType(smallJson).getTypeName());
+            assertEquals("longJson", variableTypes.findVariableType(largeJson).getTypeName());
+            assertEquals("json", variableTypes.findVariableType(smallJson).getTypeName());
+        }
+    }
+
+    public void testAddTypeInvalidatesCachedTypes() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertEquals("integer", variableTypes.findVariableType(1).getTypeName());
+
+        variableTypes.addType(new CustomObjectType("customInteger", Integer.class), 0);
+        assertEquals("customInteger", variableTypes.findVariableType(1).getTypeName());
+
+        variableTypes.removeType(variableTypes.getVariableType("customInteger"));
+        assertEquals("integer", variableTypes.findVariableType(1).getTypeName());
+    }
+
+    public void testTypeWithoutClassBasedCheckIsNotCached() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new EvenIntegerType(), 0);
+
+        assertEquals("evenInteger", variableTypes.findVariableType(2).getTypeName());
+        assertEquals("integer", variableTypes.findVariableType(3).getTypeName());
+        assertEquals("evenInteger", variableTypes.findVariableType(4).getTypeName());
+    }
+
+    public void testClassBasedVariableType() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertNull(variableTypes.getClassBasedVariableType(Integer.class));
+
+        VariableType integerType = variableTypes.findVariableType(1);
+        assertSame(integerType, variableTypes.getClassBasedVariableType(Integer.class));
+
+        // A type that depends on the value before the found type: the update of a variable must always look up the type again
+        variableTypes.addType(new EvenIntegerType(), 0);
+        assertEquals("integer", variableTypes.findVariableType(3).getTypeName());
+        assertNull(variableTypes.getClassBasedVariableType(Integer.class));
+    }
+
+    public void testValueDependentTypeBeforeSerializable() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new JPAEntityListVariableType(), variableTypes.getTypeIndex("serializable"));
+
+        assertEquals("serializable", variableTypes.findVariableType(new ArrayList<String>()).getTypeName());
+        assertNull(variableTypes.getClassBasedVariableType(ArrayList.class));
+    }
+
+    protected DefaultVariableTypes createVariableTypes() {
+        DefaultVariableTypes variableTypes = new DefaultVariableTypes();
+        variableTypes.addType(new NullType());
+        variableTypes.addType(new StringType(MAX_LENGTH));
+        variableTypes.addType(new LongStringType(MAX_LENGTH + 1));
+        variableTypes.addType(new BooleanType());
+        variableTypes.addType(new ShortType());
+        variableTypes.addType(new IntegerType());
+        variableTypes.addType(new LongType());
+        variableTypes.addType(new DateType());
+        variableTypes.addType(new DoubleType());
+        variableTypes.addType(new UUIDType());
+        variableTypes.addType(new JsonType(MAX_LENGTH, objectMapper));
+        variableTypes.addType(new LongJsonType(MAX_LENGTH + 1, objectMapper));
+        variableTypes.addType(new ByteArrayType());
+        variableTypes.addType(new SerializableType());
+        return variableTypes;
+    }
+
+    protected static class EvenIntegerType implements VariableType {
+
+        public String getTypeName() {
+            return "evenInteger";
+        }
+
+        public boolean isCachable() {
+            return true;
+        }
+
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Integer && ((Integer) value) % 2 == 0;
+        }
+
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setCachedValue(value);
+        }
+
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getCachedValue();
+        }
+    }
+
+}
@@ -56,11 +56,13 @@ import org.flowable.form.engine.impl.deployer.FormDefinitionDeploymentHelper;
 import org.flowable.form.engine.impl.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.form.engine.impl.el.ExpressionManager;
 import org.flowable.form.engine.impl.parser.FormDefinitionParseFactory;
+import org.flowable.form.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.Deployer;
 import org.flowable.form.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry;
+import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntryWeigher;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManagerImpl;
 import org.flowable.form.engine.impl.persistence.entity.FormDeploymentEntityManager;
@@ -144,6 +146,13 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int formDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<FormDefinitionCacheEntry> formDefinitionCache;
 
+    /**
+     * When set to a positive value, a {@link ConcurrentDeploymentCache} is used for the form definition cache,
+     * which evicts the least recently used form definitions when the total size (in kilobytes) of the cached form definition json exceeds this value.
+     * This takes precedence over the formDefinitionCacheLimit.
+     */
+    protected long formDefinitionCacheMaxWeight = -1;
+
     public static FormEngineConfiguration createFormEngineConfigurationFromResourceDefault() {
         return createFormEngineConfigurationFromResource("flowable.form.cfg.xml", "formEngineConfiguration");
     }
@@ -445,7 +454,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
+            if (formDefinitionCacheMaxWeight > 0) {
+                formDefinitionCache = new ConcurrentDeploymentCache<>(formDefinitionCacheMaxWeight, new FormDefinitionCacheEntryWeigher());
+            } else if (formDefinitionCacheLimit <= 0) {
                 formDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
@@ -589,6 +600,15 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public long getFormDefinitionCacheMaxWeight() {
+        return formDefinitionCacheMaxWeight;
+    }
+
+    public FormEngineConfiguration setFormDefinitionCacheMaxWeight(long formDefinitionCacheMaxWeight) {
+        this.formDefinitionCacheMaxWeight = formDefinitionCacheMaxWeight;
+        return this;
+    }
+
     public DeploymentCache<FormDefinitionCacheEntry> getFormDefinitionCache() {
         return formDefinitionCache;
     }
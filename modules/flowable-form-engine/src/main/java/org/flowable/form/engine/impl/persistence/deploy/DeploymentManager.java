@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
@@ -131,6 +132,7 @@ public class DeploymentManager {
         FormDefinitionCacheEntry cachedForm = formCache.get(formDefinitionId);
 
         if (cachedForm == null) {
+            long loadStartTime = System.nanoTime();
             FormDeploymentEntity deployment = engineConfig.getDeploymentEntityManager().findById(deploymentId);
             List<FormResourceEntity> resources = engineConfig.getResourceEntityManager().findResourcesByDeploymentId(deploymentId);
             for (FormResourceEntity resource : resources) {
@@ -140,6 +142,9 @@ public class DeploymentManager {
             deployment.setNew(false);
             deploy(deployment);
             cachedForm = formCache.get(formDefinitionId);
+            if (formCache instanceof DeploymentCacheStatistics) {
+                ((DeploymentCacheStatistics) formCache).recordLoadTime(System.nanoTime() - loadStartTime);
+            }
 
             if (cachedForm == null) {
                 throw new FlowableException("deployment '" + deploymentId + "' didn't put form definition '" + formDefinitionId + "' in the cache");
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.form.engine.impl.persistence.deploy;
+
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+
+/**
+ * Weighs a {@link FormDefinitionCacheEntry} by the size of its form definition json, in kilobytes.
+ */
+public class FormDefinitionCacheEntryWeigher implements CacheWeigher<FormDefinitionCacheEntry> {
+
+    @Override
+    public int weigh(String id, FormDefinitionCacheEntry cacheEntry) {
+        int weight = 1;
+        if (cacheEntry.getFormDefinitionJson() != null) {
+            weight += cacheEntry.getFormDefinitionJson().length() / 1024;
+        }
+        return weight;
+    }
+
+}
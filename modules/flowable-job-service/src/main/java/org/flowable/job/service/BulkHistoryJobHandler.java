@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+/**
+ * A {@link HistoryJobHandler} that can apply the data of multiple history jobs of its type in one go,
+ * which allows to resolve the needed existing history data once for all jobs.
+ * 
+ * Used by the async history executor when bulk apply is enabled (historyJobBulkSize > 1).
+ */
+public interface BulkHistoryJobHandler extends HistoryJobHandler {
+
+    /**
+     * Applies the given history jobs, in the order of the list. The jobs are deleted by the caller afterwards.
+     * When an exception is thrown, the whole bulk is rolled back and each job is executed again individually.
+     */
+    void executeBulk(List<HistoryJobEntity> jobs, CommandContext commandContext);
+
+}
@@ -51,6 +51,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected int maxTimerJobsPerAcquisition = 1;
     protected int maxAsyncJobsDuePerAcquisition = 1;
+    protected JobAcquisitionStrategy jobAcquisitionStrategy = JobAcquisitionStrategy.OPTIMISTIC_LOCKING;
+    protected JobAvailableNotifier jobAvailableNotifier;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
@@ -113,6 +115,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
         initializeJobEntityManager();
         initializeRunnables();
+        initializeJobAvailableNotifier();
         startAdditionalComponents();
         executeTemporaryJobs();
     }
@@ -142,6 +145,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         }
     }
 
+    protected void initializeJobAvailableNotifier() {
+        if (jobAvailableNotifier == null) {
+            jobAvailableNotifier = new InMemoryJobAvailableNotifier();
+        }
+        if (asyncJobsDueRunnable != null) {
+            jobAvailableNotifier.addListener(asyncJobsDueRunnable);
+        }
+        jobAvailableNotifier.start();
+    }
+
     protected abstract void startAdditionalComponents();
 
     protected void executeTemporaryJobs() {
@@ -168,6 +181,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (timerJobRunnable != null) {
             timerJobRunnable.stop();
         }
+        if (jobAvailableNotifier != null) {
+            if (asyncJobsDueRunnable != null) {
+                jobAvailableNotifier.removeListener(asyncJobsDueRunnable);
+            }
+            jobAvailableNotifier.shutdown();
+        }
         if (asyncJobsDueRunnable != null) {
             asyncJobsDueRunnable.stop();
         }
@@ -252,6 +271,22 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.maxAsyncJobsDuePerAcquisition = maxAsyncJobsDuePerAcquisition;
     }
 
+    public JobAcquisitionStrategy getJobAcquisitionStrategy() {
+        return jobAcquisitionStrategy;
+    }
+
+    public void setJobAcquisitionStrategy(JobAcquisitionStrategy jobAcquisitionStrategy) {
+        this.jobAcquisitionStrategy = jobAcquisitionStrategy;
+    }
+
+    public JobAvailableNotifier getJobAvailableNotifier() {
+        return jobAvailableNotifier;
+    }
+
+    public void setJobAvailableNotifier(JobAvailableNotifier jobAvailableNotifier) {
+        this.jobAvailableNotifier = jobAvailableNotifier;
+    }
+
     public int getDefaultTimerJobAcquireWaitTimeInMillis() {
         return defaultTimerJobAcquireWaitTimeInMillis;
     }
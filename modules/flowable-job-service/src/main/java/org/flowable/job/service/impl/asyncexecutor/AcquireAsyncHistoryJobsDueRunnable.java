@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquisition runnable of the {@link DefaultAsyncHistoryJobExecutor} when bulk apply is enabled:
+ * the acquired history jobs are handed to the executor in groups of at most historyJobBulkSize jobs.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        int bulkSize = Math.max(1, asyncHistoryExecutor.getHistoryJobBulkSize());
+
+        List<JobInfoEntity> bulk = new ArrayList<>(bulkSize);
+        for (JobInfoEntity job : acquiredJobs.getJobs()) {
+            bulk.add(job);
+            if (bulk.size() == bulkSize) {
+                offerBulk(bulk, rejected);
+                bulk = new ArrayList<>(bulkSize);
+            }
+        }
+        if (!bulk.isEmpty()) {
+            offerBulk(bulk, rejected);
+        }
+        return rejected;
+    }
+
+    protected void offerBulk(List<JobInfoEntity> bulk, List<JobInfoEntity> rejected) {
+        boolean bulkSuccessfullyOffered = asyncHistoryExecutor.executeAsyncHistoryJobs(bulk);
+        if (!bulkSuccessfullyOffered) {
+            rejected.addAll(bulk);
+        }
+    }
+
+}
@@ -28,7 +28,7 @@ import org.slf4j.LoggerFactory;
  * 
  * @author Tijs Rademakers
  */
-public class AcquireAsyncJobsDueRunnable implements Runnable {
+public class AcquireAsyncJobsDueRunnable implements Runnable, JobAvailableListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcquireAsyncJobsDueRunnable.class);
 
@@ -39,6 +39,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected final AtomicBoolean jobsAvailable = new AtomicBoolean(false);
 
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
@@ -129,6 +130,20 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    /**
+     * Wakes up the acquisition thread when it is waiting, so new jobs are acquired without waiting for the next poll.
+     * Notifications received while jobs are being acquired make the next sleep return immediately.
+     */
+    @Override
+    public void jobAvailable() {
+        synchronized (MONITOR) {
+            jobsAvailable.set(true);
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     protected void sleep(long millisToWait) {
         if (millisToWait > 0) {
             try {
@@ -136,9 +151,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition thread sleeping for {} millis", millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !jobsAvailable.getAndSet(false)) {
                         isWaiting.set(true);
                         MONITOR.wait(millisToWait);
+                        // the upcoming acquire cycle covers any notification received while waiting
+                        jobsAvailable.set(false);
                     }
                 }
 
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Determines on which threads the {@link DefaultAsyncJobExecutor} executes the acquired jobs.
+ */
+public enum AsyncJobExecutionMode {
+
+    /**
+     * Jobs are put on a bounded queue and executed by a thread pool of at most maxPoolSize threads.
+     * This is the default, and suits CPU-bound jobs.
+     */
+    THREAD_POOL,
+
+    /**
+     * Jobs are handed off directly to a thread, creating a new one when all existing threads are busy,
+     * up to maxConcurrentJobs concurrently executing jobs. There is no queue: when the limit is reached, the job is rejected
+     * and unacquired, exactly like when the queue of the {@link #THREAD_POOL} mode is full.
+     * This suits jobs that mostly block on IO (HTTP service tasks, slow JDBC calls, ...).
+     */
+    ELASTIC,
+
+    /**
+     * Same as {@link #ELASTIC}, but each job runs on a virtual thread when the JVM supports them (Java 21+).
+     * Falls back to {@link #ELASTIC} with platform threads on older JVMs.
+     */
+    VIRTUAL_THREADS
+
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JobAvailableNotifier} that covers multiple nodes sharing the same database.
+ * 
+ * Next to notifying local listeners directly, a background thread checks the job table at a short interval
+ * with a single row lookup for unlocked executable jobs, and notifies the listeners when one is found.
+ * This makes jobs created or unacquired by another node visible long before the regular (and much more expensive)
+ * acquisition poll would find them.
+ */
+public class DatabaseJobAvailableNotifier extends InMemoryJobAvailableNotifier implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseJobAvailableNotifier.class);
+
+    protected final CommandExecutor commandExecutor;
+    protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+
+    protected long pollIntervalInMillis = 1000L;
+    protected String threadName = "flowable-job-available-notifier";
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected Thread pollThread;
+
+    public DatabaseJobAvailableNotifier(CommandExecutor commandExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.commandExecutor = commandExecutor;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (pollThread != null) {
+            return;
+        }
+        isInterrupted = false;
+        pollThread = new BasicThreadFactory.Builder().namingPattern(threadName).daemon(true).build().newThread(this);
+        pollThread.start();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (pollThread == null) {
+            return;
+        }
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            MONITOR.notifyAll();
+        }
+        try {
+            pollThread.join(pollIntervalInMillis * 2);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the job available notifier thread to terminate", e);
+        }
+        pollThread = null;
+    }
+
+    @Override
+    public void run() {
+        while (!isInterrupted) {
+            try {
+                if (listeners.size() > 0 && jobsAvailable()) {
+                    notifyJobAvailable();
+                }
+            } catch (Throwable e) {
+                LOGGER.warn("Exception while checking for available jobs: {}", e.getMessage(), e);
+            }
+
+            synchronized (MONITOR) {
+                if (!isInterrupted) {
+                    try {
+                        MONITOR.wait(pollIntervalInMillis);
+                    } catch (InterruptedException e) {
+                        isInterrupted = true;
+                    }
+                }
+            }
+        }
+    }
+
+    protected boolean jobsAvailable() {
+        return commandExecutor.execute(new Command<Boolean>() {
+            public Boolean execute(CommandContext commandContext) {
+                List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, 1));
+                return !jobs.isEmpty();
+            }
+        });
+    }
+
+    public long getPollIntervalInMillis() {
+        return pollIntervalInMillis;
+    }
+
+    public void setPollIntervalInMillis(long pollIntervalInMillis) {
+        this.pollIntervalInMillis = pollIntervalInMillis;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+}
@@ -12,7 +12,20 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.service.JobInfo;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
+
+    /**
+     * The maximum number of history jobs that are applied together in one transaction.
+     * Default 1, meaning every history job is executed on its own. When > 1, the acquired history jobs are
+     * grouped and handlers implementing {@link org.flowable.job.service.BulkHistoryJobHandler} apply them in bulk.
+     * Note that at most maxAsyncJobsDuePerAcquisition jobs are acquired at once.
+     */
+    protected int historyJobBulkSize = 1;
     
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
@@ -28,4 +41,47 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBulkSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            String acquireJobsRunnableName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-history-jobs";
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Executes the given history jobs together in one transaction.
+     * Returns false when the jobs were rejected because the queue is full, in which case they are unacquired.
+     */
+    public boolean executeAsyncHistoryJobs(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            return true;
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return true;
+        }
+
+        try {
+            executorService.execute(new ExecuteAsyncHistoryJobsRunnable(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                unacquireRejectedJob(job);
+            }
+            return false;
+        }
+    }
+
+    public int getHistoryJobBulkSize() {
+        return historyJobBulkSize;
+    }
+
+    public void setHistoryJobBulkSize(int historyJobBulkSize) {
+        this.historyJobBulkSize = historyJobBulkSize;
+    }
+
 }
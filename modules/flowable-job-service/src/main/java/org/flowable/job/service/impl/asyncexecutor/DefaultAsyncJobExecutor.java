@@ -16,8 +16,11 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.engine.common.impl.context.Context;
@@ -59,6 +62,15 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     /** The size of the queue on which jobs to be executed are placed */
     protected int queueSize = 100;
 
+    /** Determines on which threads jobs are executed, see {@link AsyncJobExecutionMode} */
+    protected AsyncJobExecutionMode executionMode = AsyncJobExecutionMode.THREAD_POOL;
+
+    /**
+     * The maximum number of jobs that are executed concurrently when the {@link #executionMode} is {@link AsyncJobExecutionMode#ELASTIC}
+     * or {@link AsyncJobExecutionMode#VIRTUAL_THREADS}. Replaces corePoolSize, maxPoolSize and queueSize in those modes.
+     */
+    protected int maxConcurrentJobs = 1000;
+
     /** Whether to unlock jobs that are owned by this executor (have the same lockOwner) at startup */
     protected boolean unlockOwnedJobs;
 
@@ -73,11 +85,28 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
      */
     protected long secondsToWaitOnShutdown = 60L;
 
-    protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+    /** Set when a job is rejected because the job queue is full, cleared when the acquisition thread is woken up as the queue has room again */
+    protected final AtomicBoolean jobRejected = new AtomicBoolean(false);
+
+    protected boolean executeAsyncJob(final JobInfo job, final Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    // The job was taken from the queue, or a thread was freed for it in the elastic modes
+                    notifyIfRejectedJobsCanBeQueued();
+                    try {
+                        runnable.run();
+                    } finally {
+                        notifyIfRejectedJobsCanBeQueued();
+                    }
+                }
+
+            });
             return true;
         } catch (RejectedExecutionException e) {
+            jobRejected.set(true);
 
             // When a RejectedExecutionException is caught, this means that the queue for holding the jobs
             // that are to be executed is full and can't store more.
@@ -89,24 +118,41 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             // after the async executor has been hinted that a new async job is created)
             // or not (when executed in the acquire thread runnable)
 
-            CommandContext commandContext = Context.getCommandContext();
-            if (commandContext != null) {
-                CommandContextUtil.getJobManager(commandContext).unacquire(job);
-
-            } else {
-                jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
-                    public Void execute(CommandContext commandContext) {
-                        CommandContextUtil.getJobManager(commandContext).unacquire(job);
-                        return null;
-                    }
-                });
-            }
+            unacquireRejectedJob(job);
 
             // Job queue full, returning true so (if wanted) the acquiring can be throttled
             return false;
         }
     }
 
+    /**
+     * Rejected jobs are unacquired, after which only the acquisition thread can pick them up again. When it sees a full queue,
+     * that thread waits for its regular poll interval, so it is woken up as soon as the queue has room again.
+     */
+    protected void notifyIfRejectedJobsCanBeQueued() {
+        if (jobRejected.get() && getRemainingCapacity() > 0 && jobRejected.compareAndSet(true, false)) {
+            AcquireAsyncJobsDueRunnable acquireAsyncJobsDueRunnable = asyncJobsDueRunnable;
+            if (acquireAsyncJobsDueRunnable != null) {
+                acquireAsyncJobsDueRunnable.jobAvailable();
+            }
+        }
+    }
+
+    protected void unacquireRejectedJob(final JobInfo job) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            CommandContextUtil.getJobManager(commandContext).unacquire(job);
+
+        } else {
+            jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    CommandContextUtil.getJobManager(commandContext).unacquire(job);
+                    return null;
+                }
+            });
+        }
+    }
+
     @Override
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
@@ -133,6 +179,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     }
 
     protected void initAsyncJobExecutionThreadPool() {
+        if (executionMode != AsyncJobExecutionMode.THREAD_POOL) {
+            initElasticAsyncJobExecutor();
+            return;
+        }
+
         if (threadPoolQueue == null) {
             LOGGER.info("Creating thread pool queue of size {}", queueSize);
             threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
@@ -146,6 +197,43 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initElasticAsyncJobExecutor() {
+        if (threadPoolQueue == null) {
+            // Direct hand-off: a job is either picked up by a (new) thread immediately or rejected
+            threadPoolQueue = new SynchronousQueue<>();
+        }
+
+        if (executorService == null) {
+            ThreadFactory threadFactory = null;
+            if (executionMode == AsyncJobExecutionMode.VIRTUAL_THREADS) {
+                threadFactory = createVirtualThreadFactory();
+            }
+            if (threadFactory == null) {
+                threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-async-job-executor-thread-%d").build();
+            }
+
+            LOGGER.info("Creating elastic executor service with maxConcurrentJobs {} and keepAliveTime {}", maxConcurrentJobs, keepAliveTime);
+            executorService = new ThreadPoolExecutor(0, maxConcurrentJobs, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
+        }
+    }
+
+    /**
+     * Returns a factory for virtual threads, or null when the JVM doesn't support them.
+     * Reflection is used as virtual threads are not available on the Java versions this module is compiled against.
+     */
+    protected ThreadFactory createVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "flowable-async-job-executor-virtual-thread-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (Exception e) {
+            LOGGER.warn("Virtual threads are not supported by this JVM, falling back to an elastic pool of platform threads");
+            return null;
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (executorService != null) {
 
@@ -254,7 +342,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     public int getRemainingCapacity() {
-        if (threadPoolQueue != null) {
+        if (executionMode != AsyncJobExecutionMode.THREAD_POOL && executorService instanceof ThreadPoolExecutor) {
+            return Math.max(0, maxConcurrentJobs - ((ThreadPoolExecutor) executorService).getActiveCount());
+
+        } else if (threadPoolQueue != null) {
             return threadPoolQueue.remainingCapacity();
         } else {
             // return plenty of remaining capacity if there's no thread pool queue
@@ -282,6 +373,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.maxPoolSize = maxPoolSize;
     }
 
+    public AsyncJobExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(AsyncJobExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
     public long getKeepAliveTime() {
         return keepAliveTime;
     }
@@ -26,6 +26,7 @@ import org.flowable.engine.common.impl.calendar.BusinessCalendar;
 import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.HistoryJob;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.Job;
@@ -33,6 +34,7 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
@@ -55,6 +57,7 @@ public class DefaultJobManager implements JobManager {
     
     public static final String ASYNC_JOB_TYPE = "async-continuation";
     public static final String CYCLE_TYPE = "cycle";
+    protected static final String JOB_AVAILABLE_NOTIFICATION_ATTRIBUTE = "jobAvailableNotification";
 
     protected JobServiceConfiguration jobServiceConfiguration;
 
@@ -86,6 +89,9 @@ public class DefaultJobManager implements JobManager {
         // When the async executor is activated, the job is directly passed on to the async executor thread
         if (isAsyncExecutorActive()) {
             hintAsyncExecutor(jobEntity);
+        } else {
+            // No local hand-off possible: let the acquisition threads listening on the notifier know
+            notifyJobAvailable();
         }
     }
 
@@ -104,7 +110,7 @@ public class DefaultJobManager implements JobManager {
 
     private void sendTimerScheduledEvent(TimerJobEntity timerJob) {
         FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher();
-        if (eventDispatcher.isEnabled()) {
+        if (EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.TIMER_SCHEDULED)) {
             eventDispatcher.dispatchEvent(
                     FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.TIMER_SCHEDULED, timerJob));
         }
@@ -387,10 +393,10 @@ public class DefaultJobManager implements JobManager {
 
     protected void hintAsyncExecutor(JobEntity job) {
         if (Context.getTransactionContext() != null) {
-            JobAddedTransactionListener jobAddedTransactionListener = new JobAddedTransactionListener(job, getAsyncExecutor());
+            JobAddedTransactionListener jobAddedTransactionListener = new JobAddedTransactionListener(job, getAsyncExecutor(), getJobAvailableNotifier());
             Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobAddedTransactionListener);
         } else {
-            AsyncJobAddedNotification jobAddedNotification = new AsyncJobAddedNotification(job, getAsyncExecutor());
+            AsyncJobAddedNotification jobAddedNotification = new AsyncJobAddedNotification(job, getAsyncExecutor(), getJobAvailableNotifier());
             getCommandContext().addCloseListener(jobAddedNotification);
         }
     }
@@ -543,6 +549,41 @@ public class DefaultJobManager implements JobManager {
         return Context.getCommandContext();
     }
 
+    /**
+     * Publishes a notification once the transaction that inserted a new executable job is committed,
+     * so an acquisition thread (possibly of another node, depending on the {@link JobAvailableNotifier}) picks it up without waiting for its next poll.
+     */
+    protected void notifyJobAvailable() {
+        JobAvailableNotifier jobAvailableNotifier = getJobAvailableNotifier();
+        if (jobAvailableNotifier == null) {
+            return;
+        }
+
+        // One notification per command is enough, the acquisition thread will pick up all available jobs
+        CommandContext commandContext = getCommandContext();
+        if (commandContext.getAttribute(JOB_AVAILABLE_NOTIFICATION_ATTRIBUTE) != null) {
+            return;
+        }
+        commandContext.addAttribute(JOB_AVAILABLE_NOTIFICATION_ATTRIBUTE, Boolean.TRUE);
+
+        JobAvailableNotification jobAvailableNotification = new JobAvailableNotification(jobAvailableNotifier);
+        if (Context.getTransactionContext() != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobAvailableNotification);
+        } else {
+            commandContext.addCloseListener(jobAvailableNotification);
+        }
+    }
+
+    protected JobAvailableNotifier getJobAvailableNotifier() {
+        AsyncExecutor asyncExecutor = getAsyncExecutor();
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getJobAvailableNotifier();
+        } else if (asyncExecutor instanceof ExecutorPerTenantAsyncExecutor) {
+            return ((ExecutorPerTenantAsyncExecutor) asyncExecutor).getJobAvailableNotifier();
+        }
+        return null;
+    }
+
     protected AsyncExecutor getAsyncExecutor() {
         return jobServiceConfiguration.getAsyncExecutor();
     }
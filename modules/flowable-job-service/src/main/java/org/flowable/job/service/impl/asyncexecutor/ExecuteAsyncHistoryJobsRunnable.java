@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.service.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncHistoryJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a group of history jobs in one transaction (see {@link ExecuteAsyncHistoryJobsCmd}).
+ * 
+ * When that fails, the transaction is rolled back and every job is executed on its own with an {@link ExecuteAsyncRunnable},
+ * so a failing job gets the regular retry and unacquire handling without holding back the other jobs.
+ */
+public class ExecuteAsyncHistoryJobsRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    public ExecuteAsyncHistoryJobsRunnable(List<? extends JobInfo> jobs, JobServiceConfiguration jobServiceConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+        this.jobs = jobs;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+    }
+
+    public void run() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new ExecuteAsyncHistoryJobsCmd(jobIds));
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Bulk execution of {} history jobs failed, executing them one by one. Exception message: {}", jobs.size(), exception.getMessage());
+            }
+
+            for (JobInfo job : jobs) {
+                new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler).run();
+            }
+        }
+    }
+
+}
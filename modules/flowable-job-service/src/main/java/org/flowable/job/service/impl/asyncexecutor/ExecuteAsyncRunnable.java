@@ -18,6 +18,7 @@ import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -223,7 +224,7 @@ public class ExecuteAsyncRunnable implements Runnable {
 
                 // Dispatch an event, indicating job execution failed in a
                 // try-catch block, to prevent the original exception to be swallowed
-                if (CommandContextUtil.getEventDispatcher().isEnabled()) {
+                if (EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.JOB_EXECUTION_FAILURE)) {
                     try {
                         CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityExceptionEvent(FlowableEngineEventType.JOB_EXECUTION_FAILURE, job, exception));
                     } catch (Throwable ignore) {
@@ -20,6 +20,7 @@ import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -54,7 +55,7 @@ public class FailedJobListener implements CommandContextCloseListener {
     @Override
     public void closed(CommandContext context) {
         FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher();
-        if (eventDispatcher.isEnabled()) {
+        if (EventDispatcherUtil.isListening(eventDispatcher, FlowableEngineEventType.JOB_EXECUTION_SUCCESS)) {
             eventDispatcher.dispatchEvent(
                     FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
         }
@@ -62,7 +63,7 @@ public class FailedJobListener implements CommandContextCloseListener {
 
     @Override
     public void closeFailure(CommandContext commandContext) {
-        if (CommandContextUtil.getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.JOB_EXECUTION_FAILURE)) {
             CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityExceptionEvent(
                     FlowableEngineEventType.JOB_EXECUTION_FAILURE, job, commandContext.getException()));
         }
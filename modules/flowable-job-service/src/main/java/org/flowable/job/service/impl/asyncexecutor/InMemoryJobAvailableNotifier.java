@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link JobAvailableNotifier} that only notifies listeners living in the same JVM.
+ * 
+ * This is the default notifier of the async executor. A notification is published after the commit of a new job
+ * that could not be handed off to the job queue of a local async executor.
+ */
+public class InMemoryJobAvailableNotifier implements JobAvailableNotifier {
+
+    protected List<JobAvailableListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void addListener(JobAvailableListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(JobAvailableListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void notifyJobAvailable() {
+        for (JobAvailableListener listener : listeners) {
+            listener.jobAvailable();
+        }
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+}
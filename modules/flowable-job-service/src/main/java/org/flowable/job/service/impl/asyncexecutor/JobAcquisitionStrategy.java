@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Determines how the {@link AcquireAsyncJobsDueRunnable} of an {@link AsyncExecutor} acquires (locks) jobs.
+ */
+public enum JobAcquisitionStrategy {
+
+    /**
+     * Selects candidate jobs and sets the lock owner and expiration time on each entity.
+     * When another node acquired one of the jobs concurrently, the whole acquisition fails with an optimistic locking exception at flush time.
+     * This is the default.
+     */
+    OPTIMISTIC_LOCKING,
+
+    /**
+     * Selects candidate job ids and claims them with one set-based update, which only locks jobs that are still unlocked.
+     * Jobs that were acquired concurrently by another node are skipped instead of failing the whole acquisition.
+     */
+    CLAIM_UPDATE,
+
+    /**
+     * Same as {@link #CLAIM_UPDATE}, but the candidate jobs are selected with a row lock that skips rows locked by other transactions
+     * (SELECT ... FOR UPDATE SKIP LOCKED on PostgreSQL, MySQL 8 and Oracle, READPAST on SQL Server), so that concurrently acquiring nodes get disjoint batches.
+     * On other databases, this behaves as {@link #CLAIM_UPDATE}.
+     */
+    SKIP_LOCKED
+
+}
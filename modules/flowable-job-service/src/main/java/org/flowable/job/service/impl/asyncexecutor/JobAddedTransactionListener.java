@@ -32,24 +32,43 @@ public class JobAddedTransactionListener implements TransactionListener {
 
     protected JobInfoEntity job;
     protected AsyncExecutor asyncExecutor;
+    protected JobAvailableNotifier jobAvailableNotifier;
 
     public JobAddedTransactionListener(JobInfoEntity job, AsyncExecutor asyncExecutor) {
+        this(job, asyncExecutor, null);
+    }
+
+    public JobAddedTransactionListener(JobInfoEntity job, AsyncExecutor asyncExecutor, JobAvailableNotifier jobAvailableNotifier) {
         this.job = job;
         this.asyncExecutor = asyncExecutor;
+        this.jobAvailableNotifier = jobAvailableNotifier;
     }
 
     @Override
     public void execute(CommandContext commandContext) {
         CommandExecutor commandExecutor = CommandContextUtil.getJobServiceConfiguration(commandContext).getCommandExecutor();
         CommandConfig commandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
-        commandExecutor.execute(commandConfig, new Command<Void>() {
-            public Void execute(CommandContext commandContext) {
+        boolean handedOff = commandExecutor.execute(commandConfig, new Command<Boolean>() {
+            public Boolean execute(CommandContext commandContext) {
                 if (LOGGER.isTraceEnabled()) {
                     LOGGER.trace("notifying job executor of new job");
                 }
-                asyncExecutor.executeAsyncJob(job);
-                return null;
+                return asyncExecutor.executeAsyncJob(job);
             }
         });
+
+        if (!handedOff) {
+            notifyJobAvailable();
+        }
+    }
+
+    /**
+     * The job queue of the async executor was full, so the job has been unacquired. The local acquisition thread is woken up
+     * once the queue has room again, the notification lets the acquisition threads of other nodes pick up the job in the meantime.
+     */
+    protected void notifyJobAvailable() {
+        if (jobAvailableNotifier != null) {
+            jobAvailableNotifier.notifyJobAvailable();
+        }
     }
 }
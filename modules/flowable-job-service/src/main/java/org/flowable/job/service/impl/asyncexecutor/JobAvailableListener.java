@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Callback that is invoked by a {@link JobAvailableNotifier} when new executable jobs are available.
+ * 
+ * Implementations should return quickly, as they are called from the thread publishing the notification.
+ */
+public interface JobAvailableListener {
+
+    /**
+     * Called when one or more executable jobs have become available.
+     */
+    void jobAvailable();
+
+}
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Publishes a 'job available' notification through a {@link JobAvailableNotifier} once the transaction
+ * that made new executable jobs visible has been committed (or the command context is closed when no
+ * transaction context is used).
+ */
+public class JobAvailableNotification implements TransactionListener, CommandContextCloseListener {
+
+    protected JobAvailableNotifier jobAvailableNotifier;
+
+    public JobAvailableNotification(JobAvailableNotifier jobAvailableNotifier) {
+        this.jobAvailableNotifier = jobAvailableNotifier;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        jobAvailableNotifier.notifyJobAvailable();
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        jobAvailableNotifier.notifyJobAvailable();
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+}
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Channel through which the job executor is told that executable jobs are available,
+ * so the async job acquisition thread can be woken up instead of waiting for its next poll.
+ * 
+ * The regular acquisition poll is always kept as a fallback: a lost notification only delays a job
+ * until the next acquire cycle.
+ * 
+ * The default implementation is the {@link InMemoryJobAvailableNotifier}. To also wake up the acquisition threads of other nodes,
+ * the {@link DatabaseJobAvailableNotifier} or an implementation backed by a messaging system can be plugged in.
+ */
+public interface JobAvailableNotifier {
+
+    /**
+     * Registers a listener (e.g. the async job acquisition runnable) that is called for every notification.
+     */
+    void addListener(JobAvailableListener listener);
+
+    /**
+     * Unregisters a listener, it won't be called for notifications published afterwards.
+     */
+    void removeListener(JobAvailableListener listener);
+
+    /**
+     * Publishes that one or more executable jobs have become available.
+     */
+    void notifyJobAvailable();
+
+    /**
+     * Called when the async executor starts, after the listeners have been added.
+     */
+    void start();
+
+    /**
+     * Called when the async executor shuts down. Resources (connections, threads, ...) used to receive notifications should be released.
+     */
+    void shutdown();
+
+}
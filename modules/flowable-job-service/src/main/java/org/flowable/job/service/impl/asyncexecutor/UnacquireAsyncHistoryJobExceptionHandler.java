@@ -23,8 +23,8 @@ public class UnacquireAsyncHistoryJobExceptionHandler implements AsyncRunnableEx
 
     @Override
     public boolean handleException(final JobServiceConfiguration jobServiceConfiguration, final JobInfo job, final Throwable exception) {
-        if (job != null 
-                && ("async-history".equals(job.getJobHandlerType()) || "async-history-zipped".equals(job.getJobHandlerType()) ) ) {
+        // Matches all async history job types: plain json, zipped and the other history payload encodings
+        if (job != null && job.getJobHandlerType() != null && job.getJobHandlerType().startsWith("async-history")) {
             
             return jobServiceConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
                 public Boolean execute(CommandContext commandContext) {
@@ -23,6 +23,8 @@ import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
+import org.flowable.job.service.impl.asyncexecutor.JobAvailableNotifier;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -228,6 +230,36 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    /**
+     * @return the {@link JobAcquisitionStrategy} of the async executor of the current tenant, or null when it doesn't have one.
+     */
+    public JobAcquisitionStrategy getJobAcquisitionStrategy() {
+        AsyncExecutor asyncExecutor = determineAsyncExecutor();
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getJobAcquisitionStrategy();
+        }
+        return null;
+    }
+
+    public void setJobAcquisitionStrategy(JobAcquisitionStrategy jobAcquisitionStrategy) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            if (asyncExecutor instanceof AbstractAsyncExecutor) {
+                ((AbstractAsyncExecutor) asyncExecutor).setJobAcquisitionStrategy(jobAcquisitionStrategy);
+            }
+        }
+    }
+
+    /**
+     * @return the {@link JobAvailableNotifier} of the async executor of the current tenant, or null when it doesn't have one.
+     */
+    public JobAvailableNotifier getJobAvailableNotifier() {
+        AsyncExecutor asyncExecutor = determineAsyncExecutor();
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getJobAvailableNotifier();
+        }
+        return null;
+    }
+
     public int getMaxTimerJobsPerAcquisition() {
         return determineAsyncExecutor().getMaxTimerJobsPerAcquisition();
     }
@@ -13,14 +13,19 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy;
+import org.flowable.job.service.impl.persistence.entity.JobClaimingEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
@@ -48,9 +53,22 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
 
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
+
+        JobAcquisitionStrategy acquisitionStrategy = getJobAcquisitionStrategy();
+        if (acquisitionStrategy == JobAcquisitionStrategy.CLAIM_UPDATE || acquisitionStrategy == JobAcquisitionStrategy.SKIP_LOCKED) {
+            if (!(jobEntityManager instanceof JobClaimingEntityManager)) {
+                throw new FlowableException("Job entity manager " + jobEntityManager.getClass().getName() + " does not support the " + acquisitionStrategy + " job acquisition strategy");
+            }
+            List<? extends JobInfoEntity> jobs = ((JobClaimingEntityManager<?>) jobEntityManager).claimJobsToExecute(new Page(0, maxResults), asyncExecutor.getLockOwner(),
+                    getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()), acquisitionStrategy == JobAcquisitionStrategy.SKIP_LOCKED);
+            for (JobInfoEntity job : jobs) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
 
         List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, maxResults)); 
-        AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
         for (JobInfoEntity job : jobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -60,11 +78,22 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         return acquiredJobs;
     }
 
+    protected JobAcquisitionStrategy getJobAcquisitionStrategy() {
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getJobAcquisitionStrategy();
+        }
+        return JobAcquisitionStrategy.OPTIMISTIC_LOCKING;
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
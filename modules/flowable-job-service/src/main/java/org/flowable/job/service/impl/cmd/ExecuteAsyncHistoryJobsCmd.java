@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
+import org.flowable.job.service.BulkHistoryJobHandler;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a number of history jobs in one transaction, in the given order. Consecutive jobs of which the handler is a {@link BulkHistoryJobHandler}
+ * are applied together, other jobs are executed one by one as with {@link ExecuteAsyncJobCmd}.
+ */
+public class ExecuteAsyncHistoryJobsCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsCmd.class);
+
+    protected List<String> jobIds;
+
+    public ExecuteAsyncHistoryJobsCmd(List<String> jobIds) {
+        this.jobIds = jobIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        HistoryJobEntityManager historyJobEntityManager = CommandContextUtil.getHistoryJobEntityManager(commandContext);
+        Map<String, HistoryJobHandler> historyJobHandlers = CommandContextUtil.getJobServiceConfiguration(commandContext).getHistoryJobHandlers();
+
+        // Consecutive jobs of a bulk handler type are applied together, so the jobs are still applied in their original order
+        List<HistoryJobEntity> jobs = new ArrayList<>(jobIds.size());
+        List<HistoryJobEntity> bulkJobs = new ArrayList<>();
+        for (String jobId : jobIds) {
+            // Refetch, as the job could have been deleted in the mean time (see ExecuteAsyncJobCmd)
+            HistoryJobEntity job = historyJobEntityManager.findById(jobId);
+            if (job == null) {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed", jobId);
+                continue;
+            }
+
+            jobs.add(job);
+            if (!bulkJobs.isEmpty() && !bulkJobs.get(0).getJobHandlerType().equals(job.getJobHandlerType())) {
+                executeBulk(bulkJobs, historyJobHandlers, commandContext);
+                bulkJobs = new ArrayList<>();
+            }
+
+            if (historyJobHandlers.get(job.getJobHandlerType()) instanceof BulkHistoryJobHandler) {
+                bulkJobs.add(job);
+            } else {
+                CommandContextUtil.getJobManager(commandContext).execute(job);
+            }
+        }
+
+        if (!bulkJobs.isEmpty()) {
+            executeBulk(bulkJobs, historyJobHandlers, commandContext);
+        }
+
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.JOB_EXECUTION_SUCCESS)) {
+            for (HistoryJobEntity job : jobs) {
+                CommandContextUtil.getEventDispatcher().dispatchEvent(
+                        FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+            }
+        }
+
+        return null;
+    }
+
+    protected void executeBulk(List<HistoryJobEntity> bulkJobs, Map<String, HistoryJobHandler> historyJobHandlers, CommandContext commandContext) {
+        String jobHandlerType = bulkJobs.get(0).getJobHandlerType();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Applying {} history jobs of type {} in bulk", bulkJobs.size(), jobHandlerType);
+        }
+
+        ((BulkHistoryJobHandler) historyJobHandlers.get(jobHandlerType)).executeBulk(bulkJobs, commandContext);
+
+        HistoryJobEntityManager historyJobEntityManager = CommandContextUtil.getHistoryJobEntityManager(commandContext);
+        for (HistoryJobEntity job : bulkJobs) {
+            historyJobEntityManager.delete(job);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
@@ -76,7 +77,7 @@ public class ExecuteAsyncJobCmd implements Command<Object>, Serializable {
 
         CommandContextUtil.getJobManager(commandContext).execute(job);
 
-        if (CommandContextUtil.getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(CommandContextUtil.getEventDispatcher(), FlowableEngineEventType.JOB_EXECUTION_SUCCESS)) {
             CommandContextUtil.getEventDispatcher().dispatchEvent(
                     FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
         }
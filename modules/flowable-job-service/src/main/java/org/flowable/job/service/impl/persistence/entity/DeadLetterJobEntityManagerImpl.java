@@ -16,6 +16,7 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -80,7 +81,7 @@ public class DeadLetterJobEntityManagerImpl extends AbstractEntityManager<DeadLe
         getJobServiceConfiguration().getJobScopeInterface().handleJobDelete(jobEntity);
 
         // Send event
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(getEventDispatcher(), FlowableEngineEventType.ENTITY_DELETED)) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, this));
         }
     }
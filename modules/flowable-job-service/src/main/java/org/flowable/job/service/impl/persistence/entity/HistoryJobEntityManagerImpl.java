@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -63,7 +64,7 @@ public class HistoryJobEntityManagerImpl extends JobInfoEntityManagerImpl<Histor
         deleteAdvancedJobHandlerConfigurationByteArrayRef(jobEntity);
 
         // Send event
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(getEventDispatcher(), FlowableEngineEventType.ENTITY_DELETED)) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, this));
         }
     }
@@ -88,7 +89,7 @@ public class HistoryJobEntityManagerImpl extends JobInfoEntityManagerImpl<Histor
     @Override
     public void deleteNoCascade(HistoryJobEntity historyJobEntity) {
         super.delete(historyJobEntity);
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(getEventDispatcher(), FlowableEngineEventType.ENTITY_DELETED)) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, this));
         }
     }
@@ -17,13 +17,14 @@ import java.util.Arrays;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 
 /**
  * @author Tom Baeyens
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class JobByteArrayEntityImpl extends AbstractEntity implements JobByteArrayEntity, Serializable {
+public class JobByteArrayEntityImpl extends AbstractEntity implements JobByteArrayEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -51,6 +52,7 @@ public class JobByteArrayEntityImpl extends AbstractEntity implements JobByteArr
 
     public void setName(String name) {
         this.name = name;
+        this.isDirty = true;
     }
 
     public String getDeploymentId() {
@@ -63,6 +65,7 @@ public class JobByteArrayEntityImpl extends AbstractEntity implements JobByteArr
 
     public void setBytes(byte[] bytes) {
         this.bytes = bytes;
+        this.isDirty = true;
     }
 
     @Override
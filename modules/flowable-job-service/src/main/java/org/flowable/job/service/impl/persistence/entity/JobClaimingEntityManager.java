@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.Page;
+
+/**
+ * Optional interface of a {@link JobInfoEntityManager} that can lock jobs with a set-based update. Used by the
+ * {@link org.flowable.job.service.impl.cmd.AcquireJobsCmd} when another {@link org.flowable.job.service.impl.asyncexecutor.JobAcquisitionStrategy}
+ * than optimistic locking is configured.
+ */
+public interface JobClaimingEntityManager<T extends JobInfoEntity> {
+
+    /**
+     * Locks jobs that are eligible to be executed with the given lock owner and expiration time, using a set-based update instead of updating each entity.
+     * Only jobs that were not locked concurrently by another transaction are locked and returned.
+     * 
+     * @param skipLocked when true, the candidate jobs are selected with a row lock that skips rows locked by other transactions (on databases supporting it)
+     */
+    List<T> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime, boolean skipLocked);
+
+}
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -80,7 +81,7 @@ public class JobEntityManagerImpl extends JobInfoEntityManagerImpl<JobEntity> im
         deleteExceptionByteArrayRef(jobEntity);
 
         // Send event
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.isListening(getEventDispatcher(), FlowableEngineEventType.ENTITY_DELETED)) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, this));
         }
     }
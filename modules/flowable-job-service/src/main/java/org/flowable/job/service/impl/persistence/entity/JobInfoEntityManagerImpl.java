@@ -13,11 +13,14 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.data.JobClaimingDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.JobInfoDataManager;
 
 /**
@@ -25,7 +28,7 @@ import org.flowable.job.service.impl.persistence.entity.data.JobInfoDataManager;
  * @author Daniel Meyer
  * @author Joram Barrez
  */
-public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends AbstractEntityManager<T> implements JobInfoEntityManager<T> {
+public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends AbstractEntityManager<T> implements JobInfoEntityManager<T>, JobClaimingEntityManager<T> {
 
     protected JobInfoDataManager<T> jobDataManager;
 
@@ -43,6 +46,15 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime, boolean skipLocked) {
+        if (!(jobDataManager instanceof JobClaimingDataManager)) {
+            throw new FlowableException("Job data manager " + jobDataManager.getClass().getName() + " does not support claiming jobs");
+        }
+        return ((JobClaimingDataManager<T>) jobDataManager).claimJobsToExecute(page, lockOwner, lockExpirationTime, skipLocked);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
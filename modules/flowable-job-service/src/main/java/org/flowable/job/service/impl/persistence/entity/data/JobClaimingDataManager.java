@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.persistence.entity.data;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.Page;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+
+/**
+ * Optional interface of a {@link JobInfoDataManager} that can lock jobs with a set-based update.
+ */
+public interface JobClaimingDataManager<T extends JobInfoEntity> {
+
+    List<T> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime, boolean skipLocked);
+
+}
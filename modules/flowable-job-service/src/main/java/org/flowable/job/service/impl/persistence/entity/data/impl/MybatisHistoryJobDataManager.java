@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,11 +27,12 @@ import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.AbstractDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.HistoryJobDataManager;
+import org.flowable.job.service.impl.persistence.entity.data.JobClaimingDataManager;
 
 /**
  * @author Tijs Rademakers
  */
-public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJobEntity> implements HistoryJobDataManager {
+public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJobEntity> implements HistoryJobDataManager, JobClaimingDataManager<HistoryJobEntity> {
 
     public MybatisHistoryJobDataManager(JobServiceConfiguration jobServiceConfiguration) {
         super(jobServiceConfiguration);
@@ -57,6 +59,30 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime, boolean skipLocked) {
+        // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+        ListQueryParameterObject listParams = new ListQueryParameterObject();
+        listParams.setFirstResult(page.getFirstResult());
+        listParams.setMaxResults(page.getMaxResults());
+        listParams.setOrderByColumns("CREATE_TIME_ ASC, ID_ ASC");
+        String selectStatement = skipLocked ? "selectHistoryJobIdsToExecuteSkipLocked" : "selectHistoryJobIdsToExecute";
+        List<String> jobIds = getDbSqlSession().selectList(selectStatement, listParams);
+        if (jobIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("ids", jobIds);
+        getDbSqlSession().update("claimHistoryJobs", params);
+
+        // Jobs that were locked concurrently by another transaction weren't updated and are not returned
+        return getDbSqlSession().selectList("selectClaimedHistoryJobs", params);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -19,12 +20,14 @@ import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.job.service.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.JobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.AbstractDataManager;
+import org.flowable.job.service.impl.persistence.entity.data.JobClaimingDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
 import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.JobsByExecutionIdMatcher;
 
@@ -32,7 +35,7 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.J
  * @author Joram Barrez
  * @author Tijs Rademakers
  */
-public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implements JobDataManager {
+public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implements JobDataManager, JobClaimingDataManager<JobEntity> {
 
     protected CachedEntityMatcher<JobEntity> jobsByExecutionIdMatcher = new JobsByExecutionIdMatcher();
 
@@ -56,6 +59,30 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime, boolean skipLocked) {
+        // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+        ListQueryParameterObject listParams = new ListQueryParameterObject();
+        listParams.setFirstResult(page.getFirstResult());
+        listParams.setMaxResults(page.getMaxResults());
+        listParams.setOrderByColumns("CREATE_TIME_ ASC, ID_ ASC");
+        String selectStatement = skipLocked ? "selectJobIdsToExecuteSkipLocked" : "selectJobIdsToExecute";
+        List<String> jobIds = getDbSqlSession().selectList(selectStatement, listParams);
+        if (jobIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("ids", jobIds);
+        getDbSqlSession().update("claimJobs", params);
+
+        // Jobs that were locked concurrently by another transaction weren't updated and are not returned
+        return getDbSqlSession().selectList("selectClaimedJobs", params);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.runtime;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -394,4 +395,57 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting a collection of tasks using keyset paging. GET runtime/tasks?continuationToken=
+     */
+    public void testGetTasksWithContinuationToken() throws Exception {
+        try {
+            List<String> taskIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Task task = taskService.newTask();
+                task.setName("Task " + i);
+                taskService.saveTask(task);
+                taskIds.add(task.getId());
+            }
+
+            String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?size=2&continuationToken=";
+            List<String> pagedIds = new ArrayList<>();
+            String continuationToken = "";
+            do {
+                CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url + encode(continuationToken)), HttpStatus.SC_OK);
+                JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+                closeResponse(response);
+
+                assertEquals(-1, responseNode.get("total").intValue());
+                JsonNode dataNode = responseNode.get("data");
+                assertTrue(dataNode.size() <= 2);
+                for (JsonNode taskNode : dataNode) {
+                    pagedIds.add(taskNode.get("id").asText());
+                }
+
+                continuationToken = responseNode.has("continuationToken") ? responseNode.get("continuationToken").asText() : null;
+            } while (continuationToken != null);
+
+            assertEquals(5, pagedIds.size());
+            assertTrue(pagedIds.containsAll(taskIds));
+
+            // Total is only counted when asked for
+            CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "&includeTotal=true"), HttpStatus.SC_OK);
+            JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+            closeResponse(response);
+            assertEquals(5, responseNode.get("total").intValue());
+            assertEquals(2, responseNode.get("data").size());
+            assertTrue(responseNode.has("continuationToken"));
+
+        } finally {
+            // Clean adhoc-tasks even if test fails
+            List<Task> tasks = taskService.createTaskQuery().list();
+            for (Task task : tasks) {
+                if (task.getExecutionId() == null) {
+                    taskService.deleteTask(task.getId(), true);
+                }
+            }
+        }
+    }
 }
@@ -24,8 +24,6 @@ import org.flowable.engine.common.impl.javax.el.ELResolver;
 import org.flowable.engine.common.impl.javax.el.ListELResolver;
 import org.flowable.engine.common.impl.javax.el.MapELResolver;
 import org.flowable.engine.impl.el.DefaultExpressionManager;
-import org.flowable.engine.impl.el.VariableScopeElResolver;
-import org.flowable.variable.service.delegate.VariableScope;
 import org.springframework.context.ApplicationContext;
 
 /**
@@ -49,9 +47,8 @@ public class SpringExpressionManager extends DefaultExpressionManager {
     }
 
     @Override
-    protected ELResolver createElResolver(VariableScope variableScope) {
+    protected ELResolver createScopeIndependentElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(new VariableScopeElResolver(variableScope));
 
         if (beans != null) {
             // Only expose limited set of beans in expressions
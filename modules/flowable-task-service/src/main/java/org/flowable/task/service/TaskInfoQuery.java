@@ -13,6 +13,7 @@
 package org.flowable.task.service;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -518,6 +519,11 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T includeProcessVariables();
 
+    /**
+     * Include only the global task variables with the given names in the task query result. Avoids fetching (and deserializing) variables that are not needed.
+     */
+    T includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit task variables
      */
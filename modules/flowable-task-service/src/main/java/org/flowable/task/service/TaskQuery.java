@@ -14,6 +14,8 @@ package org.flowable.task.service;
 
 import java.util.List;
 
+import org.flowable.engine.common.api.query.KeysetPageableQuery;
+
 /**
  * Allows programmatic querying of {@link Task}s;
  * 
@@ -21,7 +23,7 @@ import java.util.List;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
+public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task>, KeysetPageableQuery<Task> {
 
     /** Only select tasks which don't have an assignee. */
     TaskQuery taskUnassigned();
@@ -13,6 +13,7 @@
 package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -102,6 +103,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean excludeSubtasks;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> includeProcessVariableNames;
     protected Integer taskVariablesLimit;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
@@ -1124,6 +1126,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Collection of variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.includeProcessVariableNames = variableNames;
+        return this;
+    }
+
     public TaskQuery limitTaskVariables(Integer taskVariablesLimit) {
         this.taskVariablesLimit = taskVariablesLimit;
         return this;
@@ -1282,6 +1296,23 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return orderBy(TaskQueryProperty.TENANT_ID);
     }
 
+    @Override
+    protected boolean isKeysetColumnSupported(String column) {
+        return TaskQueryProperty.TASK_ID.getName().equals(column)
+                || TaskQueryProperty.CREATE_TIME.getName().equals(column)
+                || TaskQueryProperty.PRIORITY.getName().equals(column);
+    }
+
+    @Override
+    protected Object getOrderValue(Task task, String column) {
+        if (TaskQueryProperty.CREATE_TIME.getName().equals(column)) {
+            return task.getCreateTime();
+        } else if (TaskQueryProperty.PRIORITY.getName().equals(column)) {
+            return task.getPriority();
+        }
+        return task.getId();
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -1548,6 +1579,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
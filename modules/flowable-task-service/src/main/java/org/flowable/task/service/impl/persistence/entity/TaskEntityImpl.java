@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.service.IdentityLink;
 import org.flowable.identitylink.service.IdentityLinkType;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -45,7 +46,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, DirtyTrackingEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -156,6 +157,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        this.isDirty = true;
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -224,43 +226,51 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setName(String taskName) {
+        markDirtyIfChanged(this.name, taskName);
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        markDirtyIfChanged(this.description, description);
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
+        markDirtyIfChanged(this.assignee, assignee);
         this.assignee = assignee;
         assigneeUpdatedCount++;
     }
 
     @Override
     public void setOwner(String owner) {
+        markDirtyIfChanged(this.owner, owner);
         this.owner = owner;
     }
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirtyIfChanged(this.dueDate, dueDate);
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        markDirtyIfChanged(this.priority, priority);
         this.priority = priority;
     }
 
     @Override
     public void setCategory(String category) {
+        markDirtyIfChanged(this.category, category);
         this.category = category;
     }
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        markDirtyIfChanged(this.parentTaskId, parentTaskId);
         this.parentTaskId = parentTaskId;
     }
 
@@ -271,6 +281,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setFormKey(String formKey) {
+        markDirtyIfChanged(this.formKey, formKey);
         this.formKey = formKey;
     }
 
@@ -357,6 +368,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirtyIfChanged(this.createTime, createTime);
         this.createTime = createTime;
     }
 
@@ -377,6 +389,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirtyIfChanged(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -416,6 +429,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirtyIfChanged(this.executionId, executionId);
         this.executionId = executionId;
     }
 
@@ -436,6 +450,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        markDirtyIfChanged(this.delegationState, delegationState);
         this.delegationState = delegationState;
     }
 
@@ -444,7 +459,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     }
 
     public void setDelegationStateString(String delegationStateString) {
-        this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        setDelegationState(delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
     @Override
@@ -485,6 +500,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirtyIfChanged(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -563,6 +579,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirtyIfChanged(this.claimTime, claimTime);
         this.claimTime = claimTime;
     }
 
@@ -577,11 +594,13 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirtyIfChanged(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirtyIfChanged(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -592,6 +611,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirtyIfChanged(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
 
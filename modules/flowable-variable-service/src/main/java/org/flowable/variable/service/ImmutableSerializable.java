@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service;
+
+import java.io.Serializable;
+
+import org.flowable.variable.service.impl.types.SerializableType;
+
+/**
+ * Marker for {@link Serializable} variable values that are never changed in place.
+ * 
+ * Deserialized values implementing this interface aren't tracked by the {@link SerializableType}, so they are not serialized again
+ * when the command context closes to check whether they were changed.
+ */
+public interface ImmutableSerializable extends Serializable {
+
+}
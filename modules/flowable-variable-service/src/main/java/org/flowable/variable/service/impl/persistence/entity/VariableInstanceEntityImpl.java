@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.service.impl.types.ValueFields;
 import org.flowable.variable.service.impl.types.VariableType;
 
@@ -26,7 +27,7 @@ import org.flowable.variable.service.impl.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -75,10 +76,14 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public void forceUpdate() {
         forcedUpdate = true;
+        isDirty = true;
     }
     
     public void setExecutionId(String executionId) {
+        markDirtyIfChanged(this.executionId, executionId);
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        indexKeyChanged(oldExecutionId, executionId);
     }
 
     public void setProcessInstanceId(String processInstanceId) {
@@ -100,7 +105,9 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        String byteArrayId = byteArrayRef.getId();
         byteArrayRef.setValue("var-" + name, bytes);
+        markDirtyIfChanged(byteArrayId, byteArrayRef.getId());
     }
 
     public VariableByteArrayRef getByteArrayRef() {
@@ -131,6 +138,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     // getters and setters ////////////////////////////////////////////////////////
 
     public void setName(String name) {
+        markDirtyIfChanged(this.name, name);
         this.name = name;
     }
 
@@ -157,6 +165,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setType(VariableType type) {
+        markDirtyIfChanged(this.type != null ? this.type.getTypeName() : null, type != null ? type.getTypeName() : null);
         this.type = type;
     }
 
@@ -185,6 +194,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setLongValue(Long longValue) {
+        markDirtyIfChanged(this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -193,6 +203,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setDoubleValue(Double doubleValue) {
+        markDirtyIfChanged(this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -201,6 +212,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setTextValue(String textValue) {
+        markDirtyIfChanged(this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -209,6 +221,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setTextValue2(String textValue2) {
+        markDirtyIfChanged(this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -28,9 +28,11 @@ import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.javax.el.ELContext;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.util.EventDispatcherUtil;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.delegate.VariableScope;
 import org.flowable.variable.service.event.impl.FlowableVariableEventBuilder;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
 import org.flowable.variable.service.impl.types.VariableType;
 import org.flowable.variable.service.impl.types.VariableTypes;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
@@ -802,11 +804,16 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         // Always check if the type should be altered. It's possible that the previous type is lower in the type
         // checking chain (e.g. serializable) and will return true on isAbleToStore(), even though another type
-        // higher in the chain is eligible for storage.
+        // higher in the chain is eligible for storage. Only when the type chain has already been resolved for the class
+        // of the value, and no type up to the found one depends on the value itself, the lookup can be skipped.
 
         VariableTypes variableTypes = CommandContextUtil.getVariableServiceConfiguration().getVariableTypes();
-
-        VariableType newType = variableTypes.findVariableType(value);
+        VariableType newType = null;
+        if (isVariableTypeUnchanged(variableTypes, variableInstance, value)) {
+            newType = variableInstance.getType();
+        } else {
+            newType = variableTypes.findVariableType(value);
+        }
 
         if (newType != null && !newType.equals(variableInstance.getType())) {
             variableInstance.setValue(null);
@@ -827,7 +834,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
         
         // Dispatch event, if needed
-        if (variableServiceConfiguration.getEventDispatcher() != null && variableServiceConfiguration.getEventDispatcher().isEnabled()) {
+        if (variableServiceConfiguration.getEventDispatcher() != null && EventDispatcherUtil.isListening(variableServiceConfiguration.getEventDispatcher(), FlowableEngineEventType.VARIABLE_UPDATED)) {
             variableServiceConfiguration.getEventDispatcher().dispatchEvent(
                             FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_UPDATED, variableInstance.getName(), value, 
                                             variableInstance.getType(), variableInstance.getTaskId(), variableInstance.getExecutionId(), 
@@ -835,6 +842,14 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
     }
 
+    protected boolean isVariableTypeUnchanged(VariableTypes variableTypes, VariableInstanceEntity variableInstance, Object value) {
+        if (value == null || !(variableTypes instanceof DefaultVariableTypes)) {
+            return false;
+        }
+        VariableType classBasedType = ((DefaultVariableTypes) variableTypes).getClassBasedVariableType(value.getClass());
+        return classBasedType != null && classBasedType == variableInstance.getType();
+    }
+
     protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
         VariableTypes variableTypes = CommandContextUtil.getVariableServiceConfiguration().getVariableTypes();
 
@@ -856,7 +871,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
         }
         
-        if (variableServiceConfiguration.getEventDispatcher() != null && variableServiceConfiguration.getEventDispatcher().isEnabled()) {
+        if (variableServiceConfiguration.getEventDispatcher() != null && EventDispatcherUtil.isListening(variableServiceConfiguration.getEventDispatcher(), FlowableEngineEventType.VARIABLE_CREATED)) {
             variableServiceConfiguration.getEventDispatcher().dispatchEvent(
                             FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_CREATED, variableName, value, 
                                             variableInstance.getType(), variableInstance.getTaskId(), variableInstance.getExecutionId(), 
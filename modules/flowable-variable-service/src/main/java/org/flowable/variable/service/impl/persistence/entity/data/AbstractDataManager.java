@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
 import org.flowable.engine.common.impl.db.DbSqlSession;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
 import org.flowable.engine.common.impl.db.SingleCachedEntityMatcher;
 import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.common.impl.persistence.cache.EntityCache;
@@ -126,7 +127,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         if (checkCache) {
 
-            Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+            Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
 
             if ((cachedObjects != null && cachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
 
@@ -149,7 +150,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -180,8 +181,23 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns the cached entities of the given type that need to be checked with the {@link CachedEntityMatcher}.
+     * For an {@link IndexedCachedEntityMatcher}, only the cached entities having the index key of the parameter are returned,
+     * instead of all cached entities of the type.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjects(Class<? extends EntityImpl> entityClass, CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            return getEntityCache().findInCacheAsCachedObjects(entityClass,
+                    indexedCachedEntityMatcher.getCacheIndex(), indexedCachedEntityMatcher.getCacheIndexKey(parameter));
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
+
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter) {
-        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), entityMatcher, parameter);
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
@@ -197,7 +213,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
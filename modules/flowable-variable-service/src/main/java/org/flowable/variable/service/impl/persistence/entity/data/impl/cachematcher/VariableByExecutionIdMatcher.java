@@ -13,12 +13,28 @@
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheIndex;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
+
+    public static final EntityCacheIndex<VariableInstanceEntity> EXECUTION_ID_INDEX = new EntityCacheIndex<VariableInstanceEntity>() {
+
+        @Override
+        public String getName() {
+            return "executionId";
+        }
+
+        @Override
+        public String getIndexKey(VariableInstanceEntity variableInstanceEntity) {
+            return variableInstanceEntity.getExecutionId();
+        }
+
+    };
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -26,4 +42,14 @@ public class VariableByExecutionIdMatcher extends CachedEntityMatcherAdapter<Var
                 && variableInstanceEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex<VariableInstanceEntity> getCacheIndex() {
+        return EXECUTION_ID_INDEX;
+    }
+
+    @Override
+    public String getCacheIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
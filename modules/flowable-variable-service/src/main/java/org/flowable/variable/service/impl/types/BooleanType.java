@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Frederik Heremans
  */
-public class BooleanType implements VariableType {
+public class BooleanType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -47,6 +47,10 @@ public class BooleanType implements VariableType {
         }
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
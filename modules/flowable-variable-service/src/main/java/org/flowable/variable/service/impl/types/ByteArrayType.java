@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Tom Baeyens
  */
-public class ByteArrayType implements VariableType {
+public class ByteArrayType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -35,6 +35,10 @@ public class ByteArrayType implements VariableType {
         valueFields.setBytes((byte[]) value);
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+/**
+ * Implemented by {@link VariableType}s for which {@link VariableType#isAbleToStore(Object)} only depends on the class of the value,
+ * which allows {@link DefaultVariableTypes} to cache the type found for a value class.
+ * 
+ * Subclasses overriding {@link VariableType#isAbleToStore(Object)} need to override {@link #isClassBased(Class)} accordingly.
+ */
+public interface ClassBasedVariableType {
+
+    /**
+     * @return whether {@link VariableType#isAbleToStore(Object)} gives the same result for all non-null values of the given class.
+     */
+    boolean isClassBased(Class<?> valueClass);
+
+}
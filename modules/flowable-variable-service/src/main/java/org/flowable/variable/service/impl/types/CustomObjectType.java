@@ -17,7 +17,7 @@ package org.flowable.variable.service.impl.types;
  * 
  * @author Esteban Robles Luna
  */
-public class CustomObjectType implements VariableType {
+public class CustomObjectType implements VariableType, ClassBasedVariableType {
 
     protected String typeName;
     protected Class<?> theClass;
@@ -35,6 +35,10 @@ public class CustomObjectType implements VariableType {
         return valueFields.getCachedValue();
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.engine.common.api.FlowableException;
 
@@ -30,6 +32,11 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The type found for a value class, only for classes for which all types up to the found one are {@link ClassBasedVariableType}s.
+     */
+    private final ConcurrentMap<Class<?>, VariableType> typesByValueClass = new ConcurrentHashMap<>();
+
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
     }
@@ -37,6 +44,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        typesByValueClass.clear();
         return this;
     }
 
@@ -47,6 +55,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        typesByValueClass.clear();
     }
 
     public VariableType getVariableType(String typeName) {
@@ -54,14 +63,36 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     }
 
     public VariableType findVariableType(Object value) {
+        Class<?> valueClass = value != null ? value.getClass() : null;
+        if (valueClass != null) {
+            VariableType type = typesByValueClass.get(valueClass);
+            if (type != null) {
+                return type;
+            }
+        }
+
+        // The found type can only be cached when the result of all types checked before didn't depend on the value itself
+        boolean classBased = valueClass != null;
         for (VariableType type : typesList) {
+            classBased = classBased && type instanceof ClassBasedVariableType && ((ClassBasedVariableType) type).isClassBased(valueClass);
             if (type.isAbleToStore(value)) {
+                if (classBased) {
+                    typesByValueClass.put(valueClass, type);
+                }
                 return type;
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    /**
+     * Returns the type that {@link #findVariableType(Object)} returns for every value of the given class,
+     * or null when that type hasn't been looked up yet or when a type in the chain up to it depends on the value itself.
+     */
+    public VariableType getClassBasedVariableType(Class<?> valueClass) {
+        return typesByValueClass.get(valueClass);
+    }
+
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
     }
@@ -78,6 +109,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        typesByValueClass.clear();
         return this;
     }
 }
@@ -34,7 +34,10 @@ public class DeserializedObject {
         this.variableInstanceEntity = variableInstanceEntity;
     }
 
-    public void verifyIfBytesOfSerializedObjectChanged() {
+    /**
+     * @return whether the object was changed, in which case the bytes of the variable instance were updated
+     */
+    public boolean verifyIfBytesOfSerializedObjectChanged() {
         // this first check verifies if the variable value was not overwritten with another object
         if (deserializedObject == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted()) {
             byte[] bytes = type.serialize(deserializedObject, variableInstanceEntity);
@@ -46,8 +49,14 @@ public class DeserializedObject {
 
                 if (!Arrays.equals(refreshedOriginalBytes, bytes)) {
                     variableInstanceEntity.setBytes(bytes);
+                    return true;
                 }
             }
         }
+        return false;
+    }
+
+    public SerializableType getType() {
+        return type;
     }
 }
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of the verification of deserialized objects tracked by a {@link SerializableType}: how many objects were verified,
+ * how many of them were changed, how much time the verification took and how many objects weren't tracked because they are
+ * immutable (see {@link org.flowable.variable.service.ImmutableSerializable}).
+ */
+public class DeserializedObjectStatistics {
+
+    protected AtomicLong verificationCount = new AtomicLong();
+    protected AtomicLong changedCount = new AtomicLong();
+    protected AtomicLong untrackedCount = new AtomicLong();
+    protected AtomicLong totalVerificationTimeInNanos = new AtomicLong();
+
+    public void recordVerification(long verificationTimeInNanos, boolean changed) {
+        verificationCount.incrementAndGet();
+        totalVerificationTimeInNanos.addAndGet(verificationTimeInNanos);
+        if (changed) {
+            changedCount.incrementAndGet();
+        }
+    }
+
+    public void recordUntracked() {
+        untrackedCount.incrementAndGet();
+    }
+
+    public long getVerificationCount() {
+        return verificationCount.get();
+    }
+
+    public long getChangedCount() {
+        return changedCount.get();
+    }
+
+    public long getUntrackedCount() {
+        return untrackedCount.get();
+    }
+
+    public long getTotalVerificationTimeInNanos() {
+        return totalVerificationTimeInNanos.get();
+    }
+
+    public double getAverageVerificationTimeInMillis() {
+        long verifications = verificationCount.get();
+        return verifications == 0 ? 0.0 : (totalVerificationTimeInNanos.get() / (double) verifications) / 1000000.0;
+    }
+
+    public void reset() {
+        verificationCount.set(0);
+        changedCount.set(0);
+        untrackedCount.set(0);
+        totalVerificationTimeInNanos.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "DeserializedObjectStatistics[verifications=" + getVerificationCount() + ", changed=" + getChangedCount()
+                + ", untracked=" + getUntrackedCount() + ", averageVerificationTime=" + getAverageVerificationTimeInMillis() + "ms]";
+    }
+
+}
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Tom Baeyens
  */
-public class DoubleType implements VariableType {
+public class DoubleType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -35,6 +35,10 @@ public class DoubleType implements VariableType {
         valueFields.setDoubleValue((Double) value);
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.security.MessageDigest;
+
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * A {@link DeserializedObject} that only keeps a digest of the original bytes. On verification, the object is serialized straight
+ * into a digest, so the serialized bytes are only created again when the object was changed. As with {@link DeserializedObject}, a
+ * different digest is double checked against the original object serialized again, reading the original bytes from the variable instance,
+ * so that byte differences due to JDK changes etc. don't cause an update.
+ * 
+ * Note that this saves memory, not time: every tracked object is still serialized when the command context closes, as there is no
+ * other way to find out whether it was changed. Values that can't change (see {@link SerializableType#isImmutable(Object)}) aren't tracked at all.
+ */
+public class HashedDeserializedObject extends DeserializedObject {
+
+    protected byte[] originalDigest;
+
+    public HashedDeserializedObject(SerializableType type, Object deserializedObject, byte[] serializedBytes, VariableInstanceEntity variableInstanceEntity) {
+        super(type, deserializedObject, null, variableInstanceEntity);
+        this.originalDigest = type.digest(serializedBytes);
+    }
+
+    @Override
+    public boolean verifyIfBytesOfSerializedObjectChanged() {
+        // this first check verifies if the variable value was not overwritten with another object
+        if (deserializedObject == variableInstanceEntity.getCachedValue() && !variableInstanceEntity.isDeleted()) {
+            byte[] digest = type.serializeToDigest(deserializedObject, variableInstanceEntity);
+            if (!MessageDigest.isEqual(originalDigest, digest)) {
+
+                // Add an additional check to prevent byte differences due to JDK changes etc
+                byte[] originalBytes = variableInstanceEntity.getBytes();
+                if (originalBytes != null) {
+                    Object originalObject = type.deserialize(originalBytes, variableInstanceEntity);
+                    byte[] refreshedOriginalDigest = type.serializeToDigest(originalObject, variableInstanceEntity);
+                    if (MessageDigest.isEqual(refreshedOriginalDigest, digest)) {
+                        return false;
+                    }
+                }
+
+                variableInstanceEntity.setBytes(type.serialize(deserializedObject, variableInstanceEntity));
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Joram Barrez
  */
-public class IntegerType implements VariableType {
+public class IntegerType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class IntegerType implements VariableType {
         }
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -30,7 +30,7 @@ import org.flowable.engine.common.impl.context.Context;
  * 
  * @author Frederik Heremans
  */
-public class JPAEntityListVariableType implements VariableType, CacheableVariable {
+public class JPAEntityListVariableType implements VariableType, ClassBasedVariableType, CacheableVariable {
 
     public static final String TYPE_NAME = "jpa-entity-list";
 
@@ -57,6 +57,11 @@ public class JPAEntityListVariableType implements VariableType, CacheableVariabl
         return forceCachedValue;
     }
 
+    @Override
+    public boolean isClassBased(Class<?> valueClass) {
+        return !List.class.isAssignableFrom(valueClass);
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         boolean canStore = false;
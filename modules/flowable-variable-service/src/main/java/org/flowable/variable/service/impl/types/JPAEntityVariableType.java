@@ -21,7 +21,7 @@ import org.flowable.engine.common.impl.context.Context;
  * 
  * @author Frederik Heremans
  */
-public class JPAEntityVariableType implements VariableType, CacheableVariable {
+public class JPAEntityVariableType implements VariableType, ClassBasedVariableType, CacheableVariable {
 
     public static final String TYPE_NAME = "jpa-entity";
 
@@ -41,6 +41,10 @@ public class JPAEntityVariableType implements VariableType, CacheableVariable {
         return forceCacheable;
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,7 +17,7 @@ import org.joda.time.DateTime;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateTimeType implements VariableType {
+public class JodaDateTimeType implements VariableType, ClassBasedVariableType {
 
     public String getTypeName() {
         return "jodadatetime";
@@ -27,6 +27,10 @@ public class JodaDateTimeType implements VariableType {
         return true;
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -17,7 +17,7 @@ import org.joda.time.LocalDate;
 /**
  * @author Tijs Rademakers
  */
-public class JodaDateType implements VariableType {
+public class JodaDateType implements VariableType, ClassBasedVariableType {
 
     public String getTypeName() {
         return "jodadate";
@@ -27,6 +27,10 @@ public class JodaDateType implements VariableType {
         return true;
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
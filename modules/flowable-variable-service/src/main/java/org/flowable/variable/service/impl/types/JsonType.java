@@ -21,7 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 /**
  * @author Tijs Rademakers
  */
-public class JsonType implements VariableType {
+public class JsonType implements VariableType, ClassBasedVariableType {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonType.class);
 
@@ -57,6 +57,10 @@ public class JsonType implements VariableType {
         valueFields.setTextValue(value != null ? value.toString() : null);
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return !JsonNode.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -34,6 +34,10 @@ public class LongJsonType extends SerializableType {
         return "longJson";
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return !JsonNode.class.isAssignableFrom(valueClass);
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
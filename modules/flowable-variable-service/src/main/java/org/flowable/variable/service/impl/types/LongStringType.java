@@ -27,6 +27,10 @@ public class LongStringType extends SerializableType {
         return "longString";
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return valueClass != String.class;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return false;
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Tom Baeyens
  */
-public class LongType implements VariableType {
+public class LongType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -40,6 +40,10 @@ public class LongType implements VariableType {
         }
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Tom Baeyens
  */
-public class NullType implements VariableType {
+public class NullType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -31,6 +31,10 @@ public class NullType implements VariableType {
         return null;
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         return (value == null);
     }
@@ -21,12 +21,24 @@ import java.io.ObjectOutputStream;
 import java.io.ObjectStreamClass;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.util.IoUtil;
 import org.flowable.engine.common.impl.util.ReflectUtil;
+import org.flowable.variable.service.ImmutableSerializable;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -34,9 +46,24 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
  */
 public class SerializableType extends ByteArrayType {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerializableType.class);
+
     public static final String TYPE_NAME = "serializable";
 
+    // Only used to detect changes, not for security
+    protected static final String DIGEST_ALGORITHM = "MD5";
+
+    /**
+     * Final JDK classes whose instances can't be changed, so serializing them again can't reveal a change.
+     */
+    protected static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<Class<?>>(Arrays.<Class<?>> asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class));
+
     protected boolean trackDeserializedObjects;
+    protected boolean trackDeserializedObjectsByHash;
+    protected DeserializedObjectStatistics statistics = new DeserializedObjectStatistics();
+    protected volatile Boolean digestAvailable;
 
     public String getTypeName() {
         return TYPE_NAME;
@@ -50,6 +77,15 @@ public class SerializableType extends ByteArrayType {
         this.trackDeserializedObjects = trackDeserializedObjects;
     }
 
+    /**
+     * @param trackDeserializedObjectsByHash
+     *            when true, only a digest of the serialized bytes is kept for tracked objects, see {@link HashedDeserializedObject}
+     */
+    public SerializableType(boolean trackDeserializedObjects, boolean trackDeserializedObjectsByHash) {
+        this.trackDeserializedObjects = trackDeserializedObjects;
+        this.trackDeserializedObjectsByHash = trackDeserializedObjectsByHash;
+    }
+
     public Object getValue(ValueFields valueFields) {
         Object cachedObject = valueFields.getCachedValue();
         if (cachedObject != null) {
@@ -63,8 +99,7 @@ public class SerializableType extends ByteArrayType {
             valueFields.setCachedValue(deserializedObject);
 
             if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
-                Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
-                        new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
+                trackDeserializedObject(deserializedObject, bytes, (VariableInstanceEntity) valueFields);
             }
 
             return deserializedObject;
@@ -79,12 +114,33 @@ public class SerializableType extends ByteArrayType {
         super.setValue(bytes, valueFields);
 
         if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
-            Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
-                    new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
+            trackDeserializedObject(value, bytes, (VariableInstanceEntity) valueFields);
         }
 
     }
 
+    protected void trackDeserializedObject(Object value, byte[] bytes, VariableInstanceEntity variableInstanceEntity) {
+        if (isImmutable(value)) {
+            statistics.recordUntracked();
+            return;
+        }
+
+        DeserializedObject deserializedObject = null;
+        if (trackDeserializedObjectsByHash && isDigestAvailable()) {
+            deserializedObject = new HashedDeserializedObject(this, value, bytes, variableInstanceEntity);
+        } else {
+            deserializedObject = new DeserializedObject(this, value, bytes, variableInstanceEntity);
+        }
+        Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(deserializedObject));
+    }
+
+    /**
+     * Whether the value can't be changed in place, in which case it isn't tracked. Enums are included, as only their name is serialized.
+     */
+    protected boolean isImmutable(Object value) {
+        return value instanceof ImmutableSerializable || value instanceof Enum || IMMUTABLE_CLASSES.contains(value.getClass());
+    }
+
     public byte[] serialize(Object value, ValueFields valueFields) {
         if (value == null) {
             return null;
@@ -102,6 +158,56 @@ public class SerializableType extends ByteArrayType {
         return baos.toByteArray();
     }
 
+    /**
+     * Serializes the value into a digest, without keeping the serialized bytes.
+     */
+    public byte[] serializeToDigest(Object value, ValueFields valueFields) {
+        MessageDigest messageDigest = createMessageDigest();
+        ObjectOutputStream oos = null;
+        try {
+            oos = createObjectOutputStream(new DigestOutputStream(new NullOutputStream(), messageDigest));
+            oos.writeObject(value);
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+        } finally {
+            IoUtil.closeSilently(oos);
+        }
+        return messageDigest.digest();
+    }
+
+    public byte[] digest(byte[] bytes) {
+        MessageDigest messageDigest = createMessageDigest();
+        if (bytes != null) {
+            messageDigest.update(bytes);
+        }
+        return messageDigest.digest();
+    }
+
+    protected MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("No " + DIGEST_ALGORITHM + " message digest available", e);
+        }
+    }
+
+    /**
+     * Whether the digest used by {@link HashedDeserializedObject} can be created. When it can't (e.g. on a JVM running in FIPS mode),
+     * tracked objects are compared by their serialized bytes instead.
+     */
+    protected boolean isDigestAvailable() {
+        if (digestAvailable == null) {
+            try {
+                MessageDigest.getInstance(DIGEST_ALGORITHM);
+                digestAvailable = Boolean.TRUE;
+            } catch (NoSuchAlgorithmException e) {
+                LOGGER.warn("No {} message digest available, deserialized objects are tracked by their serialized bytes", DIGEST_ALGORITHM);
+                digestAvailable = Boolean.FALSE;
+            }
+        }
+        return digestAvailable;
+    }
+
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
@@ -121,6 +227,26 @@ public class SerializableType extends ByteArrayType {
         return value instanceof Serializable;
     }
 
+    public boolean isTrackDeserializedObjects() {
+        return trackDeserializedObjects;
+    }
+
+    public void setTrackDeserializedObjects(boolean trackDeserializedObjects) {
+        this.trackDeserializedObjects = trackDeserializedObjects;
+    }
+
+    public boolean isTrackDeserializedObjectsByHash() {
+        return trackDeserializedObjectsByHash;
+    }
+
+    public void setTrackDeserializedObjectsByHash(boolean trackDeserializedObjectsByHash) {
+        this.trackDeserializedObjectsByHash = trackDeserializedObjectsByHash;
+    }
+
+    public DeserializedObjectStatistics getStatistics() {
+        return statistics;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
@@ -132,4 +258,18 @@ public class SerializableType extends ByteArrayType {
     protected ObjectOutputStream createObjectOutputStream(OutputStream os) throws IOException {
         return new ObjectOutputStream(os);
     }
+
+    /**
+     * Discards all bytes, used when only the digest of the serialized bytes is needed.
+     */
+    protected static class NullOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
 }
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Joram Barrez
  */
-public class ShortType implements VariableType {
+public class ShortType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class ShortType implements VariableType {
         }
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -15,7 +15,7 @@ package org.flowable.variable.service.impl.types;
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements VariableType, ClassBasedVariableType {
 
     private final int maxLength;
 
@@ -39,6 +39,10 @@ public class StringType implements VariableType {
         valueFields.setTextValue((String) value);
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return valueClass != String.class;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
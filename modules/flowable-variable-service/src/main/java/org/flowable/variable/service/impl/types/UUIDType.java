@@ -17,7 +17,7 @@ import java.util.UUID;
 /**
  * @author Birger Zimmermann
  */
-public class UUIDType implements VariableType {
+public class UUIDType implements VariableType, ClassBasedVariableType {
 
     private static final long serialVersionUID = 1L;
 
@@ -44,6 +44,10 @@ public class UUIDType implements VariableType {
         }
     }
 
+    public boolean isClassBased(Class<?> valueClass) {
+        return true;
+    }
+
     public boolean isAbleToStore(Object value) {
         if (value == null) {
             return true;
@@ -36,7 +36,9 @@ public class VerifyDeserializedObjectCommandContextCloseListener implements Comm
     }
 
     public void closing(CommandContext commandContext) {
-        deserializedObject.verifyIfBytesOfSerializedObjectChanged();
+        long startTime = System.nanoTime();
+        boolean changed = deserializedObject.verifyIfBytesOfSerializedObjectChanged();
+        deserializedObject.getType().getStatistics().recordVerification(System.nanoTime() - startTime, changed);
     }
 
     public void closed(CommandContext commandContext) {